@@ -0,0 +1,104 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.command.Command;
+import edu.ntnu.idi.bidata.util.command.ValidCommand;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import edu.ntnu.idi.bidata.util.input.CommandInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks finding the storages holding enough for a recipe, and the {@code list available}
+ * command, which does so for every recipe in the cookbook and prints the result.
+ * The inventory and cookbook are those of a generated household, whose recipes measure
+ * six ingredients each, most of them common staples.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBenchmark {
+  private static final long SEED = 20261016L;
+  private static final int INGREDIENTS_PER_RECIPE = 6;
+  private static final double OVERLAP = 0.8;
+
+  @Param({"4", "32"})
+  private int storages;
+
+  @Param({"1000", "8000"})
+  private int lotsPerStorage;
+
+  @Param({"100", "1000"})
+  private int cookbookSize;
+
+  private InventoryManager inventoryManager;
+  private List<List<Measurement>> recipes;
+  private User user;
+  private DiscardingSink sink;
+  private int next;
+
+  /**
+   * Sets up a user running {@code list available} with its output discarded,
+   * and generates the household into its inventory and cookbook.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    sink = new DiscardingSink();
+    OutputHandler outputHandler = new OutputHandler(sink);
+    CookBook cookBook = new CookBook();
+    user = new User(InputScanner.nonInteractive(outputHandler), outputHandler, new Inventory(),
+        cookBook);
+    user.setCommandInput(new CommandInput(ValidCommand.LIST, "available", null));
+    inventoryManager = user.getInventoryManager();
+    new HouseholdGenerator(new HouseholdProfile(SEED, storages, lotsPerStorage, cookbookSize,
+        INGREDIENTS_PER_RECIPE, OVERLAP)).generateInto(inventoryManager, cookBook);
+    recipes = cookBook.getAllRecipe().stream().map(Recipe::getAllMeasurement).toList();
+  }
+
+  /**
+   * Finds the storages holding enough for the next recipe of the cookbook.
+   *
+   * @return the names of the storages
+   */
+  @Benchmark
+  public List<String> findSufficientStorages() {
+    return inventoryManager.findSufficientStorages(recipes.get(next++ % recipes.size()));
+  }
+
+  /**
+   * Runs the {@code list available} command over the whole cookbook.
+   *
+   * @return the number of characters printed so far
+   */
+  @Benchmark
+  public long listAvailable() {
+    Command.of(user, null).execute();
+    return sink.getWritten();
+  }
+}
@@ -0,0 +1,115 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.user.inventory.BatchAvailabilityEvaluator;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cold evaluation of a whole catalog of recipes against the inventory,
+ * once recipe by recipe and once by the batch evaluator on a pool of the given number
+ * of threads, to show how the batch evaluation scales with the cores.
+ * The inventory and the recipes are those of a generated household. Only the requirements
+ * of the recipes are kept once generated, so the catalog may be large,
+ * e.g. {@code -p recipes=1000000}.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchAvailabilityBenchmark {
+  private static final long SEED = 20261016L;
+  private static final int INGREDIENTS_PER_RECIPE = 6;
+  private static final double OVERLAP = 0.8;
+
+  @Param({"32"})
+  private int storages;
+
+  @Param({"1000"})
+  private int lotsPerStorage;
+
+  @Param({"100000"})
+  private int recipes;
+
+  @Param({"1", "4"})
+  private int parallelism;
+
+  private Inventory inventory;
+  private List<List<Measurement>> requirements;
+  private ForkJoinPool pool;
+  private BatchAvailabilityEvaluator evaluator;
+
+  /**
+   * Generates the household, keeps the requirements of its recipes as the catalog,
+   * and starts a pool of the given number of threads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    inventory = new Inventory();
+    CookBook cookBook = new CookBook();
+    new HouseholdGenerator(new HouseholdProfile(SEED, storages, lotsPerStorage, recipes,
+        INGREDIENTS_PER_RECIPE, OVERLAP))
+        .generateInto(new InventoryManager(inventory, null, null), cookBook);
+    requirements = cookBook.getAllRecipe().stream().map(Recipe::getAllMeasurement).toList();
+    pool = new ForkJoinPool(parallelism);
+    evaluator = new BatchAvailabilityEvaluator(pool);
+  }
+
+  /**
+   * Stops the pool.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.close();
+  }
+
+  /**
+   * Evaluates the catalog in parallel with bitset prefiltering.
+   *
+   * @return the storages holding enough for each recipe
+   */
+  @Benchmark
+  public List<List<String>> evaluateBatch() {
+    return evaluator.evaluate(requirements, inventory.getStorages());
+  }
+
+  /**
+   * Evaluates the catalog recipe by recipe on one thread, for comparison.
+   *
+   * @return the storages holding enough for each recipe
+   */
+  @Benchmark
+  public List<List<String>> evaluateEachRecipe() {
+    List<List<String>> results = new ArrayList<>(requirements.size());
+    for (List<Measurement> measurements : requirements) {
+      results.add(inventory.findSufficientStorages(measurements));
+    }
+    return results;
+  }
+}
@@ -0,0 +1,91 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.util.command.CommandRegistry;
+import edu.ntnu.idi.bidata.util.input.CommandInput;
+import edu.ntnu.idi.bidata.util.input.CommandLexer;
+import edu.ntnu.idi.bidata.util.input.UnitInput;
+import edu.ntnu.idi.bidata.util.unit.UnitRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading command and unit lines with the CommandLexer, against the
+ * regular-expression split it replaced. Each call reads the next line of a fixed mix.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandLexerBenchmark {
+  private static final String[] COMMAND_LINES = {
+      "go to Cold Room", "list all", "add ingredient Milk, 1.5, l, 20, 4",
+      "remove ingredient Item 3, 2", "find recipe cookie dough", "list value", "go back",
+      "LIST Storage", "stats"
+  };
+  private static final String[] UNIT_LINES = {"1.5 kg", "300 g", "0.25 l", "12.5 dl", "750 ml"};
+
+  private final CommandLexer lexer = new CommandLexer();
+  private int next;
+
+  /**
+   * Reads a command line with the lexer.
+   *
+   * @return the command read
+   */
+  @Benchmark
+  public CommandInput lexCommand() {
+    return lexer.lexCommand(COMMAND_LINES[next++ % COMMAND_LINES.length]);
+  }
+
+  /**
+   * Reads a command line the way it was read before the lexer: a regular-expression split
+   * and lowercase copies of the command and subcommand.
+   *
+   * @return the command read
+   */
+  @Benchmark
+  public CommandInput splitCommand() {
+    String[] tokens = COMMAND_LINES[next++ % COMMAND_LINES.length].strip().split("\\s+", 3);
+    String command = (tokens.length > 0) ? tokens[0].toLowerCase() : null;
+    String subcommand = (tokens.length > 1) ? tokens[1].toLowerCase() : null;
+    String argument = (tokens.length > 2) ? tokens[2] : null;
+    return new CommandInput(CommandRegistry.findCommand(command), subcommand, argument);
+  }
+
+  /**
+   * Reads an amount with a unit with the lexer.
+   *
+   * @return the amount and unit read
+   */
+  @Benchmark
+  public UnitInput lexUnit() {
+    return lexer.lexUnit(UNIT_LINES[next++ % UNIT_LINES.length]);
+  }
+
+  /**
+   * Reads an amount with a unit the way it was read before the lexer:
+   * a regular-expression split and {@link Float#parseFloat(String)}.
+   *
+   * @return the amount and unit read
+   */
+  @Benchmark
+  public UnitInput splitUnit() {
+    String[] tokens = UNIT_LINES[next++ % UNIT_LINES.length].strip().split("\\s+", 3);
+    return new UnitInput(Float.parseFloat(tokens[0]),
+        UnitRegistry.findUnit(tokens[1].toLowerCase()));
+  }
+}
@@ -0,0 +1,80 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks searching the cookbook for recipes by name.
+ * A search for the start of a word is answered by the prefix index alone,
+ * while a search for the name anywhere in a word scans every recipe name.
+ * The recipes are those of a generated household, named like {@code Crispy Tomatoes Soup}.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookBookBenchmark {
+  private static final long SEED = 20261016L;
+  private static final String[] WORD_STARTS = {"tomato", "crispy ch", "lentil", "smo", "pancake"};
+  private static final String[] WORD_MIDDLES = {"mato", "ispy", "ntil", "oked", "ncake"};
+
+  @Param({"1000", "100000"})
+  private int cookbookSize;
+
+  private CookBook cookBook;
+  private int next;
+
+  /**
+   * Fills a cookbook with generated recipes of eight ingredients each.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    cookBook = new CookBook();
+    new HouseholdGenerator(HouseholdProfile.of(SEED, 1, 0, cookbookSize))
+        .generateInto(new InventoryManager(new Inventory(), null, null), cookBook);
+  }
+
+  /**
+   * Searches for recipes with a word starting with the search text.
+   *
+   * @return the recipes found
+   */
+  @Benchmark
+  public List<Recipe> findByWordStart() {
+    return cookBook.findRecipesByPrefix(WORD_STARTS[next++ % WORD_STARTS.length]);
+  }
+
+  /**
+   * Searches for recipes with the search text anywhere in the name, inside a word.
+   *
+   * @return the recipes found
+   */
+  @Benchmark
+  public List<Recipe> findByWordMiddle() {
+    return cookBook.findRecipesContainingName(WORD_MIDDLES[next++ % WORD_MIDDLES.length]);
+  }
+}
@@ -0,0 +1,46 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.util.OutputSink;
+
+/**
+ * An output sink counting the characters written to it instead of keeping them,
+ * so benchmarks of commands measure the command rather than the console.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class DiscardingSink implements OutputSink {
+  private long written;
+
+  @Override
+  public OutputSink append(CharSequence text) {
+    written += text.length();
+    return this;
+  }
+
+  @Override
+  public OutputSink append(CharSequence text, int start, int end) {
+    written += end - start;
+    return this;
+  }
+
+  @Override
+  public OutputSink append(char c) {
+    written++;
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    // nothing is kept
+  }
+
+  /**
+   * Retrieves the number of characters written to the sink.
+   *
+   * @return the number of characters written
+   */
+  long getWritten() {
+    return written;
+  }
+}
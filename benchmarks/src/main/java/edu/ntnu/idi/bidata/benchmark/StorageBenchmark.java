@@ -0,0 +1,115 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding lots to a storage and checking whether it holds enough for a recipe.
+ * The storage is the first storage of a generated household, so every change also updates
+ * the indexes of its inventory.
+ * A new lot is removed again right after it is added, so the storage keeps its size;
+ * a merged lot only grows an existing lot.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+  private static final int CYCLE = 1024; // lots and measurements cycled through, a power of two
+  private static final long SEED = 20261016L;
+
+  @Param({"1000", "100000"})
+  private int lotsPerStorage;
+
+  private IngredientStorage storage;
+  private Ingredient[] newLots;
+  private Ingredient[] mergedLots;
+  private List<List<Measurement>> recipes;
+  private int next;
+
+  /**
+   * Generates a household of one storage, and prepares the lots and the recipe measurements
+   * cycled through by the benchmarks from its lots and recipes.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Inventory inventory = new Inventory();
+    CookBook cookBook = new CookBook();
+    new HouseholdGenerator(HouseholdProfile.of(SEED, 1, lotsPerStorage, CYCLE))
+        .generateInto(new InventoryManager(inventory, null, null), cookBook);
+    storage = inventory.getStorage(HouseholdGenerator.getStorageName(0));
+    recipes = cookBook.getAllRecipe().stream().map(Recipe::getAllMeasurement).toList();
+
+    List<Ingredient> lots = storage.getAllIngredients();
+    int laterDay = 1 + lots.stream().mapToInt(Ingredient::getExpiryEpochDay).max().orElse(0);
+    newLots = new Ingredient[CYCLE];
+    mergedLots = new Ingredient[CYCLE];
+    for (int i = 0; i < CYCLE; i++) {
+      Ingredient lot = lots.get(i % lots.size());
+      newLots[i] = Ingredient.restore(lot.getName(), lot.getBaseAmount(), lot.getUnit(),
+          lot.getValue(), laterDay + i); // a day no other lot expires
+      mergedLots[i] = Ingredient.restore(lot.getName(), lot.getBaseAmount(), lot.getUnit(),
+          lot.getValue(), lot.getExpiryEpochDay());
+    }
+  }
+
+  /**
+   * Adds a lot of an ingredient the storage holds, expiring on a day no other lot does,
+   * and removes it again.
+   *
+   * @return whether the lot was removed
+   */
+  @Benchmark
+  public boolean addNewLot() {
+    Ingredient lot = newLots[next++ & (CYCLE - 1)];
+    storage.addIngredient(lot);
+    return storage.removeIngredient(lot);
+  }
+
+  /**
+   * Adds a lot that is merged into an existing lot of the same ingredient and expiry date.
+   *
+   * @return the storage
+   */
+  @Benchmark
+  public IngredientStorage mergeLot() {
+    storage.addIngredient(mergedLots[next++ & (CYCLE - 1)]);
+    return storage;
+  }
+
+  /**
+   * Checks whether the storage holds enough of every ingredient of a recipe.
+   *
+   * @return whether the storage holds enough
+   */
+  @Benchmark
+  public boolean isIngredientEnough() {
+    return storage.isIngredientEnough(recipes.get(next++ & (CYCLE - 1)));
+  }
+}
@@ -0,0 +1,107 @@
+package edu.ntnu.idi.bidata.benchmark;
+
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.util.unit.UnitConverter;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting measurements between units.
+ * Each measurement is converted back and forth between two units of its kind,
+ * so every call changes the unit. Converting to the standard unit is measured on a new
+ * measurement each time, and {@link #createMeasurement()} measures creating it alone.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@org.openjdk.jmh.annotations.Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConversionBenchmark {
+  private static final int CYCLE = 1024; // measurements cycled through, a power of two
+  private static final ValidUnit[] UNITS = {
+      ValidUnit.G, ValidUnit.KG, ValidUnit.ML, ValidUnit.DL, ValidUnit.L
+  };
+  private static final ValidUnit[][] TARGETS = { // the units each unit is converted between
+      {ValidUnit.G, ValidUnit.KG}, {ValidUnit.KG, ValidUnit.G}, {ValidUnit.ML, ValidUnit.L},
+      {ValidUnit.DL, ValidUnit.ML}, {ValidUnit.L, ValidUnit.DL}
+  };
+
+  private Measurement[] measurements;
+  private ValidUnit[][] targets;
+  private long[] baseAmounts;
+  private ValidUnit[] units;
+  private int next;
+
+  /**
+   * Creates measurements in every unit, with amounts between 0 and 5 kilograms or liters.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(20261016L);
+    measurements = new Measurement[CYCLE];
+    targets = new ValidUnit[CYCLE][];
+    baseAmounts = new long[CYCLE];
+    units = new ValidUnit[CYCLE];
+    for (int i = 0; i < CYCLE; i++) {
+      int unit = random.nextInt(UNITS.length);
+      units[i] = UNITS[unit];
+      targets[i] = TARGETS[unit];
+      baseAmounts[i] = random.nextInt(5_000_000);
+      measurements[i] = Measurement.ofBase("Flour", baseAmounts[i], units[i]);
+    }
+  }
+
+  /**
+   * Converts a measurement to the other unit it is converted between.
+   *
+   * @return the converted measurement
+   */
+  @Benchmark
+  public Measurement autoMergeUnit() {
+    int index = next & (CYCLE - 1);
+    ValidUnit target = targets[index][(next >>> 10) & 1]; // alternates every pass of the cycle
+    next++;
+    Measurement measurement = measurements[index];
+    UnitConverter.autoMergeUnit(measurement, target);
+    return measurement;
+  }
+
+  /**
+   * Creates a measurement and converts it to kilograms or liters.
+   *
+   * @return the converted measurement
+   */
+  @Benchmark
+  public Measurement convertToStandard() {
+    Measurement measurement = createMeasurement();
+    UnitConverter.convertToStandard(measurement);
+    return measurement;
+  }
+
+  /**
+   * Creates a measurement without converting it, the baseline of {@link #convertToStandard()}.
+   *
+   * @return the measurement
+   */
+  @Benchmark
+  public Measurement createMeasurement() {
+    int index = next++ & (CYCLE - 1);
+    return Measurement.ofBase("Flour", baseAmounts[index], units[index]);
+  }
+}
@@ -1,6 +1,15 @@
 package edu.ntnu.idi.bidata;
 
 import edu.ntnu.idi.bidata.util.Application;
+import edu.ntnu.idi.bidata.util.ApplicationServer;
+import edu.ntnu.idi.bidata.util.BatchReport;
+import edu.ntnu.idi.bidata.util.BatchRunner;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 
 /**
  * The Launcher class serves as the entry point for the meal planning application.
@@ -16,10 +25,127 @@ public class Launcher {
 
   /**
    * The main entry point of the application. Instantiates and runs the Application.
+   * With the argument {@code --data <directory>} the data is saved in the given directory
+   * and restored on the next launch.
+   * With the argument {@code --serve <port>} the application is served to local terminals
+   * connecting to the given port, instead of running on the console.
+   * With the argument {@code --batch <script>} the commands in the given script are run
+   * without prompts, and the process exits with status 1 if a command fails.
+   * With the argument {@code --generate <directory>} synthetic data is generated into a new
+   * data directory, sized by {@code --storages}, {@code --lots} (per storage), {@code --recipes}
+   * and {@code --seed}, for the application to be started on with {@code --data}.
    */
   public static void main(String[] args) {
-    Application app = new Application();
-    app.run();
+    Path dataDirectory = null;
+    Path script = null;
+    Path generateDirectory = null;
+    int port = -1;
+    int storages = 8;
+    int lots = 10_000;
+    int recipes = 10_000;
+    long seed = 1;
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("--data") && i + 1 < args.length) {
+        dataDirectory = Path.of(args[++i]);
+      } else if (args[i].equals("--serve") && i + 1 < args.length) {
+        port = Integer.parseInt(args[++i]);
+      } else if (args[i].equals("--batch") && i + 1 < args.length) {
+        script = Path.of(args[++i]);
+      } else if (args[i].equals("--generate") && i + 1 < args.length) {
+        generateDirectory = Path.of(args[++i]);
+      } else if (args[i].equals("--storages") && i + 1 < args.length) {
+        storages = Integer.parseInt(args[++i]);
+      } else if (args[i].equals("--lots") && i + 1 < args.length) {
+        lots = Integer.parseInt(args[++i]);
+      } else if (args[i].equals("--recipes") && i + 1 < args.length) {
+        recipes = Integer.parseInt(args[++i]);
+      } else if (args[i].equals("--seed") && i + 1 < args.length) {
+        seed = Long.parseLong(args[++i]);
+      }
+    }
+    if (generateDirectory != null) {
+      generate(generateDirectory, HouseholdProfile.of(seed, storages, lots, recipes));
+      return;
+    }
+    Application app = (dataDirectory == null) ? new Application() : new Application(dataDirectory);
+    if (script != null) {
+      runBatch(app, script);
+    } else if (port < 0) {
+      app.run();
+    } else {
+      serve(app, port);
+    }
+  }
+
+  /**
+   * Runs the given script and reports the outcome on the error stream,
+   * exiting with status 1 if a command failed.
+   *
+   * @param app    the application to run the script on
+   * @param script the file holding the script
+   */
+  private static void runBatch(Application app, Path script) {
+    BatchReport report;
+    try {
+      app.prepareData();
+      report = new BatchRunner(app).runFile(script, System.out);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not run the script " + script, e);
+    } finally {
+      app.closeData();
+    }
+    System.err.println(report);
+    if (!report.isSuccessful()) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Generates synthetic data into a new data directory and reports the outcome
+   * on the error stream.
+   *
+   * @param directory the data directory to create
+   * @param profile   the size and shape of the data
+   */
+  private static void generate(Path directory, HouseholdProfile profile) {
+    try {
+      System.err.println(new HouseholdGenerator(profile).generateSnapshot(directory));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not generate data into " + directory, e);
+    }
+  }
+
+  /**
+   * Serves the application on the given port until the process is stopped,
+   * saving the data on the way out. The server is closed by a shutdown hook, or when serving
+   * fails; closing it twice has no effect.
+   *
+   * @param app  the application to serve
+   * @param port the port to listen on
+   */
+  private static void serve(Application app, int port) {
+    ApplicationServer server;
+    try {
+      server = new ApplicationServer(app, port);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not serve on port " + port, e);
+    }
+    Thread closer = new Thread(() -> {
+      try {
+        server.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    Runtime.getRuntime().addShutdownHook(closer);
+    try {
+      System.out.println("Serving on port " + server.getPort() + ", stop with Ctrl+C.");
+      server.serve();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not serve on port " + port, e);
+    } finally {
+      closer.run();
+    }
   }
 
 }
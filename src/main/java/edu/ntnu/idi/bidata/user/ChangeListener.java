@@ -0,0 +1,82 @@
+package edu.ntnu.idi.bidata.user;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+
+/**
+ * Receives notifications about every change to the data of a user,
+ * i.e. the storages and their lots, the recipes and the wasted value.
+ * Together the notifications describe all mutations, so replaying them in order
+ * rebuilds the same state, which is what the persistence layer relies on.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public interface ChangeListener {
+
+  /**
+   * Called when a storage is created, replacing any storage with the same name.
+   *
+   * @param storageName the name of the created storage
+   */
+  default void storageCreated(String storageName) {
+    // default implementation
+  }
+
+  /**
+   * Called when a storage is removed.
+   *
+   * @param storageName the name of the removed storage
+   */
+  default void storageRemoved(String storageName) {
+    // default implementation
+  }
+
+  /**
+   * Called when a lot has been added to a storage, either stored as it is
+   * or merged into the existing lot with the same expiry date.
+   *
+   * @param storageName the name of the storage
+   * @param lot         the added lot
+   */
+  default void lotAdded(String storageName, Ingredient lot) {
+    // default implementation
+  }
+
+  /**
+   * Called when a lot is removed from a storage.
+   *
+   * @param storageName the name of the storage
+   * @param lot         the removed lot
+   */
+  default void lotRemoved(String storageName, Ingredient lot) {
+    // default implementation
+  }
+
+  /**
+   * Called when a recipe is added to the cookbook.
+   *
+   * @param recipe the added recipe
+   */
+  default void recipeAdded(Recipe recipe) {
+    // default implementation
+  }
+
+  /**
+   * Called when a recipe is removed from the cookbook.
+   *
+   * @param recipe the removed recipe
+   */
+  default void recipeRemoved(Recipe recipe) {
+    // default implementation
+  }
+
+  /**
+   * Called when wasted value is recorded for the user.
+   *
+   * @param wastedValue the value added to the wasted value total
+   */
+  default void wasteRecorded(float wastedValue) {
+    // default implementation
+  }
+}
@@ -0,0 +1,298 @@
+package edu.ntnu.idi.bidata.user;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientKey;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.Utility;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the storages holding enough ingredients for each recipe of a cookbook,
+ * so the available recipes are read without checking every recipe against every storage.
+ * An inverted index maps each ingredient to the recipes requiring it. When the lots of an
+ * ingredient change in a storage, only the recipes requiring that ingredient are checked
+ * again against that storage; every other result is kept.
+ * The results are computed in full on first use, in parallel by
+ * {@link Inventory#findSufficientStoragesForAll(List)}. After that, changes are only noted
+ * as they happen, and the noted (recipe, storage) pairs are checked on the next read.
+ * This keeps the work out of the locks held while a storage or the cookbook changes,
+ * and checks a pair once however many times it changed in between.
+ * A recipe is available in a storage exactly when
+ * {@link Inventory#findSufficientStorages(List)} would list the storage for it.
+ * The availability may be shared by several sessions, and is safe to use from several threads.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class RecipeAvailability {
+  private static final Comparator<Recipe> BY_NAME = Comparator.comparing(Recipe::getName);
+
+  private final Inventory inventory;
+  private final CookBook cookBook;
+  private final Set<ChangedIngredient> changedIngredients;
+  private final Set<String> changedStorages;
+  private final Set<Recipe> changedRecipes;
+  private final Map<IngredientKey, Set<Recipe>> recipesByIngredient; // guarded by this
+  private final Map<Recipe, List<Measurement>> requirements; // guarded by this
+  private final Map<Recipe, Set<String>> availableAt; // guarded by this
+  private volatile boolean built;
+
+  /**
+   * Constructs the availability of the recipes of the given cookbook in the given inventory,
+   * following every later change of either.
+   *
+   * @param inventory the inventory holding the storages
+   * @param cookBook  the cookbook holding the recipes
+   * @throws IllegalArgumentException if the inventory or cookbook is null
+   */
+  public RecipeAvailability(Inventory inventory, CookBook cookBook) {
+    if (inventory == null || cookBook == null) {
+      throw new IllegalArgumentException("Inventory and cookbook cannot be null.");
+    }
+    this.inventory = inventory;
+    this.cookBook = cookBook;
+    changedIngredients = ConcurrentHashMap.newKeySet();
+    changedStorages = ConcurrentHashMap.newKeySet();
+    changedRecipes = ConcurrentHashMap.newKeySet();
+    recipesByIngredient = new HashMap<>();
+    requirements = new HashMap<>();
+    availableAt = new HashMap<>();
+    ChangeListener changeTracker = new ChangeTracker();
+    inventory.addChangeListener(changeTracker);
+    cookBook.addChangeListener(changeTracker);
+  }
+
+  /**
+   * Retrieves the recipes that can be made in at least one storage.
+   *
+   * @return a map from each available recipe to the names of the storages holding enough
+   *         of its ingredients; the recipes are ordered by name, and the storages by name.
+   */
+  public synchronized Map<Recipe, List<String>> getAvailableRecipes() {
+    refresh();
+    List<Recipe> recipes = new ArrayList<>(availableAt.keySet());
+    recipes.sort(BY_NAME);
+    Map<Recipe, List<String>> availableRecipes = new LinkedHashMap<>();
+    for (Recipe recipe : recipes) {
+      availableRecipes.put(recipe, List.copyOf(availableAt.get(recipe)));
+    }
+    return availableRecipes;
+  }
+
+  /**
+   * Retrieves the storages holding enough ingredients for the given recipe.
+   *
+   * @param recipe a recipe of the cookbook
+   * @return the names of the storages in alphabetical order;
+   *         an empty list if there are none, or the recipe is not in the cookbook.
+   */
+  public synchronized List<String> findSufficientStorages(Recipe recipe) {
+    refresh();
+    Set<String> storageNames = availableAt.get(recipe);
+    return (storageNames == null) ? List.of() : List.copyOf(storageNames);
+  }
+
+  /**
+   * Brings the results up to date: computes all of them on first use,
+   * and afterwards checks again the pairs affected by the changes noted since the last read.
+   * Each change is taken from its set before it is handled, so a change made meanwhile
+   * is noted again and handled on the next read.
+   */
+  private void refresh() {
+    if (!built) {
+      built = true;
+      changedRecipes.clear();
+      changedStorages.clear();
+      changedIngredients.clear();
+      List<Recipe> recipes = cookBook.getAllRecipe();
+      List<List<Measurement>> measurementLists = new ArrayList<>(recipes.size());
+      for (Recipe recipe : recipes) {
+        measurementLists.add(indexRecipe(recipe));
+      }
+      List<List<String>> storageNames = inventory.findSufficientStoragesForAll(measurementLists);
+      for (int i = 0; i < recipes.size(); i++) {
+        if (!storageNames.get(i).isEmpty()) {
+          availableAt.put(recipes.get(i), new TreeSet<>(storageNames.get(i)));
+        }
+      }
+      return;
+    }
+    for (Iterator<Recipe> it = changedRecipes.iterator(); it.hasNext(); ) {
+      Recipe recipe = it.next();
+      it.remove();
+      removeRecipe(recipe);
+      if (cookBook.isRecipePresent(recipe)) {
+        addRecipe(recipe);
+      }
+    }
+    for (Iterator<String> it = changedStorages.iterator(); it.hasNext(); ) {
+      String storageKey = it.next();
+      it.remove();
+      refreshStorage(storageKey);
+    }
+    for (Iterator<ChangedIngredient> it = changedIngredients.iterator(); it.hasNext(); ) {
+      ChangedIngredient change = it.next();
+      it.remove();
+      IngredientStorage storage = inventory.getStorage(change.storageKey());
+      Set<Recipe> recipes = recipesByIngredient.get(change.ingredientKey());
+      if (storage != null && recipes != null) {
+        for (Recipe recipe : recipes) {
+          evaluate(recipe, storage);
+        }
+      }
+    }
+  }
+
+  /**
+   * Indexes the ingredients of a recipe and finds the storages holding enough of them.
+   */
+  private void addRecipe(Recipe recipe) {
+    List<Measurement> measurements = indexRecipe(recipe);
+    List<String> storageNames = inventory.findSufficientStorages(measurements);
+    if (!storageNames.isEmpty()) {
+      availableAt.put(recipe, new TreeSet<>(storageNames));
+    }
+  }
+
+  /**
+   * Adds a recipe to the inverted index of the ingredients.
+   *
+   * @return the measurements required by the recipe
+   */
+  private List<Measurement> indexRecipe(Recipe recipe) {
+    List<Measurement> measurements = recipe.getAllMeasurement();
+    requirements.put(recipe, measurements);
+    for (Measurement measurement : measurements) {
+      recipesByIngredient.computeIfAbsent(measurement.getKey(), key -> new HashSet<>())
+          .add(recipe);
+    }
+    return measurements;
+  }
+
+  /**
+   * Removes a recipe from the index and the results, if it is there.
+   */
+  private void removeRecipe(Recipe recipe) {
+    List<Measurement> measurements = requirements.remove(recipe);
+    if (measurements != null) {
+      for (Measurement measurement : measurements) {
+        IngredientKey key = measurement.getKey();
+        Set<Recipe> recipes = recipesByIngredient.get(key);
+        if (recipes != null && recipes.remove(recipe) && recipes.isEmpty()) {
+          recipesByIngredient.remove(key);
+        }
+      }
+      availableAt.remove(recipe);
+    }
+  }
+
+  /**
+   * Drops the results of a storage that was created, replaced or removed,
+   * and checks every recipe against the storage now holding the name, if any.
+   * A new storage is empty, so this mostly finds the recipes requiring no ingredients.
+   */
+  private void refreshStorage(String storageKey) {
+    for (Iterator<Set<String>> it = availableAt.values().iterator(); it.hasNext(); ) {
+      Set<String> storageNames = it.next();
+      storageNames.removeIf(name -> Utility.createKey(name).equals(storageKey));
+      if (storageNames.isEmpty()) {
+        it.remove();
+      }
+    }
+    IngredientStorage storage = inventory.getStorage(storageKey);
+    if (storage != null) {
+      for (Recipe recipe : requirements.keySet()) {
+        evaluate(recipe, storage);
+      }
+    }
+  }
+
+  /**
+   * Checks one recipe against one storage and records the result.
+   */
+  private void evaluate(Recipe recipe, IngredientStorage storage) {
+    if (storage.isIngredientEnough(requirements.get(recipe))) {
+      availableAt.computeIfAbsent(recipe, key -> new TreeSet<>()).add(storage.getStorageName());
+    } else {
+      Set<String> storageNames = availableAt.get(recipe);
+      if (storageNames != null && storageNames.remove(storage.getStorageName())
+          && storageNames.isEmpty()) {
+        availableAt.remove(recipe);
+      }
+    }
+  }
+
+  /**
+   * An ingredient whose lots changed in a storage.
+   *
+   * @param storageKey    the key of the storage name
+   * @param ingredientKey the key of the ingredient
+   */
+  private record ChangedIngredient(String storageKey, IngredientKey ingredientKey) {
+  }
+
+  /**
+   * Notes the changes of the inventory and cookbook, once the results have been computed.
+   * Called while the storage or cookbook is locked, so it only adds to the concurrent sets.
+   */
+  private class ChangeTracker implements ChangeListener {
+    @Override
+    public void storageCreated(String storageName) {
+      if (built) {
+        changedStorages.add(Utility.createKey(storageName));
+      }
+    }
+
+    @Override
+    public void storageRemoved(String storageName) {
+      if (built) {
+        changedStorages.add(Utility.createKey(storageName));
+      }
+    }
+
+    @Override
+    public void lotAdded(String storageName, Ingredient lot) {
+      if (built) {
+        changedIngredients.add(new ChangedIngredient(Utility.createKey(storageName),
+            lot.getKey()));
+      }
+    }
+
+    @Override
+    public void lotRemoved(String storageName, Ingredient lot) {
+      if (built) {
+        changedIngredients.add(new ChangedIngredient(Utility.createKey(storageName),
+            lot.getKey()));
+      }
+    }
+
+    @Override
+    public void recipeAdded(Recipe recipe) {
+      if (built) {
+        changedRecipes.add(recipe);
+      }
+    }
+
+    @Override
+    public void recipeRemoved(Recipe recipe) {
+      if (built) {
+        changedRecipes.add(recipe);
+      }
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package edu.ntnu.idi.bidata.user;
 
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
 import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
 import edu.ntnu.idi.bidata.user.recipe.RecipeManager;
 import edu.ntnu.idi.bidata.util.InputScanner;
 import edu.ntnu.idi.bidata.util.OutputHandler;
@@ -22,8 +24,8 @@ public class User {
   private final InventoryManager inventoryManager;
   private final RecipeManager recipeManager;
 
+  private RecipeAvailability recipeAvailability; // created on first use unless shared
   private String name;
-  private float wastedValue;
   private CommandInput commandInput;
 
   /**
@@ -39,16 +41,71 @@ public class User {
     inputScanner = new InputScanner(outputHandler);
     inventoryManager = new InventoryManager(inputScanner, outputHandler);
     recipeManager = new RecipeManager(inputScanner, outputHandler);
-    wastedValue = 0;
   }
 
   /**
-   * Adds a specified value to the user's wasted value tracker.
+   * Constructs a User working on the given inventory and cookbook through its own
+   * input and output, e.g. one of several sessions sharing the same kitchen.
+   * The user has its own current storage and command history.
+   *
+   * @param inputScanner  the InputScanner reading the input of the user
+   * @param outputHandler the OutputHandler displaying the output to the user
+   * @param inventory     the inventory to work on, possibly shared with other users
+   * @param cookBook      the cookbook to work on, possibly shared with other users
+   */
+  public User(InputScanner inputScanner, OutputHandler outputHandler,
+              Inventory inventory, CookBook cookBook) {
+    this.outputHandler = outputHandler;
+    this.inputScanner = inputScanner;
+    inventoryManager = new InventoryManager(inventory, inputScanner, outputHandler);
+    recipeManager = new RecipeManager(cookBook, inputScanner, outputHandler);
+  }
+
+  /**
+   * Constructs a User working on the given inventory and cookbook, sharing the given
+   * recipe availability with the other users of the same inventory and cookbook,
+   * so the availability is kept once rather than once per user.
+   *
+   * @param inputScanner       the InputScanner reading the input of the user
+   * @param outputHandler      the OutputHandler displaying the output to the user
+   * @param inventory          the inventory to work on, possibly shared with other users
+   * @param cookBook           the cookbook to work on, possibly shared with other users
+   * @param recipeAvailability the availability of the recipes of the cookbook in the inventory
+   */
+  public User(InputScanner inputScanner, OutputHandler outputHandler,
+              Inventory inventory, CookBook cookBook, RecipeAvailability recipeAvailability) {
+    this(inputScanner, outputHandler, inventory, cookBook);
+    this.recipeAvailability = recipeAvailability;
+  }
+
+  /**
+   * Adds a specified value to the wasted value tracker of the inventory.
    *
    * @param wastedValue the value to be added to the wasted value total.
    */
   public void addWastedValue(float wastedValue) {
-    this.wastedValue += wastedValue;
+    inventoryManager.getInventory().addWastedValue(wastedValue);
+  }
+
+  /**
+   * Adds a listener to be notified about every change to the data of the user,
+   * i.e. the inventory, the cookbook and the wasted value.
+   *
+   * @param listener the listener to be notified
+   */
+  public void addChangeListener(ChangeListener listener) {
+    inventoryManager.addChangeListener(listener);
+    recipeManager.addChangeListener(listener);
+  }
+
+  /**
+   * Removes a listener from the inventory, the cookbook and the wasted value.
+   *
+   * @param listener the listener to be removed
+   */
+  public void removeChangeListener(ChangeListener listener) {
+    inventoryManager.removeChangeListener(listener);
+    recipeManager.removeChangeListener(listener);
   }
 
   /**
@@ -123,7 +180,21 @@ public class User {
     return recipeManager;
   }
 
+  /**
+   * Retrieves the availability of the recipes of the user in the storages of the user,
+   * creating it on first use.
+   *
+   * @return the RecipeAvailability of the inventory and cookbook of the user.
+   */
+  public RecipeAvailability getRecipeAvailability() {
+    if (recipeAvailability == null) {
+      recipeAvailability = new RecipeAvailability(inventoryManager.getInventory(),
+          recipeManager.getCookBook());
+    }
+    return recipeAvailability;
+  }
+
   public float getWastedValue() {
-    return wastedValue;
+    return inventoryManager.getInventory().getWastedValue();
   }
 }
@@ -0,0 +1,168 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Finds the storages holding enough ingredients for many recipes at once, splitting
+ * the recipes across the threads of a {@link ForkJoinPool}.
+ * The ingredients present in the storages are numbered in a dictionary, and the ingredients
+ * of each storage, and those required by each recipe, are kept as bitsets over it.
+ * Only the storages whose bitset covers that of the recipe have their quantities checked,
+ * so most pairs of recipe and storage are ruled out by a few word operations.
+ * For each recipe the result lists the same storages as
+ * {@link Inventory#findSufficientStorages(List)}, in the order the storages were given,
+ * as long as the storages do not change during the evaluation.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class BatchAvailabilityEvaluator {
+  static final int RECIPES_PER_TASK = 1 << 10;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructs an evaluator running on the common pool.
+   */
+  public BatchAvailabilityEvaluator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs an evaluator running on the given pool, e.g. to limit the number of threads.
+   *
+   * @param pool the pool to run on
+   * @throws IllegalArgumentException if the pool is null
+   */
+  public BatchAvailabilityEvaluator(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null.");
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Finds the storages holding enough of the required ingredients of every recipe.
+   *
+   * @param requirements the measurements required by each recipe
+   * @param storages     the storages to check
+   * @return for each recipe in the same position, the names of the storages
+   *         holding enough of every ingredient; an empty list if there are none.
+   */
+  public List<List<String>> evaluate(List<List<Measurement>> requirements,
+                                     Collection<IngredientStorage> storages) {
+    Map<IngredientKey, Integer> dictionary = new HashMap<>();
+    List<IngredientStorage> storageList = List.copyOf(storages);
+    long[][] present = new long[storageList.size()][];
+    for (int i = 0; i < present.length; i++) {
+      BitSet ingredients = new BitSet();
+      storageList.get(i).forEachIngredientList((key, lots) ->
+          ingredients.set(dictionary.computeIfAbsent(key, k -> dictionary.size())));
+      present[i] = ingredients.toLongArray();
+    }
+
+    List<List<String>> results = new ArrayList<>(requirements.size());
+    for (int i = 0; i < requirements.size(); i++) {
+      results.add(null);
+    }
+    EvaluationTask task = new EvaluationTask(new Batch(requirements, storageList, present,
+        dictionary, results), 0, requirements.size());
+    if (requirements.size() <= RECIPES_PER_TASK) {
+      task.compute(); // not worth handing over to the pool
+    } else {
+      pool.invoke(task);
+    }
+    return results;
+  }
+
+  /**
+   * The input and output shared by the tasks of one evaluation. The tasks only read
+   * the input, and each writes the results of its own range of recipes.
+   */
+  private record Batch(List<List<Measurement>> requirements, List<IngredientStorage> storages,
+                       long[][] present, Map<IngredientKey, Integer> dictionary,
+                       List<List<String>> results) {
+
+    /**
+     * Finds the storages holding enough for one recipe. The required ingredients
+     * are kept as the non-zero words of their bitset and the index of each word,
+     * so the cover check visits no more words than the recipe has ingredients.
+     */
+    List<String> evaluate(List<Measurement> measurements) {
+      BitSet required = new BitSet();
+      for (Measurement measurement : measurements) {
+        Integer id = dictionary.get(measurement.getKey());
+        if (id == null) {
+          return List.of(); // no storage holds the ingredient
+        }
+        required.set(id);
+      }
+      long[] words = required.toLongArray();
+      int[] wordIndexes = new int[words.length];
+      int nonZero = 0;
+      for (int i = 0; i < words.length; i++) {
+        if (words[i] != 0) {
+          wordIndexes[nonZero] = i;
+          words[nonZero++] = words[i];
+        }
+      }
+
+      List<String> sufficientStorages = new ArrayList<>();
+      for (int s = 0; s < present.length; s++) {
+        if (covers(present[s], words, wordIndexes, nonZero)
+            && storages.get(s).isIngredientEnough(measurements)) {
+          sufficientStorages.add(storages.get(s).getStorageName());
+        }
+      }
+      return sufficientStorages;
+    }
+
+    private static boolean covers(long[] present, long[] words, int[] wordIndexes, int count) {
+      for (int i = 0; i < count; i++) {
+        int index = wordIndexes[i];
+        if (index >= present.length || (words[i] & ~present[index]) != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Evaluates a range of recipes, splitting it in halves until it is small enough.
+   */
+  private static final class EvaluationTask extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient Batch batch;
+    private final int from;
+    private final int to;
+
+    EvaluationTask(Batch batch, int from, int to) {
+      this.batch = batch;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= RECIPES_PER_TASK) {
+        for (int i = from; i < to; i++) {
+          batch.results().set(i, batch.evaluate(batch.requirements().get(i)));
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new EvaluationTask(batch, from, middle), new EvaluationTask(batch, middle, to));
+      }
+    }
+  }
+}
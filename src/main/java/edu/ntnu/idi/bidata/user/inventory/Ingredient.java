@@ -1,11 +1,13 @@
 package edu.ntnu.idi.bidata.user.inventory;
 
 import edu.ntnu.idi.bidata.user.Printable;
+import edu.ntnu.idi.bidata.util.ClockService;
+import edu.ntnu.idi.bidata.util.ReportWriter;
 import edu.ntnu.idi.bidata.util.Utility;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
+import java.io.IOException;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.Random;
 
@@ -20,7 +22,7 @@ public class Ingredient implements Printable {
 
   private final Measurement measurement;
 
-  private LocalDate expiryDate;
+  private int expiryDay; // days since 1970-01-01
   private float value;
 
   /**
@@ -35,8 +37,8 @@ public class Ingredient implements Printable {
   public Ingredient(String name, float amount, ValidUnit unit, float value, int daysTilExpiry) {
     measurement = new Measurement();
     setName(name);
-    setAmount(amount);
     setUnit(unit);
+    setAmount(amount);
     setValue(value);
     setExpiryDate(daysTilExpiry);
   }
@@ -52,6 +54,40 @@ public class Ingredient implements Printable {
     createExpiredIngredient();
   }
 
+  /**
+   * Constructs an empty Ingredient, to be filled in by {@link #restore}.
+   */
+  private Ingredient() {
+    measurement = new Measurement();
+  }
+
+  /**
+   * Recreates a lot exactly as it was stored, e.g. when loading persisted data.
+   * Unlike the public constructor, the expiry date may be in the past
+   * and the value of a merged lot may exceed the limit for a single unit price.
+   *
+   * @param name           the name of the ingredient
+   * @param baseAmount     the amount in milligrams for solids, or microliters for liquids
+   * @param unit           the unit of measurement for the ingredient
+   * @param value          the value of the lot
+   * @param expiryEpochDay the expiry date as a number of days since 1970-01-01
+   * @return the recreated Ingredient
+   * @throws IllegalArgumentException if the name, amount, unit or value is invalid
+   */
+  public static Ingredient restore(String name, long baseAmount, ValidUnit unit, float value,
+                                   int expiryEpochDay) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Price cannot be negative");
+    }
+    Ingredient ingredient = new Ingredient();
+    ingredient.setName(name);
+    ingredient.setUnit(unit);
+    ingredient.measurement.setBaseAmount(baseAmount);
+    ingredient.value = value;
+    ingredient.expiryDay = expiryEpochDay;
+    return ingredient;
+  }
+
   /**
    * Returns a string representation of the ingredient.
    *
@@ -59,7 +95,30 @@ public class Ingredient implements Printable {
    */
   @Override
   public String toString() {
-    return isExpired() ? getExpiredString() : getString();
+    ReportWriter line = this::writeTo;
+    return line.writeToString();
+  }
+
+  /**
+   * Writes the same representation as {@link #toString()} to the given output,
+   * piece by piece, without building the complete line first.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeTo(Appendable out) throws IOException {
+    int daysUntilExpiry = getDaysUntilExpiry();
+    boolean expired = isExpired();
+    out.append(expired ? "  * " : "  - ").append(getName())
+        .append(": ").append(String.valueOf(getAmount()))
+        .append(' ').append(getUnit().name())
+        .append(" - Best before: ").append(getExpiryDate().toString());
+    if (expired) {
+      out.append(" (Expired ").append(String.valueOf(-daysUntilExpiry)).append(" days ago)");
+    } else {
+      out.append(" (in ").append(String.valueOf(daysUntilExpiry)).append(" days)");
+    }
+    out.append(" Value: ").append(String.valueOf(getValue())).append(" kr");
   }
 
   // IntelliJ Generated
@@ -70,14 +129,14 @@ public class Ingredient implements Printable {
     }
     return Float.compare(value, that.value) == 0
         && Objects.equals(measurement, that.measurement)
-        && Objects.equals(expiryDate, that.expiryDate);
+        && expiryDay == that.expiryDay;
   }
 
   // IntelliJ Generated
   @Override
   public int hashCode() {
     int result = Objects.hashCode(measurement);
-    result = 31 * result + Objects.hashCode(expiryDate);
+    result = 31 * result + Integer.hashCode(expiryDay);
     result = 31 * result + Float.hashCode(value);
     return result;
   }
@@ -91,6 +150,22 @@ public class Ingredient implements Printable {
     return measurement.getName();
   }
 
+  /**
+   * Retrieves the key of the ingredient name, canonical once a lot of it is stored.
+   *
+   * @return the IngredientKey of the name.
+   */
+  public IngredientKey getKey() {
+    return measurement.getKey();
+  }
+
+  /**
+   * Replaces the ingredient key with its canonical instance, as the lot is stored.
+   */
+  void internKey() {
+    measurement.internKey();
+  }
+
   /**
    * Sets the name of the measurement.
    * The name must not be null or empty.
@@ -107,12 +182,15 @@ public class Ingredient implements Printable {
 
   /**
    * Merges the specified ingredient with the current one.
+   * The units are checked before anything is changed, so a rejected merge leaves it as it was.
    *
    * @param ingredientToMerge the ingredient to merge into the current ingredient
+   * @throws IllegalArgumentException if the units of the two ingredients are of different kinds
    */
   public void merge(Ingredient ingredientToMerge) {
     if (isValidToMerge(ingredientToMerge)) {
       Measurement measurementToMerge = ingredientToMerge.getMeasurement();
+      this.measurement.assertSameKind(measurementToMerge);
       this.value += ingredientToMerge.getValue();
       this.measurement.merge(measurementToMerge);
     }
@@ -122,6 +200,15 @@ public class Ingredient implements Printable {
     return value;
   }
 
+  /**
+   * Retrieves the value of the ingredient in whole cents.
+   *
+   * @return the value of the ingredient in cents
+   */
+  public long getValueCents() {
+    return Math.round(value * 100.0);
+  }
+
   /**
    * Sets the unit price of the ingredient.
    *
@@ -144,38 +231,25 @@ public class Ingredient implements Printable {
    * @return true if the current date is after the expiry date, false otherwise
    */
   private boolean isExpired() {
-    return LocalDate.now().isAfter(expiryDate);
-  }
-
-  private String getString() {
-    int dayTilExpiry = getDaysBetween(this.getExpiryDate());
-    return "  - " + getName() + ": " + getAmount()
-        + " " + getUnit()
-        + " - Best before: " + expiryDate
-        + " (in " + dayTilExpiry + " days) Value: " + getValue() + " kr";
+    return ClockService.todayEpochDay() > expiryDay;
   }
 
   /**
-   * Generates a string detailing the ingredient's name, amount, unit, expiry date,
-   * and how many days it has been expired.
+   * Retrieves the expiry date of the ingredient.
    *
-   * @return a formatted string describing the expired ingredient
+   * @return the LocalDate representing the expiry date.
    */
-  private String getExpiredString() {
-    int daysExpired = Math.abs(getDaysBetween(this.getExpiryDate()));
-    return "  * " + getName() + ": " + getAmount() + " "
-        + getUnit() + " - Best before: " + expiryDate
-        + " (Expired " + daysExpired + " days ago) Value: " + getValue() + " kr";
+  public LocalDate getExpiryDate() {
+    return LocalDate.ofEpochDay(expiryDay);
   }
 
   /**
-   * Retrieves the expiry date of the ingredient.
-   * If the expiry date is not set, returns a default date 999 days in the past.
+   * Retrieves the expiry date of the ingredient as a number of days since 1970-01-01.
    *
-   * @return the LocalDate representing the expiry date.
+   * @return the epoch day of the expiry date.
    */
-  public LocalDate getExpiryDate() {
-    return (expiryDate != null) ? expiryDate : LocalDate.now().minusDays(999);
+  public int getExpiryEpochDay() {
+    return expiryDay;
   }
 
   /**
@@ -188,7 +262,7 @@ public class Ingredient implements Printable {
     if (daysToExpiry < 0) {
       throw new IllegalArgumentException("Days to expiry cannot be negative");
     }
-    this.expiryDate = LocalDate.now().plusDays(daysToExpiry);
+    this.expiryDay = ClockService.todayEpochDay() + daysToExpiry;
   }
 
   public Measurement getMeasurement() {
@@ -213,6 +287,15 @@ public class Ingredient implements Printable {
     measurement.setAmount(amount);
   }
 
+  /**
+   * Retrieves the exact amount of the ingredient in base units.
+   *
+   * @return the amount in milligrams for solids, or microliters for liquids
+   */
+  public long getBaseAmount() {
+    return measurement.getBaseAmount();
+  }
+
   /**
    * Retrieves the measurement amount associated with the ingredient.
    *
@@ -251,14 +334,12 @@ public class Ingredient implements Printable {
   }
 
   /**
-   * Calculate the number of days between the current date and a specified future date.
+   * Calculate the number of days between the current date and the expiry date.
    *
-   * @param untilDate the future date until which the number of days is to be calculated
-   * @return the number of days between the current date and the specified future date
-   * @throws IllegalArgumentException if the untilDate is null
+   * @return the number of days until the expiry date, negative if it has passed
    */
-  private int getDaysBetween(LocalDate untilDate) {
-    return (int) ChronoUnit.DAYS.between(LocalDate.now(), untilDate);
+  private int getDaysUntilExpiry() {
+    return expiryDay - ClockService.todayEpochDay();
   }
 
   /**
@@ -289,11 +370,11 @@ public class Ingredient implements Printable {
     ValidUnit validUnit = (name.equals("Expired Milk")) ? ValidUnit.L : ValidUnit.KG;
 
     setName(name);
-    setAmount(amount);
     setUnit(validUnit);
+    setAmount(amount);
     setValue(random.nextFloat(50f, 144f));
     // setters do not allow the expiry date to be date before today.
-    expiryDate = LocalDate.now().minusDays(random.nextInt(4, 17));
+    expiryDay = ClockService.todayEpochDay() - random.nextInt(4, 17);
   }
 
   /**
@@ -320,12 +401,13 @@ public class Ingredient implements Printable {
 
   /**
    * Checks if the name of the current ingredient matches the name of the specified ingredient.
+   * Names are compared by their canonical keys, so differences in case are ignored.
    *
    * @param ingredientToMerge the ingredient to compare with the current ingredient
    * @return true if both ingredients have the same name, false otherwise
    */
   private boolean hasSameName(Ingredient ingredientToMerge) {
-    return this.getName().equals(ingredientToMerge.getName());
+    return this.getKey().equals(ingredientToMerge.getKey());
   }
 
   /**
@@ -336,7 +418,7 @@ public class Ingredient implements Printable {
    * @return true if both ingredients have the same expiry date, false otherwise
    */
   private boolean hasSameExpiryDate(Ingredient ingredientToMerge) {
-    return this.expiryDate.isEqual(ingredientToMerge.expiryDate);
+    return this.expiryDay == ingredientToMerge.expiryDay;
   }
 
 }
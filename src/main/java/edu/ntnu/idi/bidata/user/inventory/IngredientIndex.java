@@ -0,0 +1,78 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An inventory wide index mapping each normalized ingredient key to the storages
+ * holding the ingredient and their lots. The index is kept up to date by listening
+ * to the storages it is registered with. Storages may change concurrently,
+ * so the index is built from concurrent maps that are updated atomically per key.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class IngredientIndex implements StorageListener {
+
+  private final Map<IngredientKey, Map<IngredientStorage, List<Ingredient>>> index;
+
+  /**
+   * Initializes a new, empty IngredientIndex.
+   */
+  public IngredientIndex() {
+    index = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void ingredientAdded(IngredientStorage storage, IngredientKey key, List<Ingredient> lots) {
+    index.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(storage, lots);
+  }
+
+  @Override
+  public void ingredientRemoved(IngredientStorage storage, IngredientKey key) {
+    index.computeIfPresent(key, (k, holders) -> {
+      holders.remove(storage);
+      return holders.isEmpty() ? null : holders;
+    });
+  }
+
+  /**
+   * Registers the given storage with the index, indexing its current content
+   * and listening to all further changes.
+   *
+   * @param storage the storage to be indexed
+   */
+  public void register(IngredientStorage storage) {
+    storage.runLocked(() -> {
+      storage.addListener(this);
+      storage.forEachIngredientList((key, lots) -> ingredientAdded(storage, key, lots));
+    });
+  }
+
+  /**
+   * Removes the given storage from the index and stops listening to it.
+   *
+   * @param storage the storage to be removed from the index
+   */
+  public void unregister(IngredientStorage storage) {
+    storage.runLocked(() -> {
+      storage.removeListener(this);
+      storage.forEachIngredientList((key, lots) -> ingredientRemoved(storage, key));
+    });
+  }
+
+  /**
+   * Retrieves the storages holding the ingredient with the given key, along with their lots.
+   *
+   * @param key the ingredient key
+   * @return an unmodifiable map from storage to its live list of lots of the ingredient,
+   *         or an empty map if no storage holds the ingredient. The lists must only be read
+   *         through the storage, which holds the lock guarding them.
+   */
+  public Map<IngredientStorage, List<Ingredient>> getHolders(IngredientKey key) {
+    Map<IngredientStorage, List<Ingredient>> holders = (key == null) ? null : index.get(key);
+    return (holders == null) ? Map.of() : Collections.unmodifiableMap(holders);
+  }
+}
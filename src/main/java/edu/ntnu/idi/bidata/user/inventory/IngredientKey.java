@@ -0,0 +1,122 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import edu.ntnu.idi.bidata.util.Utility;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The canonical, normalized key of an ingredient name.
+ * Keys are interned when a lot of the ingredient is stored, so there is only one instance
+ * per stored name, and both the hash code and the display name are computed once.
+ * A key is looked up when an Ingredient or Measurement is named, without interning it,
+ * so names that are only queried do not grow the interned keys.
+ * Keys are equal by their normalized name, whether they are interned or not.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class IngredientKey implements Comparable<IngredientKey> {
+
+  private static final ConcurrentMap<String, IngredientKey> KEYS = new ConcurrentHashMap<>();
+
+  private final String key;
+  private final String displayName;
+  private final int hash;
+
+  private IngredientKey(String key) {
+    this.key = key;
+    this.displayName = Utility.capitalizeEachWord(key);
+    this.hash = key.hashCode();
+  }
+
+  /**
+   * Retrieves the canonical key for the given ingredient name.
+   * Names that differ only in case or surrounding whitespace share the same key.
+   *
+   * @param name the ingredient name; can be null
+   * @return the canonical IngredientKey, or null if the name is null
+   */
+  public static IngredientKey of(String name) {
+    if (name == null) {
+      return null;
+    }
+    IngredientKey ingredientKey = KEYS.get(name);
+    if (ingredientKey == null) {
+      ingredientKey = KEYS.computeIfAbsent(Utility.createKey(name), IngredientKey::new);
+    }
+    return ingredientKey;
+  }
+
+  /**
+   * Retrieves the key for the given ingredient name without interning it, e.g. to look up
+   * an ingredient. If the name has no interned key yet, a new key is returned,
+   * equal to the key it would get once interned.
+   *
+   * @param name the ingredient name; can be null
+   * @return the canonical IngredientKey if there is one, otherwise an equal uninterned key;
+   *         null if the name is null
+   */
+  public static IngredientKey lookup(String name) {
+    if (name == null) {
+      return null;
+    }
+    IngredientKey ingredientKey = KEYS.get(name);
+    if (ingredientKey == null) {
+      String normalized = Utility.createKey(name);
+      ingredientKey = KEYS.get(normalized);
+      if (ingredientKey == null) {
+        ingredientKey = new IngredientKey(normalized);
+      }
+    }
+    return ingredientKey;
+  }
+
+  /**
+   * Retrieves the canonical instance of this key, interning this key if there is none yet.
+   *
+   * @return the canonical IngredientKey equal to this key
+   */
+  public IngredientKey intern() {
+    IngredientKey canonical = KEYS.putIfAbsent(key, this);
+    return (canonical == null) ? this : canonical;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof IngredientKey that && key.equals(that.key));
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public int compareTo(IngredientKey other) {
+    return key.compareTo(other.key);
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+
+  /**
+   * Retrieves the normalized key, stripped and in lower case.
+   *
+   * @return the normalized key as a string.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Retrieves the display name of the key, with the first letter of each word capitalized.
+   *
+   * @return the display name as a string.
+   */
+  public String getDisplayName() {
+    return displayName;
+  }
+}
@@ -1,23 +1,45 @@
 package edu.ntnu.idi.bidata.user.inventory;
 
+
+import edu.ntnu.idi.bidata.util.ClockService;
+import edu.ntnu.idi.bidata.util.PrefixIndex;
+import edu.ntnu.idi.bidata.util.ReportWriter;
 import edu.ntnu.idi.bidata.util.Utility;
-import edu.ntnu.idi.bidata.util.unit.UnitConverter;
-import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import edu.ntnu.idi.bidata.util.metrics.ExpiryPurgeEvent;
+import edu.ntnu.idi.bidata.util.metrics.StorageScanEvent;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * The Inventory class manages collections of ingredients
  * stored in various named collections.
+ * A storage is safe to use from several threads: every storage has its own read/write lock,
+ * so lookups run in parallel, and changes to different storages never wait for each other.
+ * Lists of lots returned by the storage are copies, which are not changed by later updates.
+ * Scans over many lots and removals of expired lots are emitted as flight recorder events,
+ * which cost next to nothing while no recording is running.
  *
  * @author Nick Heggø
  * @version 2024-12-12
  */
 public class IngredientStorage {
-
-  private final Map<String, List<Ingredient>> ingredientMap;
+  static final int REPORT_CHUNK_LINES = 256;
+
+  private final Map<IngredientKey, List<Ingredient>> ingredientMap;
+  private final NavigableMap<Integer, List<Ingredient>> expiryIndex; // keyed by epoch day
+  private final Map<IngredientKey, IngredientTotal> ingredientTotals;
+  private final PrefixIndex<IngredientKey> prefixIndex;
+  private final List<StorageListener> listeners;
+  private final ReentrantReadWriteLock lock;
   private String storageName;
+  private volatile long valueCents;
 
   /**
    * Constructor for the Storage class.
@@ -25,6 +47,11 @@ public class IngredientStorage {
   public IngredientStorage(String storageName) {
     setStorageName(storageName);
     ingredientMap = new HashMap<>();
+    expiryIndex = new TreeMap<>();
+    ingredientTotals = new HashMap<>();
+    prefixIndex = new PrefixIndex<>();
+    listeners = new CopyOnWriteArrayList<>();
+    lock = new ReentrantReadWriteLock();
   }
 
   /**
@@ -32,35 +59,49 @@ public class IngredientStorage {
    * If the ingredient is already present, it will be merged
    * with the existing one.
    * Otherwise, the new ingredient is saved directly.
+   * The listeners are notified once the ingredient is stored, so a rejected merge is not recorded.
    *
    * @param newIngredient The ingredient to be added to the storage.
+   * @throws IllegalArgumentException if the ingredient is null,
+   *                                  or cannot be merged with the existing one
    */
   public void addIngredient(Ingredient newIngredient) {
     if (newIngredient == null) {
       throw new IllegalArgumentException("Ingredient cannot be null");
     }
-    if (hasMatchingExpiryDate(newIngredient)) {
-      mergeIngredient(newIngredient);
-    } else {
-      addToList(newIngredient);
-    }
+    runLocked(() -> {
+      if (findLot(newIngredient.getKey(), newIngredient.getExpiryEpochDay()) != null) {
+        mergeIngredient(newIngredient);
+      } else {
+        addToList(newIngredient);
+      }
+      for (StorageListener listener : listeners) {
+        listener.lotAdded(this, newIngredient);
+      }
+    });
   }
 
   /**
    * Checks if the given list of measurements has sufficient ingredients available in the storage.
+   * Each measurement is compared against the running total of the ingredient,
+   * so no stored lot is converted or modified.
    *
    * @param measurements a list of Measurement objects representing the required ingredients
    *                     and their amounts
    * @return true if measurements can be fulfilled with the available ingredients, false otherwise
    */
   public boolean isIngredientEnough(List<Measurement> measurements) {
+    return read(() -> isIngredientEnoughUnlocked(measurements));
+  }
+
+  private boolean isIngredientEnoughUnlocked(List<Measurement> measurements) {
     boolean hasSufficientIngredients = true;
     boolean finished = false;
     Iterator<Measurement> it = measurements.iterator();
     while (!finished && it.hasNext()) {
       Measurement measurement = it.next();
-      List<Ingredient> ingredientList = ingredientMap.get(Utility.createKey(measurement.getName()));
-      if (ingredientList == null || !isAmountEnough(ingredientList, measurement)) {
+      IngredientTotal total = ingredientTotals.get(measurement.getKey());
+      if (total == null || !total.isEnough(measurement)) {
         hasSufficientIngredients = false;
         finished = true;
       }
@@ -79,26 +120,36 @@ public class IngredientStorage {
     if (ingredientToBeRemoved == null) {
       return false;
     }
+    return write(() -> removeIngredientUnlocked(ingredientToBeRemoved));
+  }
 
+  private boolean removeIngredientUnlocked(Ingredient ingredientToBeRemoved) {
     // remove the ingredient from the list
-    List<Ingredient> ingredientList = getIngredientList(ingredientToBeRemoved.getName());
-    boolean status = ingredientList.remove(ingredientToBeRemoved);
+    List<Ingredient> ingredientList = ingredientMap.get(ingredientToBeRemoved.getKey());
+    int index = (ingredientList == null) ? -1 : ingredientList.indexOf(ingredientToBeRemoved);
+    if (index < 0) {
+      return false;
+    }
+    Ingredient removedIngredient = ingredientList.remove(index);
+    removeFromExpiryIndex(removedIngredient);
+    notifyLotRemoved(removedIngredient);
+    subtractFromTotals(removedIngredient.getKey(), removedIngredient);
 
     // clean up hashMap if arrayList(value) is empty
     if (ingredientList.isEmpty()) {
-      ingredientMap.remove(Utility.createKey(ingredientToBeRemoved.getName()));
+      removeKey(removedIngredient.getKey());
     }
-    return status;
+    return true;
   }
 
   /**
    * Finds and retrieves a list of ingredients matching the specified name.
    *
    * @param ingredientName The name of the ingredient to search for.
-   * @return A list of matching ingredients, or null if no match is found.
+   * @return A copy of the matching ingredients, or null if no match is found.
    */
   public List<Ingredient> findIngredient(String ingredientName) {
-    return ingredientMap.get(Utility.createKey(ingredientName));
+    return getIngredientList(ingredientName);
   }
 
   /**
@@ -109,9 +160,45 @@ public class IngredientStorage {
    * @return the matching Ingredient, or null if no match is found
    */
   public Ingredient findIngredient(String ingredientName, LocalDate ingredientExpiryDate) {
-    return ingredientMap.get(ingredientName.toLowerCase()).stream()
-        .filter(ingredient -> ingredient.getExpiryDate().isEqual(ingredientExpiryDate))
-        .findFirst().orElse(null);
+    IngredientKey key = IngredientKey.lookup(ingredientName);
+    int expiryDay = Math.toIntExact(ingredientExpiryDate.toEpochDay());
+    return read(() -> findLot(key, expiryDay));
+  }
+
+  /**
+   * Finds and retrieves all lots of the ingredients whose names start with the given prefix.
+   * The ingredient names are kept in a sorted prefix index,
+   * so only the matching ingredients are visited.
+   *
+   * @param prefix the start of the ingredient name, case insensitive
+   * @return a list of the matching lots, ordered by ingredient name;
+   *         an empty list if there is no match.
+   */
+  public List<Ingredient> findIngredientsByPrefix(String prefix) {
+    StorageScanEvent event = beginScan();
+    List<Ingredient> matchingIngredients = read(() -> {
+      List<Ingredient> lots = new ArrayList<>();
+      for (IngredientKey key : prefixIndex.findByPrefix(prefix)) {
+        lots.addAll(ingredientMap.get(key));
+      }
+      return lots;
+    });
+    commitScan(event, "prefix", matchingIngredients.size());
+    return matchingIngredients;
+  }
+
+  /**
+   * Retrieves up to the given number of ingredient names starting with the given prefix,
+   * e.g. to autocomplete user input.
+   *
+   * @param prefix the start of the ingredient name, case insensitive
+   * @param limit  the maximum number of names to return
+   * @return a list of the matching ingredient names in alphabetical order.
+   */
+  public List<String> completeIngredientName(String prefix, int limit) {
+    return read(() -> prefixIndex.complete(prefix, limit)).stream()
+        .map(Utility::capitalizeEachWord)
+        .toList();
   }
 
   /**
@@ -121,65 +208,84 @@ public class IngredientStorage {
    * @return true if the ingredient is present; false otherwise
    */
   public boolean isIngredientPresent(String ingredientName) {
-    return ingredientMap.containsKey(Utility.createKey(ingredientName));
+    IngredientKey key = IngredientKey.lookup(ingredientName);
+    return read(() -> ingredientMap.containsKey(key));
   }
 
   /**
    * Retrieves a list of ingredients matching the specified name.
    *
    * @param ingredientName the name of the ingredient to search for
-   * @return a list of ingredients corresponding to the given name, or null if no match is found
+   * @return a copy of the ingredients with the given name, or null if no match is found
    */
   public List<Ingredient> getIngredientList(String ingredientName) {
-    return ingredientMap.get(Utility.createKey(ingredientName));
+    return copyOfLots(IngredientKey.lookup(ingredientName));
   }
 
   /**
    * Retrieves a list of ingredients corresponding to the specified ingredient's properties.
    *
    * @param ingredient the ingredient whose matching ingredients are to be retrieved
-   * @return a list of matching ingredients, or null if no matches are found
+   * @return a copy of the matching ingredients, or null if no matches are found
    */
   public List<Ingredient> getIngredientList(Ingredient ingredient) {
-    return ingredientMap.get(Utility.createKey(ingredient));
+    return (ingredient == null) ? null : copyOfLots(ingredient.getKey());
   }
 
   /**
    * Removes expired ingredients from the storage by checking their expiry date.
-   * If no ingredients exist, a message is logged. Expired ingredients are removed
-   * from the storage and logged to the console. If no expired ingredients are found,
-   * this is also logged.
-   */
-  public void removeExpired() {
-    if (ingredientMap.isEmpty()) {
-      System.out.println("No ingredients available to check for expiry.");
-      return;
+   * Reporting the removed ingredients is left to the caller, which knows the output of the user.
+   * Only the expired part of the expiry index is visited, so the cost depends on the
+   * number of expired lots rather than the size of the storage.
+   *
+   * @return a list of the removed ingredients; an empty list if none were removed.
+   */
+  public List<Ingredient> removeExpired() {
+    ExpiryPurgeEvent event = new ExpiryPurgeEvent();
+    event.begin();
+    List<Ingredient> removedIngredients = write(this::removeExpiredUnlocked);
+    event.end();
+    if (event.shouldCommit()) {
+      event.storage = storageName;
+      event.removed = removedIngredients.size();
+      event.valueCents = removedIngredients.stream().mapToLong(Ingredient::getValueCents).sum();
+      event.commit();
     }
+    return removedIngredients;
+  }
 
+  private List<Ingredient> removeExpiredUnlocked() {
     List<Ingredient> removedIngredients = new ArrayList<>(); // List to track removed ingredients
 
-    for (List<Ingredient> ingredientList : ingredientMap.values()) {
-      ingredientList.removeIf(ingredient -> {
-        boolean isExpired = ingredient.getExpiryDate().isBefore(LocalDate.now());
-        if (isExpired) {
-          removedIngredients.add(ingredient); // Collect expired ingredient
-        }
-        return isExpired;
-      });
+    NavigableMap<Integer, List<Ingredient>> expired = getExpiredView();
+    for (List<Ingredient> expiredList : expired.values()) {
+      for (Ingredient ingredient : expiredList) {
+        removeFromIngredientMap(ingredient);
+        removedIngredients.add(ingredient); // Collect expired ingredient
+      }
     }
+    expired.clear();
+    return removedIngredients;
+  }
 
-    if (!removedIngredients.isEmpty()) {
-      System.out.println(removedIngredients.size() + " expired ingredients were removed:");
-      removedIngredients.forEach(System.out::println);
-    } else {
-      System.out.println("No expired ingredients were found.");
-    }
+  /**
+   * Retrieves all lots in the storage.
+   *
+   * @return a list of all lots, grouped by ingredient.
+   */
+  public List<Ingredient> getAllIngredients() {
+    StorageScanEvent event = beginScan();
+    List<Ingredient> lots = read(() -> ingredientMap.values().stream()
+        .flatMap(Collection::stream)
+        .toList());
+    commitScan(event, "all lots", lots.size());
+    return lots;
   }
 
   public List<String> getIngredientOverview() {
-    return ingredientMap.keySet().stream()
-        .map(Utility::capitalizeEachWord)
-        .toList();
+    return read(() -> ingredientMap.keySet().stream()
+        .map(IngredientKey::getDisplayName)
+        .toList());
   }
 
   /**
@@ -190,24 +296,119 @@ public class IngredientStorage {
    * @return a string representation of the storage and its contents
    */
   public String getStorageString() {
-    StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append("\n ").append(storageName);
-    if (ingredientMap.isEmpty()) {
-      stringBuilder.append("\n   (Empty)");
-    } else {
-      ingredientMap.values().stream()
-          .flatMap(Collection::stream)
-          .map(Ingredient::toString)
-          .forEach(string -> stringBuilder.append("\n").append(string));
+    ReportWriter report = this::writeStorage;
+    return report.writeToString();
+  }
+
+  /**
+   * Writes the same representation as {@link #getStorageString()} to the given output.
+   * The lots are formatted in small chunks under the lock,
+   * and each chunk is written after the lock is released.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeStorage(Appendable out) throws IOException {
+    StorageScanEvent event = beginScan();
+    List<IngredientKey> keys = read(() -> new ArrayList<>(ingredientMap.keySet()));
+    out.append("\n ").append(storageName);
+    int lots = writeInChunks(out, keys, ingredientMap::get);
+    if (lots == 0) {
+      out.append("\n   (Empty)");
     }
-    return stringBuilder.toString();
+    commitScan(event, "write lots", lots);
   }
 
+  /**
+   * Writes each expired lot on a new line to the given output.
+   * The lots are formatted in small chunks under the lock,
+   * and each chunk is written after the lock is released.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeExpired(Appendable out) throws IOException {
+    StorageScanEvent event = beginScan();
+    List<Integer> expiryDays = read(() -> new ArrayList<>(getExpiredView().keySet()));
+    int lots = writeInChunks(out, expiryDays, expiryIndex::get);
+    commitScan(event, "write expired", lots);
+  }
+
+  /**
+   * Writes the lots stored under each of the given keys, each lot on a new line.
+   * The lines are formatted into a chunk of about {@value #REPORT_CHUNK_LINES} lines
+   * while holding the read lock, and the chunk is written after the lock is released.
+   * A slow output therefore does not hold up changes to the storage,
+   * and only one chunk is held in memory however many lots are stored.
+   * The lots under one key are always formatted together, so they are shown in one state.
+   * Keys removed since they were listed are skipped.
+   *
+   * @param out    the output to write to
+   * @param keys   the keys of the lots to write, in order
+   * @param lotsOf looks up the live list of lots under a key, or null if it was removed
+   * @param <K>    the type of the keys
+   * @return the number of lots written
+   * @throws IOException if the output cannot be written
+   */
+  private <K> int writeInChunks(Appendable out, List<K> keys,
+                                Function<K, List<Ingredient>> lotsOf) throws IOException {
+    StringBuilder chunk = new StringBuilder();
+    Iterator<K> cursor = keys.iterator();
+    int written = 0;
+    while (cursor.hasNext()) {
+      int lines = 0;
+      lock.readLock().lock();
+      try {
+        while (lines < REPORT_CHUNK_LINES && cursor.hasNext()) {
+          List<Ingredient> lots = lotsOf.apply(cursor.next());
+          if (lots != null) {
+            for (Ingredient lot : lots) {
+              chunk.append('\n');
+              lot.writeTo(chunk);
+            }
+            lines += lots.size();
+          }
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+      out.append(chunk);
+      chunk.setLength(0);
+      written += lines;
+    }
+    return written;
+  }
+
+  /**
+   * Retrieves the total value of all ingredients in the storage.
+   *
+   * @return the total value as a float.
+   */
   public float getAllValue() {
-    return ingredientMap.values().stream()
-        .flatMap(Collection::stream)
-        .map(Ingredient::getValue)
-        .reduce(0.0f, Float::sum);
+    return valueCents / 100.0f;
+  }
+
+  /**
+   * Retrieves the total value of all ingredients in the storage.
+   * The value is kept as a running total, so no lots are visited.
+   *
+   * @return the total value in cents.
+   */
+  public long getValueCents() {
+    return valueCents;
+  }
+
+  /**
+   * Retrieves the total value of each ingredient in the storage.
+   *
+   * @return a map from the ingredient key to its total value in cents.
+   */
+  public Map<IngredientKey, Long> getIngredientValues() {
+    return read(() -> {
+      Map<IngredientKey, Long> ingredientValues = new HashMap<>();
+      ingredientTotals.forEach((key, total) -> ingredientValues.put(key, total.getValueCents()));
+      return ingredientValues;
+    });
   }
 
   public String getStorageName() {
@@ -229,73 +430,334 @@ public class IngredientStorage {
    * @return a list of expired ingredients; an empty list if no ingredients are expired.
    */
   public List<Ingredient> getAllExpired() {
-    return ingredientMap.values().stream()
+    StorageScanEvent event = beginScan();
+    List<Ingredient> expired = read(() -> getExpiredView().values().stream()
         .flatMap(List::stream)
-        .filter(ingredient -> ingredient.getExpiryDate().isBefore(LocalDate.now()))
-        .toList();
+        .toList());
+    commitScan(event, "expired", expired.size());
+    return expired;
+  }
+
+  /**
+   * Retrieves the total value of the ingredients expiring before the given date.
+   * Only the matching part of the expiry index is visited.
+   *
+   * @param date the first date not to be included
+   * @return the total value in cents of the ingredients expiring before the date.
+   */
+  public long getValueCentsExpiringBefore(LocalDate date) {
+    int expiryDay = Math.toIntExact(date.toEpochDay());
+    return read(() -> expiryIndex.headMap(expiryDay, false).values().stream()
+        .flatMap(List::stream)
+        .mapToLong(Ingredient::getValueCents)
+        .sum());
+  }
+
+  /**
+   * Retrieves the total value of all expired ingredients in the storage.
+   *
+   * @return the total value in cents of the expired ingredients.
+   */
+  public long getExpiredValueCents() {
+    return getValueCentsExpiringBefore(ClockService.today());
+  }
+
+  /**
+   * Counts the expired ingredients in the storage.
+   *
+   * @return the number of expired ingredients.
+   */
+  public int getExpiredCount() {
+    return read(() -> getExpiredView().values().stream()
+        .mapToInt(List::size)
+        .sum());
+  }
+
+  /**
+   * Starts timing a scan of the storage. The event is not kept unless it is committed
+   * while a recording is running, so the compiler can usually leave out its allocation.
+   *
+   * @return the started event
+   */
+  private static StorageScanEvent beginScan() {
+    StorageScanEvent event = new StorageScanEvent();
+    event.begin();
+    return event;
   }
 
-  private boolean isAmountEnough(List<Ingredient> ingredientList, Measurement measurement) {
-    float targetAmount = measurement.getAmount();
-    ValidUnit targetUnit = measurement.getUnit();
-    float sum = 0;
-    for (Ingredient ingredient : ingredientList) {
-      UnitConverter.convertIngredient(ingredient, targetUnit);
-      sum += ingredient.getAmount();
+  /**
+   * Ends the scan and records it, if a recording wants the event.
+   *
+   * @param event the event started by {@link #beginScan()}
+   * @param scan  what the lots were scanned for
+   * @param lots  the number of lots visited
+   */
+  private void commitScan(StorageScanEvent event, String scan, int lots) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.storage = storageName;
+      event.scan = scan;
+      event.lots = lots;
+      event.commit();
+    }
+  }
+
+  /**
+   * Retrieves the part of the expiry index holding lots with an expiry date before today.
+   * The returned map is a live view, clearing it removes the entries from the index.
+   *
+   * @return a view of the expiry index containing only expired lots.
+   */
+  private NavigableMap<Integer, List<Ingredient>> getExpiredView() {
+    return expiryIndex.headMap(ClockService.todayEpochDay(), false);
+  }
+
+  /**
+   * Registers the given ingredient in the expiry index under its expiry date.
+   *
+   * @param ingredient the ingredient to be indexed
+   */
+  private void addToExpiryIndex(Ingredient ingredient) {
+    expiryIndex.computeIfAbsent(ingredient.getExpiryEpochDay(), day -> new ArrayList<>())
+        .add(ingredient);
+  }
+
+  /**
+   * Removes the given ingredient instance from the expiry index.
+   * Empty date buckets are removed, so the index only holds dates with stored lots.
+   *
+   * @param ingredient the ingredient to be removed from the index
+   */
+  private void removeFromExpiryIndex(Ingredient ingredient) {
+    int expiryDay = ingredient.getExpiryEpochDay();
+    List<Ingredient> sameDateList = expiryIndex.get(expiryDay);
+    if (sameDateList != null) {
+      sameDateList.removeIf(indexed -> indexed == ingredient);
+      if (sameDateList.isEmpty()) {
+        expiryIndex.remove(expiryDay);
+      }
+    }
+  }
+
+  /**
+   * Removes the given ingredient instance from its list in the ingredient map,
+   * including cleanup of the map key if the list becomes empty.
+   *
+   * @param ingredient the ingredient to be removed from the ingredient map
+   */
+  private void removeFromIngredientMap(Ingredient ingredient) {
+    IngredientKey key = ingredient.getKey();
+    List<Ingredient> ingredientList = ingredientMap.get(key);
+    if (ingredientList != null && ingredientList.removeIf(stored -> stored == ingredient)) {
+      notifyLotRemoved(ingredient);
+      subtractFromTotals(key, ingredient);
+      if (ingredientList.isEmpty()) {
+        removeKey(key);
+      }
     }
-    return sum >= targetAmount;
   }
 
   /**
    * Merges the given ingredient into the existing one in the ingredient map.
    * If the ingredient is already present in the map with the same expiry date,
    * the two ingredients are merged.
+   * Only lots with the same expiry date are merged, so the expiry index is left unchanged.
+   * The totals are updated with the difference made by the merge.
+   * The units are checked first, so a rejected merge leaves the totals unchanged.
    *
    * @param ingredientToMerge The ingredient to be merged with an existing ingredient in the map.
+   * @throws IllegalArgumentException if the units of the two lots are of different kinds
    */
   private void mergeIngredient(Ingredient ingredientToMerge) {
-    String name = ingredientToMerge.getName();
-    LocalDate expiryDate = ingredientToMerge.getExpiryDate();
-    Ingredient existingIngredient = findIngredient(name, expiryDate);
+    IngredientKey key = ingredientToMerge.getKey();
+    Ingredient existingIngredient = findLot(key, ingredientToMerge.getExpiryEpochDay());
+    existingIngredient.getMeasurement().assertSameKind(ingredientToMerge.getMeasurement());
+    subtractFromTotals(key, existingIngredient);
     existingIngredient.merge(ingredientToMerge);
+    addToTotals(key, existingIngredient);
   }
 
   /**
    * Adds the specified ingredient to the list associated with its map key.
    * If the map key does not already exist, a new list is created.
+   * The ingredient is also registered in the expiry index and the running totals.
    *
    * @param ingredientToAdd the ingredient to be added to the list
    */
   private void addToList(Ingredient ingredientToAdd) {
     if (ingredientToAdd != null) {
-      ingredientMap.computeIfAbsent(Utility.createKey(ingredientToAdd), key -> new ArrayList<>())
-          .add(ingredientToAdd);
+      ingredientToAdd.internKey();
+      IngredientKey key = ingredientToAdd.getKey();
+      List<Ingredient> ingredientList = ingredientMap.get(key);
+      if (ingredientList == null) {
+        ingredientList = new ArrayList<>();
+        ingredientMap.put(key, ingredientList);
+        prefixIndex.add(key.getKey(), key);
+        for (StorageListener listener : listeners) {
+          listener.ingredientAdded(this, key, ingredientList);
+        }
+      }
+      ingredientList.add(ingredientToAdd);
+      addToExpiryIndex(ingredientToAdd);
+      addToTotals(key, ingredientToAdd);
+    }
+  }
+
+  /**
+   * Notifies the listeners that the given lot has been removed.
+   *
+   * @param lot the removed lot
+   */
+  private void notifyLotRemoved(Ingredient lot) {
+    for (StorageListener listener : listeners) {
+      listener.lotRemoved(this, lot);
     }
   }
 
   /**
-   * Checks if there is any ingredient in the storage
-   * with an expiry date matching the given ingredient.
+   * Removes the given key from the ingredient map and notifies the listeners.
    *
-   * @param ingredientToCheck The ingredient whose expiry date is to be checked
-   *                          against the stored ingredient
-   * @return true if a matching expiry date is found; false otherwise.
+   * @param key the key of the ingredient to be removed
    */
-  private boolean hasMatchingExpiryDate(Ingredient ingredientToCheck) {
-    List<Ingredient> ingredientList = getIngredientList(ingredientToCheck);
-    return ingredientList != null && ingredientList.stream()
-        .anyMatch(ingredient -> getIngredientExpiryDate(ingredient)
-            .isEqual(getIngredientExpiryDate(ingredientToCheck)));
+  private void removeKey(IngredientKey key) {
+    ingredientMap.remove(key);
+    ingredientTotals.remove(key);
+    prefixIndex.remove(key.getKey(), key);
+    for (StorageListener listener : listeners) {
+      listener.ingredientRemoved(this, key);
+    }
   }
 
   /**
-   * Retrieves the expiry date of the given ingredient.
+   * Adds the quantity and value of the given ingredient to the running totals.
    *
-   * @param ingredient The ingredient whose expiry date is to be retrieved.
-   * @return The expiry date of the ingredient.
+   * @param key        the key of the ingredient
+   * @param ingredient the ingredient to be added to the totals
    */
-  private LocalDate getIngredientExpiryDate(Ingredient ingredient) {
-    return ingredient.getExpiryDate();
+  private void addToTotals(IngredientKey key, Ingredient ingredient) {
+    ingredientTotals.computeIfAbsent(key, k -> new IngredientTotal()).add(ingredient);
+    changeValue(key, ingredient.getValueCents());
+  }
+
+  /**
+   * Subtracts the quantity and value of the given ingredient from the running totals.
+   *
+   * @param key        the key of the ingredient
+   * @param ingredient the ingredient to be subtracted from the totals
+   */
+  private void subtractFromTotals(IngredientKey key, Ingredient ingredient) {
+    ingredientTotals.get(key).subtract(ingredient);
+    changeValue(key, -ingredient.getValueCents());
+  }
+
+  /**
+   * Changes the total value of the storage and notifies the listeners.
+   *
+   * @param key        the key of the ingredient whose value changed
+   * @param deltaCents the change in value in cents
+   */
+  private void changeValue(IngredientKey key, long deltaCents) {
+    valueCents += deltaCents;
+    for (StorageListener listener : listeners) {
+      listener.valueChanged(this, key, deltaCents);
+    }
+  }
+
+  /**
+   * Adds a listener to be notified about changes in the storage.
+   *
+   * @param listener the listener to be notified
+   */
+  void addListener(StorageListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener, so it is no longer notified about changes in the storage.
+   *
+   * @param listener the listener to be removed
+   */
+  void removeListener(StorageListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Performs the given action for each ingredient key and its list of lots.
+   *
+   * @param action the action to be performed for each key and list of lots
+   */
+  void forEachIngredientList(BiConsumer<IngredientKey, List<Ingredient>> action) {
+    lock.readLock().lock();
+    try {
+      ingredientMap.forEach(action);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Runs the given action while holding the write lock of the storage,
+   * so no other thread reads or changes the storage in the meantime.
+   *
+   * @param action the action to be run
+   */
+  void runLocked(Runnable action) {
+    lock.writeLock().lock();
+    try {
+      action.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves a copy of the lots stored under the given key.
+   *
+   * @param key the key of the ingredient
+   * @return a copy of the lots, or null if the ingredient is not stored.
+   */
+  private List<Ingredient> copyOfLots(IngredientKey key) {
+    return read(() -> {
+      List<Ingredient> lots = ingredientMap.get(key);
+      return (lots == null) ? null : new ArrayList<>(lots);
+    });
+  }
+
+  private <T> T read(Supplier<T> action) {
+    lock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private <T> T write(Supplier<T> action) {
+    lock.writeLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the stored lot of the given ingredient with the given expiry day.
+   *
+   * @param key       the key of the ingredient
+   * @param expiryDay the expiry date as a number of days since 1970-01-01
+   * @return the matching lot, or null if no lot has the same key and expiry day.
+   */
+  private Ingredient findLot(IngredientKey key, int expiryDay) {
+    List<Ingredient> ingredientList = ingredientMap.get(key);
+    if (ingredientList != null) {
+      for (Ingredient ingredient : ingredientList) {
+        if (ingredient.getExpiryEpochDay() == expiryDay) {
+          return ingredient;
+        }
+      }
+    }
+    return null;
   }
 
 }
@@ -0,0 +1,66 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import edu.ntnu.idi.bidata.util.unit.UnitConverter;
+
+/**
+ * Keeps running totals of the stored quantity and value of one ingredient.
+ * Solids are summed in milligrams and liquids in microliters, so a sufficiency
+ * check is a single comparison without converting any stored lot.
+ * The value is summed in whole cents, so it does not drift as lots come and go.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class IngredientTotal {
+  private long solidAmount;
+  private long liquidAmount;
+  private long valueCents;
+
+  /**
+   * Adds the quantity and value of the given ingredient to the totals.
+   *
+   * @param ingredient the ingredient to be added
+   */
+  void add(Ingredient ingredient) {
+    update(ingredient, 1);
+  }
+
+  /**
+   * Subtracts the quantity and value of the given ingredient from the totals.
+   *
+   * @param ingredient the ingredient to be subtracted
+   */
+  void subtract(Ingredient ingredient) {
+    update(ingredient, -1);
+  }
+
+  /**
+   * Checks if the total covers the amount required by the given measurement.
+   *
+   * @param measurement the required measurement
+   * @return true if the stored quantity is at least the required amount, false otherwise
+   */
+  boolean isEnough(Measurement measurement) {
+    long stored = UnitConverter.isSolid(measurement.getUnit()) ? solidAmount : liquidAmount;
+    return stored >= measurement.getBaseAmount();
+  }
+
+  /**
+   * Retrieves the total value of the ingredient.
+   *
+   * @return the total value in cents.
+   */
+  long getValueCents() {
+    return valueCents;
+  }
+
+  private void update(Ingredient ingredient, int sign) {
+    long baseAmount = sign * ingredient.getBaseAmount();
+    if (UnitConverter.isSolid(ingredient.getUnit())) {
+      solidAmount += baseAmount;
+    } else {
+      liquidAmount += baseAmount;
+    }
+    valueCents += sign * ingredient.getValueCents();
+  }
+}
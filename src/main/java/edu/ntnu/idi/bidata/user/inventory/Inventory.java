@@ -0,0 +1,342 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import edu.ntnu.idi.bidata.user.ChangeListener;
+import edu.ntnu.idi.bidata.util.Utility;
+import edu.ntnu.idi.bidata.util.metrics.AvailabilityEvaluationEvent;
+import edu.ntnu.idi.bidata.util.metrics.LatencyHistogram;
+import edu.ntnu.idi.bidata.util.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The storages of a kitchen, along with the indexes and running totals kept across them.
+ * An inventory may be shared by several sessions, each with its own InventoryManager.
+ * It is safe to use from several threads: the storages are kept in a concurrent map,
+ * and each storage guards its lots with its own lock, so operations on different storages
+ * run in parallel.
+ * Storage lookups are counted and availability checks timed in the
+ * {@linkplain MetricsRegistry#getDefault() metrics}; availability checks are also emitted
+ * as flight recorder events.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class Inventory {
+  private static final LongAdder STORAGE_LOOKUPS =
+      MetricsRegistry.getDefault().counter("storage lookups");
+  private static final LatencyHistogram AVAILABILITY_CHECKS =
+      MetricsRegistry.getDefault().histogram("availability checks");
+  private static final BatchAvailabilityEvaluator BATCH_EVALUATOR =
+      new BatchAvailabilityEvaluator();
+
+  private final ConcurrentMap<String, IngredientStorage> storageMap;
+  private final IngredientIndex ingredientIndex;
+  private final InventoryValue inventoryValue;
+  private final List<ChangeListener> changeListeners;
+  private final StorageListener changeForwarder;
+  private float wastedValue;
+
+  /**
+   * Initializes a new Inventory without any storages.
+   */
+  public Inventory() {
+    storageMap = new ConcurrentHashMap<>();
+    ingredientIndex = new IngredientIndex();
+    inventoryValue = new InventoryValue();
+    changeListeners = new CopyOnWriteArrayList<>();
+    changeForwarder = new ChangeForwarder();
+  }
+
+  /**
+   * Retrieves the ingredient storage associated with the specified storage name.
+   *
+   * @param storageName The name of the ingredient storage to retrieve.
+   * @return The corresponding IngredientStorage object, or null if it does not exist.
+   */
+  public IngredientStorage getStorage(String storageName) {
+    STORAGE_LOOKUPS.increment();
+    return (storageName == null) ? null : storageMap.get(Utility.createKey(storageName));
+  }
+
+  /**
+   * Retrieves all storages of the inventory.
+   *
+   * @return an unmodifiable view of the storages.
+   */
+  public Collection<IngredientStorage> getStorages() {
+    return Collections.unmodifiableCollection(storageMap.values());
+  }
+
+  /**
+   * Adds a new ingredient storage with the provided name, replacing any storage of the same name.
+   * The storage is indexed before it is published, so other threads never see it half-registered.
+   *
+   * @param storageName The name of the storage to be added.
+   */
+  public void createIngredientStorage(String storageName) {
+    IngredientStorage createdStorage = new IngredientStorage(storageName);
+    ingredientIndex.register(createdStorage);
+    inventoryValue.register(createdStorage);
+    createdStorage.addListener(changeForwarder);
+    IngredientStorage replacedStorage = storageMap.put(Utility.createKey(storageName),
+        createdStorage);
+    if (replacedStorage != null) {
+      detachStorage(replacedStorage);
+    }
+    for (ChangeListener listener : changeListeners) {
+      listener.storageCreated(storageName);
+    }
+  }
+
+  /**
+   * Removes the storage with the specified name.
+   *
+   * @param storageName The name of the storage to be removed.
+   * @return true if the storage was successfully removed, or false if it did not exist.
+   */
+  public boolean removeStorage(String storageName) {
+    IngredientStorage removedStorage = storageMap.remove(Utility.createKey(storageName));
+    if (removedStorage != null) {
+      detachStorage(removedStorage);
+      for (ChangeListener listener : changeListeners) {
+        listener.storageRemoved(removedStorage.getStorageName());
+      }
+    }
+    return removedStorage != null;
+  }
+
+  /**
+   * Retrieves the lots of the specified ingredient in every storage holding it.
+   * Only the storages holding the ingredient are visited.
+   *
+   * @param ingredientName The name of the ingredient to search for.
+   * @return A map from storage name to a copy of its lots of the ingredient.
+   */
+  public Map<String, List<Ingredient>> findIngredientFromAll(String ingredientName) {
+    Map<String, List<Ingredient>> lotsByStorage = new LinkedHashMap<>();
+    Set<IngredientStorage> holders = ingredientIndex
+        .getHolders(IngredientKey.lookup(ingredientName)).keySet();
+    for (IngredientStorage storage : holders) {
+      List<Ingredient> lots = storage.getIngredientList(ingredientName);
+      if (lots != null && !lots.isEmpty()) {
+        lotsByStorage.put(storage.getStorageName(), lots);
+      }
+    }
+    return lotsByStorage;
+  }
+
+  /**
+   * Identifies and returns the names of ingredient storages where all specified measurements
+   * are sufficiently available.
+   * Only the storages holding every required ingredient are checked for quantities.
+   *
+   * @param measurements A list of Measurement objects representing the required ingredients
+   *                     and their quantities.
+   * @return A list of strings containing the names of storages that meet the requirements.
+   */
+  public List<String> findSufficientStorages(List<Measurement> measurements) {
+    AvailabilityEvaluationEvent event = new AvailabilityEvaluationEvent();
+    event.begin();
+    long start = System.nanoTime();
+    List<String> sufficientStorages = new ArrayList<>();
+    Collection<IngredientStorage> candidates = findCandidateStorages(measurements);
+    for (IngredientStorage storage : candidates) {
+      if (storage.isIngredientEnough(measurements)) {
+        sufficientStorages.add(storage.getStorageName());
+      }
+    }
+    AVAILABILITY_CHECKS.record(System.nanoTime() - start);
+    event.end();
+    if (event.shouldCommit()) {
+      event.ingredients = measurements.size();
+      event.storages = storageMap.size();
+      event.candidates = candidates.size();
+      event.sufficient = sufficientStorages.size();
+      event.commit();
+    }
+    return sufficientStorages;
+  }
+
+  /**
+   * Finds the storages holding enough of the required ingredients for each of many recipes,
+   * evaluating the recipes in parallel on the common pool.
+   * See {@link BatchAvailabilityEvaluator}.
+   *
+   * @param requirements the measurements required by each recipe
+   * @return for each recipe in the same position, the names of the storages
+   *         where all its measurements are sufficiently available
+   */
+  public List<List<String>> findSufficientStoragesForAll(List<List<Measurement>> requirements) {
+    return BATCH_EVALUATOR.evaluate(requirements, storageMap.values());
+  }
+
+  /**
+   * Adds a specified value to the total value of the ingredients wasted.
+   *
+   * @param wastedValue the value to be added to the wasted value total.
+   */
+  public synchronized void addWastedValue(float wastedValue) {
+    this.wastedValue += wastedValue;
+    for (ChangeListener listener : changeListeners) {
+      listener.wasteRecorded(wastedValue);
+    }
+  }
+
+  /**
+   * Retrieves the total value of the ingredients wasted.
+   *
+   * @return the wasted value total.
+   */
+  public synchronized float getWastedValue() {
+    return wastedValue;
+  }
+
+  /**
+   * Adds a listener to be notified about the storages created and removed,
+   * about the lots added to and removed from any storage, and about the value wasted.
+   *
+   * @param listener the listener to be notified
+   */
+  public void addChangeListener(ChangeListener listener) {
+    changeListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener, so it is no longer notified about changes in the inventory.
+   *
+   * @param listener the listener to be removed
+   */
+  public void removeChangeListener(ChangeListener listener) {
+    changeListeners.remove(listener);
+  }
+
+  /**
+   * Retrieves the total value of all expired ingredients across all storages.
+   *
+   * @return The total value of the expired ingredients in cents.
+   */
+  public long getExpiredValueCents() {
+    long expiredCents = 0;
+    for (IngredientStorage storage : storageMap.values()) {
+      expiredCents += storage.getExpiredValueCents();
+    }
+    return expiredCents;
+  }
+
+  /**
+   * Retrieves the names of all ingredient storages in the inventory.
+   *
+   * @return A list containing the names of all storages.
+   */
+  public List<String> getStorageOverview() {
+    return storageMap.values().stream()
+        .map(IngredientStorage::getStorageName)
+        .toList();
+  }
+
+  /**
+   * Retrieves the total value of all ingredients across all storages.
+   * The value is kept as a running total, so no storage or lot is visited.
+   *
+   * @return The total value of the inventory in cents.
+   */
+  public long getTotalValueCents() {
+    return inventoryValue.getTotalCents();
+  }
+
+  /**
+   * Retrieves the total value of each storage in the inventory.
+   *
+   * @return A map from storage name to the value of the storage in cents.
+   */
+  public Map<String, Long> getStorageValues() {
+    Map<String, Long> storageValues = new LinkedHashMap<>();
+    storageMap.values().forEach(storage ->
+        storageValues.put(storage.getStorageName(), storage.getValueCents()));
+    return storageValues;
+  }
+
+  /**
+   * Retrieves the total value of each ingredient across all storages.
+   *
+   * @return A map from ingredient key to the value of the ingredient in cents.
+   */
+  public Map<IngredientKey, Long> getIngredientValues() {
+    return inventoryValue.getIngredientValues();
+  }
+
+  /**
+   * Writes a report of every storage and its lots to the given output.
+   * Each storage is locked only while it is written.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeInventory(Appendable out) throws IOException {
+    out.append("###### Inventory #######");
+    for (IngredientStorage storage : storageMap.values()) {
+      storage.writeStorage(out);
+    }
+  }
+
+  /**
+   * Stops tracking the given storage in the ingredient index and the inventory value.
+   *
+   * @param storage the storage to be detached
+   */
+  private void detachStorage(IngredientStorage storage) {
+    ingredientIndex.unregister(storage);
+    inventoryValue.unregister(storage);
+    storage.removeListener(changeForwarder);
+  }
+
+  /**
+   * Finds the candidate storages for the given measurements.
+   * Only a storage holding the least common of the required ingredients
+   * can hold all of them, so those storages are the only candidates.
+   *
+   * @param measurements the measurements of the required ingredients
+   * @return a collection of the storages that may hold all required ingredients
+   */
+  private Collection<IngredientStorage> findCandidateStorages(List<Measurement> measurements) {
+    Collection<IngredientStorage> candidates = storageMap.values();
+    for (Measurement measurement : measurements) {
+      Set<IngredientStorage> holders = ingredientIndex
+          .getHolders(measurement.getKey()).keySet();
+      if (holders.size() < candidates.size()) {
+        candidates = holders;
+      }
+    }
+    return List.copyOf(candidates);
+  }
+
+  /**
+   * Forwards the lot changes of every storage to the change listeners of the inventory.
+   */
+  private class ChangeForwarder implements StorageListener {
+    @Override
+    public void lotAdded(IngredientStorage storage, Ingredient lot) {
+      for (ChangeListener listener : changeListeners) {
+        listener.lotAdded(storage.getStorageName(), lot);
+      }
+    }
+
+    @Override
+    public void lotRemoved(IngredientStorage storage, Ingredient lot) {
+      for (ChangeListener listener : changeListeners) {
+        listener.lotRemoved(storage.getStorageName(), lot);
+      }
+    }
+  }
+}
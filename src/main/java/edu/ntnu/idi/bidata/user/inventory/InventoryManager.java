@@ -1,16 +1,22 @@
 package edu.ntnu.idi.bidata.user.inventory;
 
+import edu.ntnu.idi.bidata.user.ChangeListener;
 import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.ListStyle;
 import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.ReportWriter;
 import edu.ntnu.idi.bidata.util.Utility;
 import edu.ntnu.idi.bidata.util.input.UnitInput;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
  * Manages multiple ingredient storages and provides functionalities
  * for ingredient and storage management.
+ * The storages are kept in an {@link Inventory}, which may be shared by several managers.
+ * The current storage and the history belong to the manager, i.e. to one user session.
  *
  * @author Nick Heggø
  * @version 2024-12-12
@@ -20,7 +26,7 @@ public class InventoryManager {
   private final InputScanner inputScanner;
   private final OutputHandler outputHandler;
 
-  private final Map<String, IngredientStorage> storageMap;
+  private final Inventory inventory;
   private final Stack<IngredientStorage> history;
   private IngredientStorage currentStorage;
 
@@ -32,12 +38,36 @@ public class InventoryManager {
    * @param outputHandler The OutputHandler instance for displaying outputs.
    */
   public InventoryManager(InputScanner inputScanner, OutputHandler outputHandler) {
+    this(new Inventory(), inputScanner, outputHandler);
+  }
+
+  /**
+   * Constructs an InventoryManager for a session working on the given, possibly shared, inventory.
+   *
+   * @param inventory     The inventory holding the storages.
+   * @param inputScanner  The InputScanner instance for reading user inputs.
+   * @param outputHandler The OutputHandler instance for displaying outputs.
+   */
+  public InventoryManager(Inventory inventory, InputScanner inputScanner,
+                          OutputHandler outputHandler) {
+    if (inventory == null) {
+      throw new IllegalArgumentException("Inventory cannot be null.");
+    }
+    this.inventory = inventory;
     this.inputScanner = inputScanner;
     this.outputHandler = outputHandler;
-    storageMap = new HashMap<>();
     history = new Stack<>();
   }
 
+  /**
+   * Retrieves the inventory holding the storages.
+   *
+   * @return the Inventory of the manager.
+   */
+  public Inventory getInventory() {
+    return inventory;
+  }
+
   /**
    * Retrieves the ingredient storage associated with the specified storage name.
    *
@@ -45,7 +75,7 @@ public class InventoryManager {
    * @return The corresponding IngredientStorage object if it exists in the storage map.
    */
   public IngredientStorage getStorage(String storageName) {
-    return storageMap.get(Utility.createKey(storageName));
+    return inventory.getStorage(storageName);
   }
 
   /**
@@ -66,37 +96,28 @@ public class InventoryManager {
   /**
    * Searches for the specified ingredient across all storages and displays the results,
    * including the storage name and the list of matching ingredients in a bullet format.
+   * Only the storages holding the ingredient are visited.
    *
    * @param ingredientName The name of the ingredient to search for in all storages.
    */
   public void findIngredientFromAll(String ingredientName) {
-    for (IngredientStorage storage : storageMap.values()) {
-      List<Ingredient> ingredientList = storage.findIngredient(ingredientName);
-      if (ingredientList != null && !ingredientList.isEmpty()) {
-        outputHandler.printOutput(storage.getStorageName() + ":");
-        outputHandler.printList(ingredientList, "bullet");
-      }
-    }
+    inventory.findIngredientFromAll(ingredientName).forEach((storageName, lots) -> {
+      outputHandler.printOutput(storageName + ":");
+      outputHandler.printList(lots, ListStyle.BULLET);
+    });
   }
 
   /**
    * Identifies and returns the names of ingredient storages where all specified measurements
    * are sufficiently available.
+   * Only the storages holding every required ingredient are checked for quantities.
    *
    * @param measurements A list of Measurement objects representing the required ingredients
    *                     and their quantities.
    * @return A list of strings containing the names of storages that meet the requirements.
    */
   public List<String> findSufficientStorages(List<Measurement> measurements) {
-    ArrayList<IngredientStorage> listOfSufficientStorage = new ArrayList<>();
-    for (IngredientStorage storage : storageMap.values()) {
-      if (storage.isIngredientEnough(measurements)) {
-        listOfSufficientStorage.add(storage);
-      }
-    }
-    return listOfSufficientStorage.stream()
-        .map(IngredientStorage::getStorageName)
-        .toList();
+    return inventory.findSufficientStorages(measurements);
   }
 
   /**
@@ -118,19 +139,14 @@ public class InventoryManager {
    *                                  or if an invalid index is provided during selection.
    */
   public void removeIngredientFromCurrent(String ingredientName) {
-    assertInventoryIsAvailable();
-    List<Ingredient> ingredientList = findIngredientFromCurrent(ingredientName);
-    if (ingredientList == null) {
-      throw new IllegalArgumentException("There is no " + ingredientName + " at "
-          + currentStorage.getStorageName());
-    }
+    List<Ingredient> ingredientList = findLotsToRemove(ingredientName);
 
     // passed all checks
     if (ingredientList.size() == 1) {
       currentStorage.removeIngredient(ingredientList.getFirst());
     } else {
       outputHandler.printOutput("Please select the ingredient to delete:");
-      outputHandler.printList(ingredientList, "numbered");
+      outputHandler.printList(ingredientList, ListStyle.NUMBERED);
       outputHandler.printInputPrompt();
       int index = inputScanner.collectValidInteger();
       if (index > ingredientList.size() || index < 1) {
@@ -142,15 +158,65 @@ public class InventoryManager {
     outputHandler.printOperationStatus(true, "removed", ingredientName);
   }
 
+  /**
+   * Removes the lot with the given number, as listed when prompting for the lot to remove,
+   * of an ingredient from the current storage, without prompting.
+   *
+   * @param ingredientName The name of the ingredient to remove from the current storage.
+   * @param lotNumber      The number of the lot to remove, starting from 1.
+   * @throws IllegalArgumentException if the ingredient does not exist in the current storage,
+   *                                  or if there is no lot with the given number.
+   */
+  public void removeIngredientFromCurrent(String ingredientName, int lotNumber) {
+    List<Ingredient> ingredientList = findLotsToRemove(ingredientName);
+    if (lotNumber > ingredientList.size() || lotNumber < 1) {
+      throw new IllegalArgumentException("Invalid lot number " + lotNumber + ", there are "
+          + ingredientList.size() + " lots of " + ingredientName + ".");
+    }
+    currentStorage.removeIngredient(ingredientList.get(lotNumber - 1));
+    outputHandler.printOperationStatus(true, "removed", ingredientName);
+  }
+
+  /**
+   * Finds the lots of the given ingredient in the current storage, which must hold at least one.
+   *
+   * @param ingredientName The name of the ingredient to find.
+   * @return A list of the lots of the ingredient.
+   * @throws IllegalArgumentException if the ingredient does not exist in the current storage.
+   */
+  private List<Ingredient> findLotsToRemove(String ingredientName) {
+    assertInventoryIsAvailable();
+    List<Ingredient> ingredientList = findIngredientFromCurrent(ingredientName);
+    if (ingredientList.isEmpty()) {
+      throw new IllegalArgumentException("There is no " + ingredientName + " at "
+          + currentStorage.getStorageName());
+    }
+    return ingredientList;
+  }
+
   /**
    * Finds and retrieves a list of ingredients from the current storage that match the name.
    *
    * @param ingredientName The name of the ingredient to search for in the current storage.
-   * @return A list of Ingredient objects matching the specified name found in the current storage.
+   * @return A list of Ingredient objects matching the specified name found in the current storage,
+   *         or an empty list if there is no match.
    */
   public List<Ingredient> findIngredientFromCurrent(String ingredientName) {
     assertInventoryIsAvailable();
-    return currentStorage.getIngredientList(ingredientName);
+    List<Ingredient> ingredientList = currentStorage.getIngredientList(ingredientName);
+    return (ingredientList == null) ? List.of() : ingredientList;
+  }
+
+  /**
+   * Finds and retrieves the ingredients from the current storage whose names start with
+   * the specified prefix.
+   *
+   * @param prefix The start of the ingredient names to search for in the current storage.
+   * @return A list of Ingredient objects whose names start with the prefix.
+   */
+  public List<Ingredient> findIngredientsByPrefix(String prefix) {
+    assertInventoryIsAvailable();
+    return currentStorage.findIngredientsByPrefix(prefix);
   }
 
   /**
@@ -160,21 +226,29 @@ public class InventoryManager {
    * @return true if the storage was successfully removed, or false if it did not exist.
    */
   public boolean removeStorage(String storageName) {
-    return storageMap.remove(Utility.createKey(storageName)) != null;
+    return inventory.removeStorage(storageName);
   }
 
   /**
-   * Removes all expired ingredients from the current storage and calculates their total value.
+   * Removes all expired ingredients from the current storage, lists them,
+   * and calculates their total value.
    *
    * @return The total value of the removed expired ingredients as a float.
    */
   public float removeAllExpired() {
     assertInventoryIsAvailable();
-    List<Ingredient> expired = currentStorage.getAllExpired();
-    currentStorage.removeExpired();
-    return expired.stream()
-        .map(Ingredient::getValue)
-        .reduce(0.0f, Float::sum);
+    List<Ingredient> expired = currentStorage.removeExpired();
+    if (expired.isEmpty()) {
+      outputHandler.printOutput("No expired ingredients were found.");
+      return 0;
+    }
+    outputHandler.printOutput(expired.size() + " expired ingredients were removed:");
+    long removedCents = 0;
+    for (Ingredient ingredient : expired) {
+      outputHandler.printOutput(ingredient.toString());
+      removedCents += ingredient.getValueCents();
+    }
+    return removedCents / 100.0f;
   }
 
   /**
@@ -184,7 +258,35 @@ public class InventoryManager {
    * @param storageName The name of the storage to be added.
    */
   public void createIngredientStorage(String storageName) {
-    storageMap.put(Utility.createKey(storageName), new IngredientStorage(storageName));
+    inventory.createIngredientStorage(storageName);
+  }
+
+  /**
+   * Adds a listener to be notified about the storages created and removed,
+   * and about the lots added to and removed from any storage.
+   *
+   * @param listener the listener to be notified
+   */
+  public void addChangeListener(ChangeListener listener) {
+    inventory.addChangeListener(listener);
+  }
+
+  /**
+   * Removes a listener, so it is no longer notified about changes in the inventory.
+   *
+   * @param listener the listener to be removed
+   */
+  public void removeChangeListener(ChangeListener listener) {
+    inventory.removeChangeListener(listener);
+  }
+
+  /**
+   * Retrieves the total value of all expired ingredients across all storages.
+   *
+   * @return The total value of the expired ingredients in cents.
+   */
+  public long getExpiredValueCents() {
+    return inventory.getExpiredValueCents();
   }
 
   /**
@@ -203,23 +305,45 @@ public class InventoryManager {
    * @return A list containing the names of all storages currently in the storage map.
    */
   public List<String> getStorageOverview() {
-    return storageMap.values().stream()
-        .map(IngredientStorage::getStorageName)
-        .toList();
+    return inventory.getStorageOverview();
   }
 
   /**
-   * Calculates the total value of all ingredients across all storages and returns it as a string.
+   * Retrieves the total value of all ingredients across all storages and returns it as a string.
    *
-   * @return A string indicating the total value of the inventory rounded to two decimal places,
+   * @return A string indicating the total value of the inventory with two decimal places,
    * followed by "kr."
    */
   public String getTotalValue() {
-    float sum = storageMap.values().stream()
-        .map(IngredientStorage::getAllValue)
-        .reduce(0.0f, Float::sum);
-    sum = Math.round(sum * 100) / 100.0f;
-    return "Inventory has total value of: " + sum + " kr.";
+    return "Inventory has total value of: " + Utility.formatCents(getTotalValueCents()) + " kr.";
+  }
+
+  /**
+   * Retrieves the total value of all ingredients across all storages.
+   * The value is kept as a running total, so no storage or lot is visited.
+   *
+   * @return The total value of the inventory in cents.
+   */
+  public long getTotalValueCents() {
+    return inventory.getTotalValueCents();
+  }
+
+  /**
+   * Retrieves the total value of each storage in the inventory.
+   *
+   * @return A map from storage name to the value of the storage in cents.
+   */
+  public Map<String, Long> getStorageValues() {
+    return inventory.getStorageValues();
+  }
+
+  /**
+   * Retrieves the total value of each ingredient across all storages.
+   *
+   * @return A map from ingredient key to the value of the ingredient in cents.
+   */
+  public Map<IngredientKey, Long> getIngredientValues() {
+    return inventory.getIngredientValues();
   }
 
   /**
@@ -229,11 +353,19 @@ public class InventoryManager {
    * @return A formatted string detailing all storages and their respective contents.
    */
   public String getInventoryString() {
-    StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append("###### Inventory #######");
-    storageMap.values()
-        .forEach(storage -> stringBuilder.append(storage.getStorageString()));
-    return stringBuilder.toString();
+    ReportWriter report = this::writeInventory;
+    return report.writeToString();
+  }
+
+  /**
+   * Writes the same report as {@link #getInventoryString()} to the given output,
+   * one lot at a time, so the report starts appearing before all lots are visited.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeInventory(Appendable out) throws IOException {
+    inventory.writeInventory(out);
   }
 
   /**
@@ -250,13 +382,24 @@ public class InventoryManager {
    * Throws an exception if no storage is currently selected.
    **/
   public String getStorageString() {
+    ReportWriter report = this::writeStorage;
+    return report.writeToString();
+  }
+
+  /**
+   * Writes the same report as {@link #getStorageString()} to the given output.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   * @throws IllegalArgumentException if no storage is currently selected
+   */
+  public void writeStorage(Appendable out) throws IOException {
+    assertCurrentStorageIsPresent();
     if (currentStorage == null) {
       throw new IllegalArgumentException("You're currently not in a storage, use the 'go' command");
     }
-    StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append("#### Current Storage ###");
-    stringBuilder.append(currentStorage.getStorageString());
-    return stringBuilder.toString();
+    out.append("#### Current Storage ###");
+    currentStorage.writeStorage(out);
   }
 
   /**
@@ -268,18 +411,22 @@ public class InventoryManager {
   public String getStorageNameString() {
     StringBuilder stringBuilder = new StringBuilder();
     stringBuilder.append("####### Storages #######");
-    storageMap.values().stream()
-        .map(IngredientStorage::getStorageName)
+    inventory.getStorageOverview()
         .forEach(name -> stringBuilder.append("\n# ").append(name));
     return stringBuilder.toString();
   }
 
   /**
    * Retrieves the currently selected ingredient storage.
+   * If the storage has been removed or replaced since it was selected, e.g. by another session,
+   * it is no longer the current storage.
    *
-   * @return The current IngredientStorage object.
+   * @return The current IngredientStorage object, or null if there is none.
    */
   public IngredientStorage getCurrentStorage() {
+    if (isCurrentStorageRemoved()) {
+      currentStorage = null;
+    }
     return currentStorage;
   }
 
@@ -299,7 +446,7 @@ public class InventoryManager {
    * @param storageName The name of the storage to set as the current storage.
    */
   public void setCurrentStorage(String storageName) {
-    IngredientStorage storage = getStorage(Utility.createKey(storageName));
+    IngredientStorage storage = getStorage(storageName);
     if (storage != null) {
       currentStorage = storage;
     }
@@ -311,14 +458,20 @@ public class InventoryManager {
    * @return A string listing all expired ingredients.
    */
   public String getExpiredString() {
+    ReportWriter report = this::writeExpired;
+    return report.writeToString();
+  }
+
+  /**
+   * Writes the same report as {@link #getExpiredString()} to the given output.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  public void writeExpired(Appendable out) throws IOException {
     assertInventoryIsAvailable();
-    List<Ingredient> listOfExpired = currentStorage.getAllExpired();
-    StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append("####### Expired ########");
-    listOfExpired.stream()
-        .map(Ingredient::toString)
-        .forEach(string -> stringBuilder.append("\n").append(string));
-    return stringBuilder.toString();
+    out.append("####### Expired ########");
+    currentStorage.writeExpired(out);
   }
 
   /**
@@ -379,10 +532,36 @@ public class InventoryManager {
    * @throws IllegalArgumentException if no inventory is currently selected.
    */
   private void assertInventoryIsAvailable() {
+    assertCurrentStorageIsPresent();
     if (currentStorage == null) {
       throw new IllegalArgumentException("You are currently not in an inventory,"
           + " please use the 'go' command.");
     }
   }
 
+  /**
+   * Ensures that the current storage, if any, is still in the inventory.
+   * The inventory may be shared, so another session may have removed or replaced the storage
+   * since it was selected. In that case the current storage is cleared.
+   *
+   * @throws IllegalArgumentException if the current storage has been removed or replaced.
+   */
+  private void assertCurrentStorageIsPresent() {
+    if (isCurrentStorageRemoved()) {
+      String storageName = currentStorage.getStorageName();
+      currentStorage = null;
+      throw new IllegalArgumentException("The storage " + storageName
+          + " has been removed, please use the 'go' command.");
+    }
+  }
+
+  /**
+   * Checks if the current storage is no longer the storage of its name in the inventory.
+   *
+   * @return true if there is a current storage, and it has been removed or replaced.
+   */
+  private boolean isCurrentStorageRemoved() {
+    return currentStorage != null
+        && inventory.getStorage(currentStorage.getStorageName()) != currentStorage;
+  }
 }
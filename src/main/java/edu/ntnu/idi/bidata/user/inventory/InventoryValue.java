@@ -0,0 +1,82 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a running total of the value of an inventory, in whole cents.
+ * The total is updated by listening to the storages it is registered with,
+ * so valuation never needs to visit the stored lots.
+ * The totals are updated atomically, so storages may change from several threads at once.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class InventoryValue implements StorageListener {
+
+  private final Map<IngredientKey, Long> ingredientValues;
+  private final LongAdder totalCents;
+
+  /**
+   * Initializes a new InventoryValue with a total value of zero.
+   */
+  public InventoryValue() {
+    ingredientValues = new ConcurrentHashMap<>();
+    totalCents = new LongAdder();
+  }
+
+  @Override
+  public void valueChanged(IngredientStorage storage, IngredientKey key, long deltaCents) {
+    totalCents.add(deltaCents);
+    ingredientValues.compute(key, (k, cents) -> {
+      long newCents = (cents == null) ? deltaCents : cents + deltaCents;
+      return (newCents == 0) ? null : newCents;
+    });
+  }
+
+  /**
+   * Registers the given storage, adding its current value to the total
+   * and listening to all further changes.
+   *
+   * @param storage the storage to be registered
+   */
+  public void register(IngredientStorage storage) {
+    storage.runLocked(() -> {
+      storage.addListener(this);
+      storage.getIngredientValues().forEach((key, cents) -> valueChanged(storage, key, cents));
+    });
+  }
+
+  /**
+   * Removes the given storage, subtracting its current value from the total
+   * and no longer listening to it.
+   *
+   * @param storage the storage to be removed
+   */
+  public void unregister(IngredientStorage storage) {
+    storage.runLocked(() -> {
+      storage.removeListener(this);
+      storage.getIngredientValues().forEach((key, cents) -> valueChanged(storage, key, -cents));
+    });
+  }
+
+  /**
+   * Retrieves the total value of the inventory.
+   *
+   * @return the total value in cents.
+   */
+  public long getTotalCents() {
+    return totalCents.sum();
+  }
+
+  /**
+   * Retrieves the total value of each ingredient across the inventory.
+   *
+   * @return a copy of the map from ingredient key to its value in cents.
+   */
+  public Map<IngredientKey, Long> getIngredientValues() {
+    return new HashMap<>(ingredientValues);
+  }
+}
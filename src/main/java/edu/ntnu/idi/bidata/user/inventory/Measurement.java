@@ -1,6 +1,7 @@
 package edu.ntnu.idi.bidata.user.inventory;
 
 import edu.ntnu.idi.bidata.util.input.UnitInput;
+import edu.ntnu.idi.bidata.util.unit.Quantity;
 import edu.ntnu.idi.bidata.util.unit.UnitConverter;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
@@ -9,21 +10,25 @@ import java.util.Objects;
 
 /**
  * Represents a measurement with a name, amount, unit, and ingredient type.
+ * The amount is held as an exact {@link Quantity} of base units,
+ * so merging and converting measurements does not accumulate rounding errors.
  *
  * @author Nick Heggø
  * @version 2024-12-12
  */
 public class Measurement {
+  private final Quantity quantity;
   private String name; // Ingredient Name
-  private float amount;
-  private ValidUnit unit;
+  private IngredientKey key; // set automatically, based on the name.
   private IngredientType ingredientType; // set automatically, based on ValidUnit.
 
   /**
    * Default constructor for the Measurement class.
    * Initializes a new instance of Measurement with default values.
+   * The unit must be set before the amount.
    */
   public Measurement() {
+    quantity = new Quantity();
   }
 
   /**
@@ -33,9 +38,10 @@ public class Measurement {
    * @param input the unit input containing amount and unit details, must not be null
    */
   public Measurement(String name, UnitInput input) {
+    this();
     setName(name);
-    setAmount(input.getAmount());
     setUnit(input.getUnit());
+    setAmount(input.getAmount());
   }
 
   /**
@@ -45,9 +51,27 @@ public class Measurement {
    * @param unit   the unit of measurement must not be null or unknown
    */
   public Measurement(String name, float amount, ValidUnit unit) {
+    this();
     setName(name);
-    setAmount(amount);
     setUnit(unit);
+    setAmount(amount);
+  }
+
+  /**
+   * Creates a Measurement from an exact amount in base units, e.g. when loading stored data.
+   *
+   * @param name       the name of the ingredient
+   * @param baseAmount the amount in milligrams for solids, or microliters for liquids
+   * @param unit       the unit of measurement; must not be null or unknown
+   * @return the created Measurement
+   * @throws IllegalArgumentException if the base amount is negative or the unit is invalid
+   */
+  public static Measurement ofBase(String name, long baseAmount, ValidUnit unit) {
+    Measurement measurement = new Measurement();
+    measurement.setName(name);
+    measurement.setUnit(unit);
+    measurement.setBaseAmount(baseAmount);
+    return measurement;
   }
 
   @Override
@@ -61,9 +85,8 @@ public class Measurement {
     if (!(o instanceof Measurement that)) {
       return false;
     }
-    return Float.compare(amount, that.amount) == 0
+    return quantity.equals(that.quantity)
         && Objects.equals(name, that.name)
-        && unit == that.unit
         && ingredientType == that.ingredientType;
   }
 
@@ -71,40 +94,87 @@ public class Measurement {
   @Override
   public int hashCode() {
     int result = Objects.hashCode(name);
-    result = 31 * result + Float.hashCode(amount);
-    result = 31 * result + Objects.hashCode(unit);
+    result = 31 * result + quantity.hashCode();
     result = 31 * result + Objects.hashCode(ingredientType);
     return result;
   }
 
   /**
    * Merges the specified Measurement instance with the current one.
-   * The units are automatically adjusted for consistency.
+   * The amounts are added exactly, and the unit of the current measurement is kept.
    * If the merged amount reaches or exceeds 1000, it converts to a standard unit.
    *
    * @param measurementToMerge the Measurement instance to merge with the current one,
    *                           must not be null
-   * @throws IllegalArgumentException if measurementToMerge is null
+   * @throws IllegalArgumentException if measurementToMerge is null,
+   *                                  or if the measurements are of different kinds
    */
   public void merge(Measurement measurementToMerge) {
     if (measurementToMerge == null) {
       throw new IllegalArgumentException("Measurement cannot be null!");
     }
 
-    UnitConverter.autoMergeUnit(measurementToMerge, this.unit);
-    float mergedAmount = this.getAmount() + measurementToMerge.getAmount();
-    this.setAmount(mergedAmount);
-    if (mergedAmount >= 1000) {
-      UnitConverter.convertToStandard(this);
+    quantity.add(measurementToMerge.quantity);
+    if (getAmount() >= 1000) {
+      quantity.convertToStandard();
+    }
+  }
+
+  /**
+   * Checks that the given measurement is of the same kind as this one, so it can be merged.
+   *
+   * @param measurement the measurement to check
+   * @throws IllegalArgumentException if measurement is null,
+   *                                  or if the measurements are of different kinds
+   */
+  public void assertSameKind(Measurement measurement) {
+    if (measurement == null) {
+      throw new IllegalArgumentException("Measurement cannot be null!");
     }
+    quantity.assertSameKind(measurement.quantity);
+  }
+
+  /**
+   * Converts the measurement to the given unit, keeping the exact amount.
+   *
+   * @param targetUnit the unit to convert to; must be of the same kind as the current unit
+   * @throws IllegalArgumentException if the conversion is not allowed
+   */
+  public void convertTo(ValidUnit targetUnit) {
+    quantity.convertTo(targetUnit);
   }
 
   public String getName() {
     return name;
   }
 
+  /**
+   * Sets the name of the measurement, and looks up its ingredient key.
+   * The key is only interned once a lot of the ingredient is stored.
+   *
+   * @param name the name of the ingredient
+   */
   public void setName(String name) {
     this.name = name;
+    this.key = IngredientKey.lookup(name);
+  }
+
+  /**
+   * Replaces the ingredient key with its canonical instance, interning it if needed.
+   */
+  void internKey() {
+    if (key != null) {
+      key = key.intern();
+    }
+  }
+
+  /**
+   * Retrieves the key of the ingredient name, canonical once a lot of it is stored.
+   *
+   * @return the IngredientKey of the name, or null if no name is set.
+   */
+  public IngredientKey getKey() {
+    return key;
   }
 
   public List<Object> getStandardMeasurement() {
@@ -112,25 +182,42 @@ public class Measurement {
   }
 
   /**
-   * Retrieves the amount of the measurement.
+   * Retrieves the amount of the measurement, rounded to two decimal places.
    *
    * @return the amount as a float.
    */
   public float getAmount() {
-    return amount;
+    return quantity.getAmount();
   }
 
   /**
-   * Sets the amount for the measurement.
+   * Retrieves the exact amount of the measurement in base units.
+   *
+   * @return the amount in milligrams for solids, or microliters for liquids.
+   */
+  public long getBaseAmount() {
+    return quantity.getBaseAmount();
+  }
+
+  /**
+   * Sets the exact amount of the measurement in base units.
+   *
+   * @param baseAmount the amount in milligrams for solids, or microliters for liquids
+   * @throws IllegalArgumentException if the base amount is negative
+   */
+  void setBaseAmount(long baseAmount) {
+    quantity.setBaseAmount(baseAmount);
+  }
+
+  /**
+   * Sets the amount for the measurement, in the current unit.
    * Throws IllegalArgumentException if the amount is negative.
    *
    * @param amount the amount to set must be non-negative
+   * @throws IllegalArgumentException if the amount is negative or the unit is not set
    */
   public void setAmount(float amount) {
-    if (amount < 0) {
-      throw new IllegalArgumentException("Amount cannot be negative");
-    }
-    this.amount = amount;
+    quantity.setAmount(amount);
   }
 
   /**
@@ -148,23 +235,18 @@ public class Measurement {
    * @return the valid unit as an instance of ValidUnit.
    */
   public ValidUnit getUnit() {
-    return unit;
+    return quantity.getUnit();
   }
 
   /**
-   * Sets the valid unit for this measurement.
+   * Sets the valid unit for this measurement, keeping the amount as read in the unit.
+   * Use {@link #convertTo(ValidUnit)} to change the unit while keeping the exact amount.
    *
    * @param unit the unit of measurement
    * @throws IllegalArgumentException if the unit is null or UNKNOWN
    */
   public void setUnit(ValidUnit unit) {
-    if (unit == null) {
-      throw new IllegalArgumentException("Unit cannot be null.");
-    }
-    if (unit == ValidUnit.UNKNOWN) {
-      throw new IllegalArgumentException("Invalid unit, please try again.");
-    }
-    this.unit = unit;
+    quantity.setUnit(unit);
     autoSetIngredientType();
   }
 
@@ -173,7 +255,7 @@ public class Measurement {
    * Throws IllegalArgumentException if the valid unit is null or unknown.
    */
   private void autoSetIngredientType() {
-    if (unit == null) {
+    if (getUnit() == null) {
       throw new IllegalArgumentException("Ingredient type cannot be null.");
     }
 
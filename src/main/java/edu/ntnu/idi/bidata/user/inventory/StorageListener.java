@@ -0,0 +1,67 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import java.util.List;
+
+/**
+ * Receives notifications about changes in an IngredientStorage,
+ * allowing indexes outside the storage to be kept up to date.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public interface StorageListener {
+
+  /**
+   * Called when the first lot of an ingredient is added to the storage.
+   *
+   * @param storage the storage the ingredient was added to
+   * @param key     the key of the ingredient
+   * @param lots    the live list of lots stored under the key
+   */
+  default void ingredientAdded(IngredientStorage storage, IngredientKey key,
+                               List<Ingredient> lots) {
+    // default implementation
+  }
+
+  /**
+   * Called when the last lot of an ingredient is removed from the storage.
+   *
+   * @param storage the storage the ingredient was removed from
+   * @param key     the key of the ingredient
+   */
+  default void ingredientRemoved(IngredientStorage storage, IngredientKey key) {
+    // default implementation
+  }
+
+  /**
+   * Called when the total value of an ingredient in the storage changes.
+   *
+   * @param storage    the storage where the value changed
+   * @param key        the key of the ingredient
+   * @param deltaCents the change in value in cents
+   */
+  default void valueChanged(IngredientStorage storage, IngredientKey key, long deltaCents) {
+    // default implementation
+  }
+
+  /**
+   * Called when a lot has been added to the storage, either stored as it is
+   * or merged into the existing lot with the same expiry date.
+   *
+   * @param storage the storage the lot was added to
+   * @param lot     the added lot
+   */
+  default void lotAdded(IngredientStorage storage, Ingredient lot) {
+    // default implementation
+  }
+
+  /**
+   * Called when a lot is removed from the storage.
+   *
+   * @param storage the storage the lot was removed from
+   * @param lot     the removed lot
+   */
+  default void lotRemoved(IngredientStorage storage, Ingredient lot) {
+    // default implementation
+  }
+}
@@ -1,23 +1,39 @@
 package edu.ntnu.idi.bidata.user.recipe;
 
-import java.util.HashSet;
+import edu.ntnu.idi.bidata.user.ChangeListener;
+import edu.ntnu.idi.bidata.util.PrefixIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
  * Represents a collection of recipes, allowing for adding, removing, and searching recipes.
+ * A cookbook may be shared by several sessions: it is guarded by a read/write lock,
+ * so searches run in parallel, and lists returned by the cookbook are copies.
  *
  * @author Nick Heggø
  * @version 2024-12-12
  */
 public class CookBook {
 
-  private final HashSet<Recipe> recipes;
+  private final Map<Recipe, String> recipes; // each recipe and its name in lower case
+  private final PrefixIndex<Recipe> nameIndex; // indexed from the start of every word in the name
+  private final List<ChangeListener> changeListeners;
+  private final ReentrantReadWriteLock lock;
 
   /**
    * Initializes a new CookBook object with an empty collection of recipes.
    */
   public CookBook() {
-    recipes = new HashSet<>();
+    recipes = new HashMap<>();
+    nameIndex = new PrefixIndex<>();
+    changeListeners = new CopyOnWriteArrayList<>();
+    lock = new ReentrantReadWriteLock();
   }
 
   /**
@@ -27,7 +43,16 @@ public class CookBook {
    * @return true if the recipe is in the cookbook, false otherwise
    */
   public boolean isRecipePresent(Recipe recipe) {
-    return recipes.contains(recipe);
+    return read(() -> recipes.containsKey(recipe));
+  }
+
+  /**
+   * Counts the recipes in the cookbook.
+   *
+   * @return the number of recipes
+   */
+  public int getRecipeCount() {
+    return read(recipes::size);
   }
 
   /**
@@ -36,7 +61,7 @@ public class CookBook {
    * @return a list of Recipe objects, representing all recipes in the cookbook.
    */
   public List<Recipe> getAllRecipe() {
-    return recipes.stream().toList();
+    return read(() -> recipes.keySet().stream().toList());
   }
 
   /**
@@ -49,22 +74,69 @@ public class CookBook {
     if (recipe == null) {
       throw new IllegalArgumentException("Recipe is null.");
     }
-    if (isRecipePresent(recipe)) {
+    if (!addRecipeIfAbsent(recipe)) {
       throw new IllegalArgumentException("Recipe already exist!");
     }
-    recipes.add(recipe);
   }
 
   /**
-   * Searches for recipes containing the specified name (case insensitive).
+   * Adds a recipe to the cookbook, unless an equal recipe is already present.
+   *
+   * @param recipe the recipe to add; must not be null
+   * @return true if the recipe was added, false if it is a duplicate
+   * @throws IllegalArgumentException if the recipe is null
+   */
+  public boolean addRecipeIfAbsent(Recipe recipe) {
+    if (recipe == null) {
+      throw new IllegalArgumentException("Recipe is null.");
+    }
+    return write(() -> {
+      if (recipes.putIfAbsent(recipe, recipe.getName().toLowerCase()) != null) {
+        return false;
+      }
+      getWordStarts(recipe.getName()).forEach(key -> nameIndex.add(key, recipe));
+      for (ChangeListener listener : changeListeners) {
+        listener.recipeAdded(recipe);
+      }
+      return true;
+    });
+  }
+
+  /**
+   * Searches for recipes containing the specified name anywhere (case insensitive),
+   * e.g. inside a word, as "dough" is in "Sourdough".
+   * The lower-case names are kept with the recipes, so the scan only compares strings.
+   * Use {@link #findRecipesByPrefix(String)} to search from the start of the words only.
    *
    * @param name the name or partial name to search for in recipe names; must not be null or blank.
-   * @return a list of Recipe objects whose names contain the specified name.
+   * @return a list of Recipe objects whose names contain the specified name, in no particular
+   *         order; an empty list if the name is null.
    */
   public List<Recipe> findRecipesContainingName(String name) {
-    return recipes.stream()
-        .filter(recipe -> recipe.getName().toLowerCase().contains(name.strip().toLowerCase()))
-        .toList();
+    if (name == null) {
+      return List.of();
+    }
+    String lowerCaseName = name.strip().toLowerCase();
+    return read(() -> {
+      List<Recipe> matchingRecipes = new ArrayList<>();
+      recipes.forEach((recipe, lowerCaseRecipeName) -> {
+        if (lowerCaseRecipeName.contains(lowerCaseName)) {
+          matchingRecipes.add(recipe);
+        }
+      });
+      return matchingRecipes;
+    });
+  }
+
+  /**
+   * Searches for recipes with a word in the name starting with the specified prefix
+   * (case insensitive). A prefix of several words must match consecutive words of the name.
+   *
+   * @param prefix the start of a word, or of consecutive words, in the recipe name
+   * @return a list of the matching Recipe objects; an empty list if there is no match.
+   */
+  public List<Recipe> findRecipesByPrefix(String prefix) {
+    return read(() -> nameIndex.findByPrefix(prefix));
   }
 
   /**
@@ -73,9 +145,9 @@ public class CookBook {
    * @return a list of strings representing the names of all recipes in the cookbook.
    */
   public List<String> getRecipeOverview() {
-    return recipes.stream()
+    return read(() -> recipes.keySet().stream()
         .map(Recipe::getName)
-        .toList();
+        .toList());
   }
 
   /**
@@ -84,6 +156,70 @@ public class CookBook {
    * @param recipeToRemove the recipe to be removed; must not be null.
    */
   public void removeRecipe(Recipe recipeToRemove) {
-    recipes.remove(recipeToRemove);
+    write(() -> {
+      if (recipes.remove(recipeToRemove) != null) {
+        getWordStarts(recipeToRemove.getName())
+            .forEach(key -> nameIndex.remove(key, recipeToRemove));
+        for (ChangeListener listener : changeListeners) {
+          listener.recipeRemoved(recipeToRemove);
+        }
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Adds a listener to be notified about the recipes added and removed.
+   *
+   * @param listener the listener to be notified
+   */
+  public void addChangeListener(ChangeListener listener) {
+    changeListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener, so it is no longer notified about changes in the cookbook.
+   *
+   * @param listener the listener to be removed
+   */
+  public void removeChangeListener(ChangeListener listener) {
+    changeListeners.remove(listener);
+  }
+
+  private <T> T read(Supplier<T> action) {
+    lock.readLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private <T> T write(Supplier<T> action) {
+    lock.writeLock().lock();
+    try {
+      return action.get();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the part of the name starting at each word, e.g. "cookie dough" and "dough"
+   * for "Cookie Dough", so a prefix query matches from the start of any word.
+   *
+   * @param name the name to split
+   * @return a list of the name from the start of each word.
+   */
+  private static List<String> getWordStarts(String name) {
+    List<String> wordStarts = new ArrayList<>();
+    String strippedName = name.strip();
+    for (int i = 0; i < strippedName.length(); i++) {
+      if (!Character.isWhitespace(strippedName.charAt(i))
+          && (i == 0 || Character.isWhitespace(strippedName.charAt(i - 1)))) {
+        wordStarts.add(strippedName.substring(i));
+      }
+    }
+    return wordStarts;
   }
 }
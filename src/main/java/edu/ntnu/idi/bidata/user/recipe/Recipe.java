@@ -5,6 +5,7 @@ import edu.ntnu.idi.bidata.user.inventory.Measurement;
 import edu.ntnu.idi.bidata.util.Utility;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -119,7 +120,7 @@ public class Recipe implements Printable {
    * Retrieves all measurements from the list of steps in the recipe.
    * Combines and returns all measurements found in the steps, if any.
    *
-   * @return a list of Measurement objects collected from all steps in the recipe.
+   * @return an unmodifiable list of Measurement objects collected from all steps in the recipe.
    */
   public List<Measurement> getAllMeasurement() {
     ArrayList<Measurement> measurements = new ArrayList<>();
@@ -128,7 +129,7 @@ public class Recipe implements Printable {
         measurements.addAll(step.getMeasurements());
       }
     }
-    return measurements.stream().toList();
+    return Collections.unmodifiableList(measurements);
   }
 
   /**
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.user.recipe;
 
+import edu.ntnu.idi.bidata.user.ChangeListener;
 import edu.ntnu.idi.bidata.user.inventory.Measurement;
 import edu.ntnu.idi.bidata.util.InputScanner;
 import edu.ntnu.idi.bidata.util.OutputHandler;
@@ -32,9 +33,31 @@ public class RecipeManager {
    * @param outputHandler an OutputHandler instance for displaying output to users
    */
   public RecipeManager(InputScanner inputScanner, OutputHandler outputHandler) {
+    this(new CookBook(), inputScanner, outputHandler);
+  }
+
+  /**
+   * Constructs a RecipeManager working on the given cookbook, which may be shared
+   * with other managers.
+   *
+   * @param cookBook      the cookbook holding the recipes
+   * @param inputScanner  an InputScanner instance for reading user inputs
+   * @param outputHandler an OutputHandler instance for displaying output to users
+   */
+  public RecipeManager(CookBook cookBook, InputScanner inputScanner,
+                       OutputHandler outputHandler) {
     this.inputScanner = inputScanner;
     this.outputHandler = outputHandler;
-    cookBook = new CookBook();
+    this.cookBook = cookBook;
+  }
+
+  /**
+   * Retrieves the cookbook holding the recipes.
+   *
+   * @return the CookBook of this manager
+   */
+  public CookBook getCookBook() {
+    return cookBook;
   }
 
   /**
@@ -62,14 +85,30 @@ public class RecipeManager {
     cookBook.addRecipe(recipeToBeAdded);
   }
 
+  /**
+   * Adds a recipe to the cookbook, unless an equal recipe is already present.
+   *
+   * @param recipeToBeAdded the recipe to be added to the cookbook
+   * @return true if the recipe was added, false if it is a duplicate
+   */
+  public boolean addRecipeIfAbsent(Recipe recipeToBeAdded) {
+    return cookBook.addRecipeIfAbsent(recipeToBeAdded);
+  }
+
   /**
    * Finds and returns a list of recipes whose names contain the specified substring.
+   * Recipes with a word starting with the name are looked up in the prefix index.
+   * Only if there are none, the names are scanned for the name anywhere inside a word.
    *
    * @param name the name or part of a name to search for; must not be null or blank.
    * @return a list of Recipe objects with names matching the specified substring.
    */
   public List<Recipe> findRecipe(String name) {
-    return cookBook.findRecipesContainingName(name);
+    List<Recipe> matchingRecipes = cookBook.findRecipesByPrefix(name);
+    if (matchingRecipes.isEmpty()) {
+      matchingRecipes = cookBook.findRecipesContainingName(name);
+    }
+    return matchingRecipes;
   }
 
   /**
@@ -90,6 +129,24 @@ public class RecipeManager {
     cookBook.removeRecipe(recipeToRemove);
   }
 
+  /**
+   * Adds a listener to be notified about the recipes added to and removed from the cookbook.
+   *
+   * @param listener the listener to be notified
+   */
+  public void addChangeListener(ChangeListener listener) {
+    cookBook.addChangeListener(listener);
+  }
+
+  /**
+   * Removes a listener, so it is no longer notified about changes in the cookbook.
+   *
+   * @param listener the listener to be removed
+   */
+  public void removeChangeListener(ChangeListener listener) {
+    cookBook.removeChangeListener(listener);
+  }
+
   /**
    * Prompts the user to input a name for the recipe and sets it in the RecipeBuilder.
    *
@@ -9,21 +9,38 @@ import edu.ntnu.idi.bidata.user.recipe.RecipeBuilder;
 import edu.ntnu.idi.bidata.user.recipe.Step;
 import edu.ntnu.idi.bidata.util.command.Command;
 import edu.ntnu.idi.bidata.util.command.IllegalCommandCombinationException;
+import edu.ntnu.idi.bidata.util.input.CommandInput;
+import edu.ntnu.idi.bidata.util.input.CommandLexer;
+import edu.ntnu.idi.bidata.util.metrics.CommandExecutedEvent;
+import edu.ntnu.idi.bidata.util.metrics.MetricsRegistry;
+import edu.ntnu.idi.bidata.util.persistence.Journal;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.locks.Lock;
 
 /**
  * The Application class represents the main execution for the meal planning application.
  * It initializes user data, including storage, and manages user inputs to process commands.
+ * Besides the console session of the application, further sessions may be opened on the same
+ * data, each with its own input, output and current storage, e.g. by an {@link ApplicationServer}.
  *
  * @author Nick Heggø
  * @version 2024-12-12
  */
 public class Application {
+  private static final int SNAPSHOT_INTERVAL = 1000; // changes between snapshots
   private final User user;
   private final InputScanner inputScanner;
   private final OutputHandler outputHandler;
+  private final boolean session;
+  private Journal journal;
   private boolean running;
 
   /**
@@ -34,40 +51,195 @@ public class Application {
     user = userSetup();
     inputScanner = user.getInputScanner();
     outputHandler = user.getOutputHandler();
+    session = false;
     // userSetup();??
   }
 
+  /**
+   * Initializes a new instance of the Application with durable data.
+   * The data stored in the given directory is restored, and every change is saved there.
+   *
+   * @param dataDirectory the directory holding the saved data; created if missing
+   * @throws UncheckedIOException if the saved data cannot be read
+   */
+  public Application(Path dataDirectory) {
+    this();
+    try {
+      journal = Journal.open(dataDirectory, user, SNAPSHOT_INTERVAL);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open the saved data in " + dataDirectory, e);
+    }
+  }
+
+  /**
+   * Initializes a session working on the data of another application.
+   *
+   * @param user    the user of the session, sharing the inventory and cookbook
+   * @param journal the journal saving the shared data, or null if the data is not saved
+   */
+  private Application(User user, Journal journal) {
+    this.user = user;
+    inputScanner = user.getInputScanner();
+    outputHandler = user.getOutputHandler();
+    session = true;
+    this.journal = journal;
+  }
+
   /**
    * Starts the application by displaying the help string
    * and entering a loop to process user commands.
-   * The loop continues until a command causes the application to exit.
+   * The loop continues until a command causes the application to exit,
+   * or the input ends.
    * It handles any exceptions by printing the error messages.
    */
   public void run() {
-    outputHandler.printWelcomeMessage(user.getName());
-    outputHandler.printHelpMessage();
-    startUpCondition(); // If wish to start as a blank app, remove this method.
-    running = true;
-    engine();
+    prepareData();
+    runSession();
   }
 
   /**
    * Terminates the application by displaying a goodbye message and stopping the execution loop.
+   * Terminating a session only ends the session, while the data stays open for the others.
    */
   public void terminate() {
     outputHandler.printGoodbyeMessage();
     running = false;
+    if (!session) {
+      closeData();
+    }
   }
 
   /**
-   * Instantiates and executes a user command.
+   * Sets up the demo data, unless saved data was restored.
+   */
+  public void prepareData() {
+    if (journal == null || !journal.hasRecoveredData()) {
+      startUpCondition(); // If wish to start as a blank app, remove this method.
+      commitChanges();
+    }
+  }
+
+  /**
+   * Opens a new session on the data of this application, reading commands from the given
+   * input and printing to the given output. The session has its own current storage.
+   *
+   * @param in  the input of the session
+   * @param out the output of the session
+   * @return the session, which is started by {@link #runSession()}
+   */
+  Application openSession(InputStream in, OutputSink out) {
+    OutputHandler sessionOutput = new OutputHandler(out);
+    return openSession(new InputScanner(new Scanner(in, StandardCharsets.UTF_8), sessionOutput),
+        sessionOutput);
+  }
+
+  /**
+   * Opens a new session on the data of this application, using the given input and output.
+   *
+   * @param sessionInput  the input scanner of the session
+   * @param sessionOutput the output handler of the session
+   * @return the session
+   */
+  Application openSession(InputScanner sessionInput, OutputHandler sessionOutput) {
+    User sessionUser = new User(sessionInput, sessionOutput,
+        user.getInventoryManager().getInventory(), user.getRecipeManager().getCookBook(),
+        user.getRecipeAvailability());
+    sessionUser.setName(user.getName());
+    return new Application(sessionUser, journal);
+  }
+
+  /**
+   * Displays the help string and processes the commands of the user,
+   * until a command causes the session to exit or the input ends.
+   */
+  void runSession() {
+    outputHandler.printWelcomeMessage(user.getName());
+    outputHandler.printHelpMessage();
+    running = true;
+    engine();
+  }
+
+  /**
+   * Saves the pending changes and stops saving further changes, if the data is saved.
+   *
+   * @throws UncheckedIOException if the changes cannot be written
+   */
+  public void closeData() {
+    if (journal != null) {
+      try {
+        journal.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not save the changes.", e);
+      }
+      journal = null;
+    }
+  }
+
+  /**
+   * Executes the given command, holding the change lock of the journal meanwhile,
+   * so no snapshot is written while the command changes the data.
+   * The lock is released while the command waits for the user to answer a question,
+   * so an idle session does not keep the other sessions from writing snapshots.
    * Uses the user instance and the current application context
    * to determine and perform the relevant command action.
+   * The time taken is recorded in the {@linkplain MetricsRegistry#getDefault() metrics}
+   * under the name of the command, including any time spent waiting for the user to answer
+   * the questions of the command, and emitted as a {@link CommandExecutedEvent}
+   * when a flight recording is running.
+   *
+   * @param commandInput the command to execute
+   */
+  void execute(CommandInput commandInput) {
+    CommandExecutedEvent event = new CommandExecutedEvent();
+    event.begin();
+    long start = System.nanoTime();
+    long printedBefore = outputHandler.getCharactersPrinted();
+    Lock changeLock = (journal == null) ? null : journal.getChangeLock();
+    if (changeLock != null) {
+      changeLock.lock();
+      inputScanner.setReleasedWhileWaiting(changeLock);
+    }
+    try {
+      user.setCommandInput(commandInput);
+      Command.of(user, this).execute();
+    } finally {
+      if (changeLock != null) {
+        inputScanner.setReleasedWhileWaiting(null);
+        changeLock.unlock();
+      }
+      MetricsRegistry.getDefault().histogram(metricName(commandInput))
+          .record(System.nanoTime() - start);
+      event.end();
+      if (event.shouldCommit()) {
+        event.command = commandInput.getCommand().name();
+        event.subcommand = commandInput.getSubcommand();
+        event.outputCharacters = outputHandler.getCharactersPrinted() - printedBefore;
+        event.storages = user.getInventoryManager().getInventory().getStorages().size();
+        event.recipes = user.getRecipeManager().getCookBook().getRecipeCount();
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Names the metric of a command by its command word and subcommand, e.g.
+   * {@code list available}. Subcommands that are not known are left out,
+   * so mistyped input does not add a metric each.
    */
-  private Command getCommand() {
-    outputHandler.printCommandPrompt();
-    user.setCommandInput(inputScanner.fetchCommand());
-    return Command.of(user, this);
+  private static String metricName(CommandInput commandInput) {
+    String command = commandInput.getCommand().name().toLowerCase();
+    String subcommand = commandInput.getSubcommand();
+    return CommandLexer.isSubcommand(subcommand) ? command + " " + subcommand : command;
+  }
+
+  /**
+   * Makes the changes of the last commands durable with a single disk flush,
+   * if the data is saved.
+   */
+  void commitChanges() {
+    if (journal != null) {
+      journal.commit();
+    }
   }
 
   /**
@@ -133,23 +305,37 @@ public class Application {
 
   /**
    * Continuously processes and executes user commands while the application is running.
-   * Catches and handles exceptions related to invalid commands or aborted operations.
-   * Uses the output handler to display error messages and command help.
+   * Terminates once the input has ended, e.g. when the connection of a session is closed.
    */
   private void engine() {
     while (running) {
-      try {
-        Command command = getCommand();
-        command.execute();
-      } catch (IllegalArgumentException | AbortException e) {
-        outputHandler.printOutput(e.getMessage());
-      } catch (IllegalCommandCombinationException illegalCommandCombinationException) {
-        outputHandler.printOutput(illegalCommandCombinationException.getMessage());
-        outputHandler.printCommandHelpMessage(user.getCommandInput().getCommand());
+      outputHandler.printCommandPrompt();
+      if (inputScanner.hasNextLine()) {
+        processCommand();
+      } else {
+        terminate();
       }
     }
   }
 
+  /**
+   * Reads and executes one command, and commits its changes.
+   * Catches and handles exceptions related to invalid commands or aborted operations.
+   * Uses the output handler to display error messages and command help.
+   */
+  private void processCommand() {
+    try {
+      execute(inputScanner.fetchCommand());
+    } catch (IllegalArgumentException | AbortException e) {
+      outputHandler.printOutput(e.getMessage());
+    } catch (IllegalCommandCombinationException illegalCommandCombinationException) {
+      outputHandler.printOutput(illegalCommandCombinationException.getMessage());
+      outputHandler.printCommandHelpMessage(user.getCommandInput().getCommand());
+    } finally {
+      commitChanges();
+    }
+  }
+
   /**
    * Sets up and initializes a new User instance with default configurations.
    *
@@ -0,0 +1,136 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the application to several terminals from one process.
+ * Every connection gets its own session, running the same commands as the console on the
+ * shared inventory and cookbook, with its own current storage and command history.
+ * Each session runs on a virtual thread, so an idle session only costs the memory of its
+ * objects and a parked thread, and thousands of sessions can be open at the same time.
+ * The server only accepts connections from the local machine.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class ApplicationServer implements Closeable {
+  private static final int BACKLOG = 1024; // connections waiting to be accepted
+
+  private final Application application;
+  private final ServerSocket serverSocket;
+  private final ExecutorService sessions;
+  private final Set<Socket> connections;
+  private final AtomicBoolean closed;
+
+  /**
+   * Constructs a server for the data of the given application, listening on the given port
+   * of the loopback address. The demo data is set up unless saved data was restored.
+   *
+   * @param application the application holding the shared data
+   * @param port        the port to listen on, or 0 to use any free port
+   * @throws IOException if the port cannot be opened
+   * @throws IllegalArgumentException if the application is null or the port out of range
+   */
+  public ApplicationServer(Application application, int port) throws IOException {
+    if (application == null) {
+      throw new IllegalArgumentException("Application cannot be null.");
+    }
+    this.application = application;
+    serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+    sessions = Executors.newVirtualThreadPerTaskExecutor();
+    connections = ConcurrentHashMap.newKeySet();
+    closed = new AtomicBoolean(false);
+    application.prepareData();
+  }
+
+  /**
+   * Retrieves the port the server listens on.
+   *
+   * @return the local port of the server
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Retrieves the number of sessions currently connected.
+   *
+   * @return the number of open connections
+   */
+  public int getSessionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Accepts connections and starts a session for each, until the server is closed.
+   *
+   * @throws IOException if accepting a connection fails while the server is open
+   */
+  public void serve() throws IOException {
+    while (!closed.get()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (IOException e) {
+        if (closed.get()) {
+          return;
+        }
+        throw e;
+      }
+      connections.add(socket);
+      if (closed.get()) {
+        socket.close(); // closed while accepting, after the open connections were closed
+        return;
+      }
+      sessions.execute(() -> runSession(socket));
+    }
+  }
+
+  /**
+   * Stops accepting connections, closes every open session, waits for the sessions to end,
+   * and saves the data. Closing an already closed server has no effect.
+   *
+   * @throws IOException if the server socket cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      serverSocket.close();
+      for (Socket socket : connections) {
+        socket.close();
+      }
+      sessions.close();
+    } finally {
+      application.closeData();
+    }
+  }
+
+  /**
+   * Runs a session on the given connection until the user exits or the connection is closed.
+   *
+   * @param socket the connection of the session
+   */
+  private void runSession(Socket socket) {
+    try (socket) {
+      OutputSink out = OutputSink.of(socket.getOutputStream());
+      application.openSession(socket.getInputStream(), out).runSession();
+    } catch (IOException | UncheckedIOException e) {
+      // the connection was lost, which ends the session like exiting does
+    } finally {
+      connections.remove(socket);
+    }
+  }
+}
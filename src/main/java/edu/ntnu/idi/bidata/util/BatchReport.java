@@ -0,0 +1,49 @@
+package edu.ntnu.idi.bidata.util;
+
+/**
+ * The outcome of running a script of commands.
+ *
+ * @param commands     the number of commands run successfully
+ * @param elapsedNanos the duration of the script in nanoseconds
+ * @param failure      the reason the script stopped, prefixed by the line number,
+ *                     or null if every command succeeded
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record BatchReport(long commands, long elapsedNanos, String failure) {
+
+  /**
+   * Checks if every command of the script succeeded.
+   *
+   * @return true if the script ran to the end, false if it stopped at a failing command
+   */
+  public boolean isSuccessful() {
+    return failure == null;
+  }
+
+  /**
+   * Retrieves the throughput of the script.
+   *
+   * @return the number of commands run per second
+   */
+  public long getCommandsPerSecond() {
+    return (elapsedNanos == 0) ? commands : commands * 1_000_000_000L / elapsedNanos;
+  }
+
+  /**
+   * Retrieves a summary of the script, followed by the reason it stopped, if it failed.
+   *
+   * @return a String representation of the report
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder()
+        .append("Ran ").append(commands).append(" commands in ")
+        .append(elapsedNanos / 1_000_000).append(" ms (")
+        .append(getCommandsPerSecond()).append(" commands/s).");
+    if (failure != null) {
+      builder.append(System.lineSeparator()).append("  Stopped at ").append(failure);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,122 @@
+package edu.ntnu.idi.bidata.util;
+
+import edu.ntnu.idi.bidata.util.command.ValidCommand;
+import edu.ntnu.idi.bidata.util.input.CommandInput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs a script of fully specified commands on the data of an application,
+ * without prompts or banners. Every line holds one command, written as at the console,
+ * e.g. {@code add ingredient Milk, 1.5, l, 20, 4}; blank lines and lines starting with '#'
+ * are skipped. A command that would prompt for a missing argument fails instead.
+ * The script stops at the first failing command, or at an {@code exit} command.
+ * The output of the commands is buffered, and their changes are committed together
+ * every {@value #COMMIT_INTERVAL} commands rather than after each one.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class BatchRunner {
+  static final int COMMIT_INTERVAL = 1000;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Application application;
+
+  /**
+   * Constructs a runner for scripts working on the data of the given application.
+   *
+   * @param application the application holding the data
+   * @throws IllegalArgumentException if the application is null
+   */
+  public BatchRunner(Application application) {
+    if (application == null) {
+      throw new IllegalArgumentException("Application cannot be null.");
+    }
+    this.application = application;
+  }
+
+  /**
+   * Runs the script in the file at the given path.
+   *
+   * @param script the file holding the script
+   * @param out    the output of the commands
+   * @return the report of the script
+   * @throws IOException if the script cannot be read
+   */
+  public BatchReport runFile(Path script, OutputStream out) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+      return run(reader, out);
+    }
+  }
+
+  /**
+   * Runs the script read from the given reader.
+   *
+   * @param script the reader of the script
+   * @param out    the output of the commands, which is flushed once the script has ended
+   * @return the report of the script
+   * @throws IOException if the script cannot be read
+   */
+  public BatchReport run(BufferedReader script, OutputStream out) throws IOException {
+    long start = System.nanoTime();
+    OutputHandler outputHandler = new OutputHandler(
+        new StreamSink(out, StandardCharsets.UTF_8, BUFFER_SIZE));
+    InputScanner inputScanner = InputScanner.nonInteractive(outputHandler);
+    Application session = application.openSession(inputScanner, outputHandler);
+    long commands = 0;
+    long lineNumber = 0;
+    String failure = null;
+    try {
+      String line = script.readLine();
+      while (line != null && failure == null) {
+        lineNumber++;
+        String commandLine = line.strip();
+        if (!commandLine.isEmpty() && commandLine.charAt(0) != '#') {
+          CommandInput commandInput = inputScanner.parseCommand(commandLine);
+          if (commandInput.getCommand() == ValidCommand.EXIT) {
+            break;
+          }
+          String error = execute(session, commandInput);
+          if (error == null) {
+            commands++;
+            if (commands % COMMIT_INTERVAL == 0) {
+              session.commitChanges();
+            }
+          } else {
+            failure = "line " + lineNumber + ": " + error + " ('" + commandLine + "')";
+          }
+        }
+        line = script.readLine();
+      }
+    } finally {
+      session.commitChanges();
+      outputHandler.flush();
+    }
+    return new BatchReport(commands, System.nanoTime() - start, failure);
+  }
+
+  /**
+   * Executes a command, catching the reason it fails.
+   *
+   * @param session      the session running the script
+   * @param commandInput the command to execute
+   * @return the reason the command failed, or null if it succeeded
+   */
+  private static String execute(Application session, CommandInput commandInput) {
+    if (commandInput.isUnknown()) {
+      return "Unknown command.";
+    }
+    try {
+      session.execute(commandInput);
+      return null;
+    } catch (RuntimeException e) {
+      return (e.getMessage() == null) ? e.toString() : e.getMessage();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Provides the current date for all expiry computations in the application.
+ * The date is read from a replaceable {@link Clock}, so tests can move time forward.
+ * The current day is cached as a day since the epoch, together with the instant it ends,
+ * so asking for the date only reads the clock's millisecond counter until midnight passes.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class ClockService {
+  private static volatile Clock clock = Clock.systemDefaultZone();
+  private static volatile CachedDay cachedDay = computeDay(clock);
+
+  private ClockService() {
+  }
+
+  /**
+   * Retrieves the clock used for expiry computations.
+   *
+   * @return the current clock.
+   */
+  public static Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * Replaces the clock used for expiry computations, e.g. with a fixed or offset clock in tests.
+   *
+   * @param newClock the clock to be used; must not be null
+   * @throws IllegalArgumentException if the clock is null
+   */
+  public static void setClock(Clock newClock) {
+    if (newClock == null) {
+      throw new IllegalArgumentException("Clock cannot be null.");
+    }
+    clock = newClock;
+    cachedDay = computeDay(newClock);
+  }
+
+  /**
+   * Restores the system clock in the default time zone.
+   */
+  public static void resetClock() {
+    setClock(Clock.systemDefaultZone());
+  }
+
+  /**
+   * Retrieves the current day as the number of days since 1970-01-01.
+   *
+   * @return the current epoch day.
+   */
+  public static int todayEpochDay() {
+    Clock currentClock = clock;
+    CachedDay day = cachedDay;
+    if (currentClock.millis() >= day.endMillis()) {
+      day = computeDay(currentClock);
+      cachedDay = day;
+    }
+    return day.epochDay();
+  }
+
+  /**
+   * Retrieves the current date.
+   *
+   * @return the current date as a LocalDate.
+   */
+  public static LocalDate today() {
+    return LocalDate.ofEpochDay(todayEpochDay());
+  }
+
+  /**
+   * Computes the current day of the given clock and the instant at which it ends.
+   *
+   * @param clock the clock to read
+   * @return the current day with its end instant.
+   */
+  private static CachedDay computeDay(Clock clock) {
+    ZoneId zone = clock.getZone();
+    LocalDate date = LocalDate.now(clock);
+    long endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    return new CachedDay(Math.toIntExact(date.toEpochDay()), endMillis);
+  }
+
+  /**
+   * An epoch day together with the instant, in epoch milliseconds, at which it ends.
+   *
+   * @param epochDay  the day since the epoch
+   * @param endMillis the first millisecond of the next day
+   */
+  private record CachedDay(int epochDay, long endMillis) {
+  }
+}
@@ -0,0 +1,58 @@
+package edu.ntnu.idi.bidata.util;
+
+/**
+ * An output sink counting the characters written through it to another sink,
+ * so the size of the output of a command can be recorded.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class CountingSink implements OutputSink {
+  private final OutputSink sink;
+  private long count;
+
+  /**
+   * Constructs a sink counting the characters written to the given sink.
+   *
+   * @param sink the sink to write to
+   */
+  CountingSink(OutputSink sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Retrieves the number of characters written so far.
+   *
+   * @return the number of characters
+   */
+  long getCount() {
+    return count;
+  }
+
+  @Override
+  public OutputSink append(CharSequence text) {
+    CharSequence written = (text == null) ? "null" : text;
+    sink.append(written);
+    count += written.length();
+    return this;
+  }
+
+  @Override
+  public OutputSink append(CharSequence text, int start, int end) {
+    sink.append(text, start, end);
+    count += end - start;
+    return this;
+  }
+
+  @Override
+  public OutputSink append(char c) {
+    sink.append(c);
+    count++;
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    sink.flush();
+  }
+}
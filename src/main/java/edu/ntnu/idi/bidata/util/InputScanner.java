@@ -1,12 +1,11 @@
 package edu.ntnu.idi.bidata.util;
 
-import edu.ntnu.idi.bidata.util.command.CommandRegistry;
 import edu.ntnu.idi.bidata.util.input.CommandInput;
+import edu.ntnu.idi.bidata.util.input.CommandLexer;
 import edu.ntnu.idi.bidata.util.input.UnitInput;
-import edu.ntnu.idi.bidata.util.unit.UnitRegistry;
-import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
 import java.util.Scanner;
+import java.util.concurrent.locks.Lock;
 
 /**
  * The InputScanner class is responsible for reading
@@ -19,7 +18,9 @@ import java.util.Scanner;
  */
 public class InputScanner {
   private final OutputHandler outputHandler;
-  private final Scanner scanner;
+  private final Scanner scanner; // null if the input scanner never reads input
+  private final CommandLexer lexer = new CommandLexer();
+  private Lock releasedWhileWaiting; // null unless a lock is to be released while waiting
 
   /**
    * Default constructor for InputScanner.
@@ -48,8 +49,50 @@ public class InputScanner {
    * @param scannerSource the Scanner object to be used for input parsing.
    */
   public InputScanner(Scanner scannerSource) {
+    this(scannerSource, new OutputHandler());
+  }
+
+  /**
+   * Constructs an InputScanner reading from the given scanner and prompting through
+   * the given OutputHandler, e.g. for a remote session.
+   *
+   * @param scannerSource the Scanner object to be used for input parsing.
+   * @param outputHandler the OutputHandler used for managing output display
+   */
+  public InputScanner(Scanner scannerSource, OutputHandler outputHandler) {
     scanner = scannerSource;
-    outputHandler = new OutputHandler();
+    this.outputHandler = outputHandler;
+  }
+
+  /**
+   * Constructs an InputScanner that never reads input, for running fully specified commands,
+   * e.g. from a script. A command prompting for more input is aborted instead of waiting.
+   *
+   * @param outputHandler the OutputHandler used for managing output display
+   * @return the non-interactive InputScanner
+   */
+  public static InputScanner nonInteractive(OutputHandler outputHandler) {
+    return new InputScanner((Scanner) null, outputHandler);
+  }
+
+  /**
+   * Checks if there is another line of input, waiting for it if necessary.
+   *
+   * @return true if there is another line, false if the input has ended.
+   */
+  public boolean hasNextLine() {
+    return scanner != null && waitForLine();
+  }
+
+  /**
+   * Sets a lock to be released while waiting for the next line of input,
+   * so a lock held for the duration of a command is not held while the user is thinking.
+   * The lock must be held by the thread reading the input for as long as it is set.
+   *
+   * @param lock the lock to release while waiting, or null to keep all locks while waiting
+   */
+  public void setReleasedWhileWaiting(Lock lock) {
+    releasedWhileWaiting = lock;
   }
 
   /**
@@ -59,9 +102,17 @@ public class InputScanner {
    * @return a UserInput object representing the parsed command input.
    */
   public CommandInput fetchCommand() {
-    String scannedLine = nextLine();
-    String[] tokenized = tokenizeInput(scannedLine);
-    return createCommandInput(tokenized);
+    return parseCommand(nextLine());
+  }
+
+  /**
+   * Parses the given line as a command, the same way as a line of user input.
+   *
+   * @param commandLine the line holding the command, subcommand and argument.
+   * @return a CommandInput object representing the parsed command input.
+   */
+  public CommandInput parseCommand(String commandLine) {
+    return lexer.lexCommand(commandLine);
   }
 
   /**
@@ -69,12 +120,11 @@ public class InputScanner {
    * The input is scanned, tokenized, and converted into a UserInput object.
    *
    * @return a UserInput object representing the parsed unit input.
+   * @throws AbortException if the input has ended.
    */
   public UnitInput fetchUnit() {
-    String scannedLine = nextLine();
-    String[] tokenized = tokenizeInput(scannedLine);
-    assertUnitInput(tokenized);
-    return createUnitInput(tokenized);
+    assertInputOpen();
+    return lexer.lexUnit(nextLine());
   }
 
   /**
@@ -87,6 +137,7 @@ public class InputScanner {
   public UnitInput collectValidUnitInput() {
     UnitInput unitInput = null;
     while (unitInput == null) {
+      assertInputOpen();
       try {
         unitInput = fetchUnit();
       } catch (IllegalArgumentException e) {
@@ -107,6 +158,7 @@ public class InputScanner {
   public String collectValidString() {
     String input = null;
     while (input == null) {
+      assertInputOpen();
       try {
         input = nextLine();
       } catch (IllegalArgumentException e) {
@@ -126,6 +178,7 @@ public class InputScanner {
   public float collectValidFloat() {
     float input = -1.0f;
     while (input < 0f) {
+      assertInputOpen();
       try {
         input = nextFloat();
       } catch (IllegalArgumentException illegalArgumentException) {
@@ -144,6 +197,7 @@ public class InputScanner {
   public int collectValidInteger() {
     int result = -1;
     while (result < 0) {
+      assertInputOpen();
       try {
         result = nextInteger();
       } catch (IllegalArgumentException illegalArgumentException) {
@@ -155,11 +209,14 @@ public class InputScanner {
 
   /**
    * Reads and returns the next trimmed line from the input.
+   * Any buffered output is flushed first, so the user sees what they are answering.
    *
    * @return the next line of input as a trimmed string.
    * @throws IllegalArgumentException if no input is found.
    */
   public String nextLine() {
+    assertInteractive();
+    outputHandler.flush();
     assertEmptyLine();
     String inputLine = scanner.nextLine().strip();
     assertEmptyInput(inputLine);
@@ -175,6 +232,7 @@ public class InputScanner {
    * @throws IllegalArgumentException if the input is blank or cannot be parsed as a float.
    */
   public float nextFloat() {
+    assertInteractive();
     assertEmptyLine();
     return Float.parseFloat(nextLine());
   }
@@ -186,22 +244,11 @@ public class InputScanner {
    * @throws IllegalArgumentException if no input is found or the input cannot be parsed as an int.
    */
   public int nextInteger() {
+    assertInteractive();
     assertEmptyLine();
     return Integer.parseInt(nextLine());
   }
 
-  /**
-   * Validates the provided tokens array to ensure it contains at least two elements.
-   *
-   * @param tokens an array of strings representing the user input tokens
-   * @throws IllegalArgumentException if the array has fewer than two elements
-   */
-  private void assertUnitInput(String[] tokens) {
-    if (tokens.length < 2) {
-      throw new IllegalArgumentException("Missing unit inputs.");
-    }
-  }
-
   /**
    * Checks if the provided input is equal to "abort" (case-insensitive)
    * and throws an AbortException if true.
@@ -221,60 +268,63 @@ public class InputScanner {
    * @throws IllegalArgumentException if no input is found.
    */
   private void assertEmptyLine() {
-    if (!scanner.hasNextLine()) {
+    if (!waitForLine()) {
       throw new IllegalArgumentException("There are no lines to scan.");
     }
   }
 
   /**
-   * Asserts that the input string is not empty.
+   * Asserts that the input has not ended, so a prompt repeated until valid input
+   * is given does not repeat forever once the input is closed.
    *
-   * @param input the string input to be validated
-   * @throws IllegalArgumentException if the input is empty or consists only of whitespace
+   * @throws AbortException if the input has ended.
    */
-  private void assertEmptyInput(String input) {
-    if (input.isBlank()) {
-      throw new IllegalArgumentException("Input cannot be empty.");
+  private void assertInputOpen() {
+    assertInteractive();
+    if (!waitForLine()) {
+      throw new AbortException("The input has ended.");
     }
   }
 
   /**
-   * Splits an input line into a maximum of three tokens based on whitespace.
+   * Waits until there is another line of input or the input ends,
+   * releasing the lock set by {@link #setReleasedWhileWaiting(Lock)} meanwhile.
    *
-   * @param inputLine the input string to be tokenized.
-   * @return an array containing up to three tokens extracted from the input string.
+   * @return true if there is another line, false if the input has ended.
    */
-  private String[] tokenizeInput(String inputLine) {
-    return inputLine.split("\\s+", 3);
+  private boolean waitForLine() {
+    Lock lock = releasedWhileWaiting;
+    if (lock == null) {
+      return scanner.hasNextLine();
+    }
+    lock.unlock();
+    try {
+      return scanner.hasNextLine();
+    } finally {
+      lock.lock();
+    }
   }
 
   /**
-   * Processes user input tokens and creates a UserInput object based on those tokens.
+   * Asserts that the input scanner reads input, i.e. that it is allowed to prompt.
    *
-   * @param tokens an array of strings representing the user's input, split by whitespace.
-   *               The first token is treated as the command, the second as the subcommand,
-   *               and the third as the full input string.
-   * @return a UserInput object containing the parsed command, subcommand, and full input string.
+   * @throws AbortException if the input scanner is not interactive.
    */
-  private CommandInput createCommandInput(String[] tokens) {
-    String command = (tokens.length > 0) ? tokens[0].toLowerCase() : null;
-    String subcommand = (tokens.length > 1) ? tokens[1].toLowerCase() : null;
-    String inputString = (tokens.length > 2) ? tokens[2] : null;
-    return new CommandInput(CommandRegistry.findCommand(command), subcommand, inputString);
+  private void assertInteractive() {
+    if (scanner == null) {
+      throw new AbortException("The command is missing arguments, and cannot prompt for them.");
+    }
   }
 
   /**
-   * Processes user input tokens to create a UserInput object for units.
+   * Asserts that the input string is not empty.
    *
-   * @param tokens an array of strings representing the user's input.
-   *               The first token should be the unit amount,
-   *               and the second token should be the unit type.
-   * @return a UserInput object containing the unit amount and its type.
+   * @param input the string input to be validated
+   * @throws IllegalArgumentException if the input is empty or consists only of whitespace
    */
-  private UnitInput createUnitInput(String[] tokens) {
-    float unitAmount = (tokens.length > 0) ? Float.parseFloat(tokens[0]) : -1;
-    String unitString = (tokens.length > 1) ? tokens[1].toLowerCase() : null;
-    ValidUnit unit = UnitRegistry.findUnit(unitString);
-    return new UnitInput(unitAmount, unit);
+  private void assertEmptyInput(String input) {
+    if (input.isBlank()) {
+      throw new IllegalArgumentException("Input cannot be empty.");
+    }
   }
 }
@@ -0,0 +1,16 @@
+package edu.ntnu.idi.bidata.util;
+
+/**
+ * The styles in which {@link OutputHandler#printList} numbers or marks the items of a list.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public enum ListStyle {
+  /** Marks each item with an asterisk, e.g. {@code  * Milk}. */
+  BULLET,
+  /** Numbers each item, e.g. {@code  #1: Milk}. */
+  NUMBERED,
+  /** Numbers each item with an ordinal, e.g. {@code  1st: Milk}. */
+  SUFFIX
+}
@@ -0,0 +1,50 @@
+package edu.ntnu.idi.bidata.util;
+
+/**
+ * An output sink keeping the text written to it in memory, e.g. to check the output in tests.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class MemorySink implements OutputSink {
+  private final StringBuilder text;
+
+  /**
+   * Constructs an empty sink.
+   */
+  public MemorySink() {
+    text = new StringBuilder();
+  }
+
+  @Override
+  public OutputSink append(CharSequence csq) {
+    text.append(csq);
+    return this;
+  }
+
+  @Override
+  public OutputSink append(CharSequence csq, int start, int end) {
+    text.append(csq, start, end);
+    return this;
+  }
+
+  @Override
+  public OutputSink append(char c) {
+    text.append(c);
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    // nothing is buffered
+  }
+
+  /**
+   * Retrieves the text written so far.
+   *
+   * @return the text written since the sink was created
+   */
+  public String getText() {
+    return text.toString();
+  }
+}
@@ -2,11 +2,15 @@ package edu.ntnu.idi.bidata.util;
 
 import edu.ntnu.idi.bidata.util.command.ValidCommand;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * The OutputHandler class is responsible for displaying various messages
  * to the user, including a welcome message that encourages environmental responsibility.
+ * The output is written to a sink, which may buffer it; the sink is flushed whenever
+ * the user is prompted for input, and when the session ends.
  *
  * @author Nick Heggø
  * @version 2024-12-12
@@ -16,13 +20,40 @@ public class OutputHandler {
   private static final String WELCOME_MESSAGE = """
       Hello, %s
       Thank you for using the meal planning app!""";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final String CLEAR_SCREEN = LINE_SEPARATOR.repeat(40);
+
+  private final CountingSink out;
 
   /**
    * Default constructor for the OutputHandler class.
    * Initializes an instance of OutputHandler for handling console output operations.
    */
   public OutputHandler() {
-    // default implementation
+    this(OutputSink.console());
+  }
+
+  /**
+   * Constructs an OutputHandler printing to the given sink instead of the console,
+   * e.g. to the connection of a remote session, or to memory.
+   *
+   * @param out the sink to print to
+   * @throws IllegalArgumentException if the sink is null
+   */
+  public OutputHandler(OutputSink out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Output sink cannot be null.");
+    }
+    this.out = new CountingSink(out);
+  }
+
+  /**
+   * Retrieves the number of characters printed so far, e.g. to measure the output of a command.
+   *
+   * @return the number of characters printed by this handler
+   */
+  public long getCharactersPrinted() {
+    return out.getCount();
   }
 
   /**
@@ -39,32 +70,55 @@ public class OutputHandler {
    * Prints a line of separator characters to the console.
    */
   public void printLineBreak() {
-    System.out.println("########################");
+    out.append("########################").append(LINE_SEPARATOR);
   }
 
   /**
-   * Prints a simple command prompt symbol ("> ") to the console.
+   * Streams the given report to the console, followed by a line of separator characters.
+   * The report is written straight into the buffer of the sink, which is written out
+   * as it fills, so the first lines appear before the rest of the report is produced.
+   *
+   * @param report the report to be printed
+   * @throws UncheckedIOException if the console cannot be written
+   */
+  public void printReportWithLineBreak(ReportWriter report) {
+    try {
+      report.writeTo(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not print the report.", e);
+    }
+    out.append(LINE_SEPARATOR);
+    printLineBreak();
+  }
+
+  /**
+   * Prints a simple command prompt symbol ("> ") to the console,
+   * and flushes the output before the user is expected to answer.
    */
   public void printCommandPrompt() {
-    System.out.print("> ");
+    out.append("> ");
+    out.flush();
   }
 
   /**
-   * Prints an input prompt message to the console, appending instructions to abort the operation.
+   * Prints an input prompt message to the console, appending instructions to abort the operation,
+   * and flushes the output before the user is expected to answer.
    *
    * @param inputPrompt the prompt message to display to the user
    */
   public void printInputPrompt(String inputPrompt) {
     String output = inputPrompt + " Type 'abort' to abort the operation."
         + "\n" + "  ~ ";
-    System.out.print(output);
+    out.append(output);
+    out.flush();
   }
 
   /**
-   * Prints a generic input prompt to the console.
+   * Prints a generic input prompt to the console, and flushes the output.
    */
   public void printInputPrompt() {
-    System.out.print("  ~ ");
+    out.append("  ~ ");
+    out.flush();
   }
 
   /**
@@ -73,7 +127,14 @@ public class OutputHandler {
    * @param output the message to be printed to the console
    */
   public void printOutput(String output) {
-    System.out.println(output);
+    out.append(output).append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Writes any buffered output to the console.
+   */
+  public void flush() {
+    out.flush();
   }
 
   /**
@@ -85,10 +146,12 @@ public class OutputHandler {
   }
 
   /**
-   * Prints a farewell message to the user to indicating the application has ended.
+   * Prints a farewell message to the user to indicating the application has ended,
+   * and flushes the output.
    */
   public void printGoodbyeMessage() {
     printOutput("Thank you for using the application, goodbye!");
+    out.flush();
   }
 
   /**
@@ -111,27 +174,27 @@ public class OutputHandler {
    * Prints the items in the given list in a specified style format.
    *
    * @param listToPrint the list of items to be printed
-   * @param style       the style format for printing: "bullet", "numbered", or "suffix"
-   * @throws IllegalArgumentException if the list is empty or null
+   * @param style       the style format for printing
+   * @throws IllegalArgumentException if the list is empty or null, or the style is null
    */
-  public void printList(List<?> listToPrint, String style) {
+  public void printList(List<?> listToPrint, ListStyle style) {
     if (listToPrint == null || listToPrint.isEmpty()) {
       throw new IllegalArgumentException("List is empty!");
     }
+    if (style == null) {
+      throw new IllegalArgumentException("List style cannot be null.");
+    }
 
-    if (style.strip().equalsIgnoreCase("bullet")) {
-      for (Object o : listToPrint) {
-        printOutput(" * " + o);
-      }
-    } else if (style.strip().equalsIgnoreCase("numbered")) {
-      for (int index = 0; index < listToPrint.size(); index++) {
-        printOutput(" #" + (index + 1) + ": " + listToPrint.get(index));
-      }
-    } else if (style.strip().equalsIgnoreCase("suffix")) {
-      for (int index = 0; index < listToPrint.size(); index++) {
-        printOutput(" " + (index + 1) + Utility.getOrdinalSuffix(index + 1)
-            + ": " + listToPrint.get(index));
+    int number = 1;
+    for (Object item : listToPrint) {
+      switch (style) {
+        case BULLET -> out.append(" * ");
+        case NUMBERED -> out.append(" #").append(Integer.toString(number)).append(": ");
+        case SUFFIX -> out.append(" ").append(Integer.toString(number))
+            .append(Utility.getOrdinalSuffix(number)).append(": ");
       }
+      out.append(String.valueOf(item)).append(LINE_SEPARATOR);
+      number++;
     }
   }
 
@@ -157,9 +220,7 @@ public class OutputHandler {
    * This method does not actually clear the terminal screen but creates the effect of doing so.
    */
   public void clearScreen() {
-    for (int i = 0; i < 40; i++) {
-      System.out.println();
-    }
+    out.append(CLEAR_SCREEN);
   }
 
   /**
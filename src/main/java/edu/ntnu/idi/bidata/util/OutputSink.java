@@ -0,0 +1,52 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The destination of the output of an {@link OutputHandler}, e.g. the console,
+ * the connection of a remote session, or memory.
+ * A sink may buffer what is written until it is flushed; the OutputHandler flushes it
+ * whenever the user is prompted for input, so output is written in few large chunks
+ * rather than line by line.
+ * Failures to write are thrown as {@link java.io.UncheckedIOException}.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public interface OutputSink extends Appendable {
+
+  /**
+   * Creates a buffered sink writing to the console.
+   *
+   * @return the console sink
+   */
+  static OutputSink console() {
+    return new StreamSink(System.out, System.out.charset(), StreamSink.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a buffered sink writing UTF-8 text to the given stream,
+   * e.g. the output stream of the socket of a remote session.
+   *
+   * @param out the stream to write to
+   * @return the stream sink
+   */
+  static OutputSink of(OutputStream out) {
+    return new StreamSink(out, StandardCharsets.UTF_8, StreamSink.DEFAULT_BUFFER_SIZE);
+  }
+
+  @Override
+  OutputSink append(CharSequence text);
+
+  @Override
+  OutputSink append(CharSequence text, int start, int end);
+
+  @Override
+  OutputSink append(char c);
+
+  /**
+   * Writes everything buffered by the sink to its destination.
+   */
+  void flush();
+}
@@ -0,0 +1,108 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from lowercase string keys to values, answering prefix queries.
+ * The keys sharing a prefix form one contiguous range of the sorted map, so a query
+ * costs one logarithmic search followed by a walk over the matching keys only.
+ *
+ * @param <V> the type of the indexed values
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class PrefixIndex<V> {
+  private final NavigableMap<String, Set<V>> index;
+
+  /**
+   * Constructs an empty PrefixIndex.
+   */
+  public PrefixIndex() {
+    index = new TreeMap<>();
+  }
+
+  /**
+   * Adds a value under the given key. The key is stripped and converted to lowercase.
+   *
+   * @param key   the key to index the value under; ignored if null or blank
+   * @param value the value to be indexed
+   */
+  public void add(String key, V value) {
+    String normalizedKey = Utility.createKey(key);
+    if (normalizedKey != null && !normalizedKey.isEmpty()) {
+      index.computeIfAbsent(normalizedKey, k -> new LinkedHashSet<>()).add(value);
+    }
+  }
+
+  /**
+   * Removes a value from the given key. The key is removed if no values are left.
+   *
+   * @param key   the key the value is indexed under
+   * @param value the value to be removed
+   */
+  public void remove(String key, V value) {
+    String normalizedKey = Utility.createKey(key);
+    if (normalizedKey == null) {
+      return;
+    }
+    Set<V> values = index.get(normalizedKey);
+    if (values != null && values.remove(value) && values.isEmpty()) {
+      index.remove(normalizedKey);
+    }
+  }
+
+  /**
+   * Finds the values of all keys starting with the given prefix, in key order.
+   * A value indexed under several matching keys is only returned once.
+   *
+   * @param prefix the prefix to search for, case insensitive
+   * @return a list of the matching values; an empty list if the prefix is null or blank.
+   */
+  public List<V> findByPrefix(String prefix) {
+    Set<V> matches = new LinkedHashSet<>();
+    getPrefixRange(prefix).values().forEach(matches::addAll);
+    return new ArrayList<>(matches);
+  }
+
+  /**
+   * Retrieves up to the given number of keys starting with the given prefix, in key order.
+   *
+   * @param prefix the prefix to complete, case insensitive
+   * @param limit  the maximum number of keys to return
+   * @return a list of the matching keys; an empty list if the prefix is null or blank.
+   */
+  public List<String> complete(String prefix, int limit) {
+    return getPrefixRange(prefix).keySet().stream()
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * Checks if the index holds no keys.
+   *
+   * @return true if the index is empty, false otherwise
+   */
+  public boolean isEmpty() {
+    return index.isEmpty();
+  }
+
+  /**
+   * Retrieves the range of the index holding the keys starting with the given prefix.
+   *
+   * @param prefix the prefix of the keys
+   * @return a view of the matching part of the index.
+   */
+  private SortedMap<String, Set<V>> getPrefixRange(String prefix) {
+    String normalizedPrefix = Utility.createKey(prefix);
+    if (normalizedPrefix == null || normalizedPrefix.isEmpty()) {
+      return new TreeMap<>();
+    }
+    return index.subMap(normalizedPrefix, normalizedPrefix + Character.MAX_VALUE);
+  }
+}
@@ -0,0 +1,38 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a report to an output piece by piece, so it can be streamed to the user
+ * as it is produced instead of being built as one string first.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@FunctionalInterface
+public interface ReportWriter {
+
+  /**
+   * Writes the report to the given output.
+   *
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written
+   */
+  void writeTo(Appendable out) throws IOException;
+
+  /**
+   * Writes the report to a string.
+   *
+   * @return the complete report
+   */
+  default String writeToString() {
+    StringBuilder stringBuilder = new StringBuilder();
+    try {
+      writeTo(stringBuilder);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // a StringBuilder does not throw
+    }
+    return stringBuilder.toString();
+  }
+}
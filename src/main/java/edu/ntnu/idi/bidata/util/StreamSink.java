@@ -0,0 +1,72 @@
+package edu.ntnu.idi.bidata.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * An output sink encoding text into a stream through a buffer,
+ * so the stream is only written when the buffer fills or the sink is flushed.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class StreamSink implements OutputSink {
+  static final int DEFAULT_BUFFER_SIZE = 1 << 13;
+
+  private final Writer writer;
+
+  /**
+   * Constructs a sink writing to the given stream.
+   *
+   * @param out        the stream to write to
+   * @param charset    the charset to encode the text with
+   * @param bufferSize the number of characters buffered before the stream is written
+   */
+  StreamSink(OutputStream out, Charset charset, int bufferSize) {
+    writer = new BufferedWriter(new OutputStreamWriter(out, charset), bufferSize);
+  }
+
+  @Override
+  public OutputSink append(CharSequence text) {
+    try {
+      writer.append(text);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write the output.", e);
+    }
+    return this;
+  }
+
+  @Override
+  public OutputSink append(CharSequence text, int start, int end) {
+    try {
+      writer.append(text, start, end);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write the output.", e);
+    }
+    return this;
+  }
+
+  @Override
+  public OutputSink append(char c) {
+    try {
+      writer.write(c);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write the output.", e);
+    }
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write the output.", e);
+    }
+  }
+}
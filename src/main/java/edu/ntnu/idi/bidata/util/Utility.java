@@ -1,7 +1,6 @@
 package edu.ntnu.idi.bidata.util;
 
-import edu.ntnu.idi.bidata.user.inventory.Ingredient;
-
+import java.util.Locale;
 import java.util.Random;
 
 /**
@@ -26,16 +25,6 @@ public class Utility {
     return (s == null) ? null : s.strip().toLowerCase();
   }
 
-  /**
-   * Generates a lowercase key for the given Ingredient.
-   *
-   * @param o the Ingredient object
-   * @return the lowercase name of the Ingredient, or null if the Ingredient is null.
-   */
-  public static String createKey(Ingredient o) {
-    return (o == null) ? null : o.getName().strip().toLowerCase();
-  }
-
   /**
    * Determines the ordinal suffix for a given number.
    *
@@ -116,4 +105,71 @@ public class Utility {
   public static float roundToTwoDecimal(float input) {
     return (float) Math.round(input * 100) / 100;
   }
+
+  /**
+   * Formats an amount of cents as a decimal number with two decimal places.
+   *
+   * @param cents the amount in cents to be formatted
+   * @return the formatted amount, e.g. "12.05" for 1205 cents
+   */
+  public static String formatCents(long cents) {
+    String sign = (cents < 0) ? "-" : "";
+    long absolute = Math.abs(cents);
+    long fraction = absolute % 100;
+    return sign + (absolute / 100) + "." + (fraction < 10 ? "0" : "") + fraction;
+  }
+
+  /**
+   * Formats a duration with one decimal in the largest unit in which it is at least 1,
+   * of nanoseconds, microseconds, milliseconds and seconds.
+   *
+   * @param nanos the duration in nanoseconds
+   * @return the formatted duration, e.g. "12.5 ms" for 12 500 000 ns
+   */
+  public static String formatNanos(long nanos) {
+    if (nanos < 1_000) {
+      return nanos + " ns";
+    }
+    String[] units = {"us", "ms", "s"};
+    double value = nanos / 1_000.0;
+    int unit = 0;
+    while (value >= 1_000 && unit < units.length - 1) {
+      value /= 1_000;
+      unit++;
+    }
+    return String.format(Locale.ROOT, "%.1f %s", value, units[unit]);
+  }
+
+  /**
+   * Parses a decimal number given as text, e.g. as an argument or a field of an imported file.
+   * The sign is not checked; that is left to the object the number is given to.
+   *
+   * @param text  the text to parse
+   * @param field the name of the number, for the error message
+   * @return the parsed number
+   * @throws IllegalArgumentException if the text is not a number
+   */
+  public static float parseFloat(String text, String field) {
+    try {
+      return Float.parseFloat(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid " + field + " '" + text + "'.");
+    }
+  }
+
+  /**
+   * Parses a whole number given as text, e.g. as an argument or a field of an imported file.
+   *
+   * @param text  the text to parse
+   * @param field the name of the number, for the error message
+   * @return the parsed number
+   * @throws IllegalArgumentException if the text is not a whole number
+   */
+  public static int parseInt(String text, String field) {
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid " + field + " '" + text + "'.");
+    }
+  }
 }
@@ -4,6 +4,9 @@ import edu.ntnu.idi.bidata.user.User;
 import edu.ntnu.idi.bidata.user.inventory.Ingredient;
 import edu.ntnu.idi.bidata.user.recipe.Recipe;
 import edu.ntnu.idi.bidata.user.recipe.RecipeBuilder;
+import edu.ntnu.idi.bidata.util.Utility;
+import edu.ntnu.idi.bidata.util.unit.UnitRegistry;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
 /**
  * The AddCommand class extends the Command class and is responsible for handling
@@ -68,14 +71,33 @@ public class AddCommand extends Command {
 
   /**
    * Creates a new Ingredient using the inventory manager and adds it to the inventory.
+   * If the argument lists the name, amount, unit, value and days until expiry,
+   * separated by commas, the ingredient is created without prompting.
    */
   private void addIngredient() {
     if (isArgumentEmpty()) {
       setArgument("Please enter a name for the ingredient:");
     }
-    Ingredient createdIngredient = getInventoryManager().createIngredient(getArgument());
+    Ingredient createdIngredient = isArgumentList(5, 1, 3, 4)
+        ? parseIngredient() : getInventoryManager().createIngredient(getArgument());
     getInventoryManager().addIngredientToCurrentStorage(createdIngredient);
-    getOutputHandler().printOperationStatus(true, "added", getArgument());
+    getOutputHandler().printOperationStatus(true, "added", createdIngredient.getName());
+  }
+
+  /**
+   * Creates an Ingredient from the comma-separated fields of the argument.
+   *
+   * @return the created Ingredient
+   * @throws IllegalArgumentException if a field is missing or invalid
+   */
+  private Ingredient parseIngredient() {
+    String[] fields = splitArgument("name", "amount", "unit", "value", "days until expiry");
+    ValidUnit unit = UnitRegistry.findUnit(fields[2]);
+    if (unit == ValidUnit.UNKNOWN) {
+      throw new IllegalArgumentException("Unknown unit '" + fields[2] + "'.");
+    }
+    return new Ingredient(fields[0], Utility.parseFloat(fields[1], "amount"), unit,
+        Utility.parseFloat(fields[3], "value"), Utility.parseInt(fields[4], "days until expiry"));
   }
 
   /**
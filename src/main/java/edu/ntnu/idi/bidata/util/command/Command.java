@@ -7,6 +7,7 @@ import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
 import edu.ntnu.idi.bidata.user.recipe.RecipeManager;
 import edu.ntnu.idi.bidata.util.Application;
 import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.ListStyle;
 import edu.ntnu.idi.bidata.util.OutputHandler;
 import edu.ntnu.idi.bidata.util.input.CommandInput;
 
@@ -52,6 +53,7 @@ public abstract class Command {
       case REMOVE  -> new RemoveCommand(user);
       case CLEAR   -> new ClearCommand(user);
       case STATS   -> new StatsCommand(user);
+      case IMPORT  -> new ImportCommand(user);
       case EXIT    -> new ExitCommand(user, app);
       case UNKNOWN -> new UnknownCommand(user);
     };
@@ -102,7 +104,7 @@ public abstract class Command {
     List<String> names = printableList.stream()
         .map(printable -> ((Printable) printable).getName())
         .toList();
-    getOutputHandler().printList(names, "numbered");
+    getOutputHandler().printList(names, ListStyle.NUMBERED);
   }
 
   /**
@@ -214,4 +216,49 @@ public abstract class Command {
     return getArgument() == null;
   }
 
+  /**
+   * Checks if the argument holds the given number of comma-separated fields, with a number
+   * in each numeric field, i.e. if the command was given all its arguments on one line
+   * instead of prompting for them. Any other argument, such as a name holding a comma,
+   * is taken as a single value.
+   *
+   * @param fieldCount    the number of fields of a full argument list
+   * @param numericFields the positions of the fields holding numbers, starting from 0
+   * @return true if the argument is a full argument list, false otherwise.
+   */
+  protected boolean isArgumentList(int fieldCount, int... numericFields) {
+    if (isArgumentEmpty()) {
+      return false;
+    }
+    String[] fields = getArgument().split(",", -1);
+    boolean argumentList = fields.length == fieldCount;
+    for (int i = 0; argumentList && i < numericFields.length; i++) {
+      try {
+        Float.parseFloat(fields[numericFields[i]].strip());
+      } catch (NumberFormatException e) {
+        argumentList = false;
+      }
+    }
+    return argumentList;
+  }
+
+  /**
+   * Splits the argument into its comma-separated fields, stripped of surrounding whitespace.
+   *
+   * @param fieldNames the names of the expected fields, in order
+   * @return the fields of the argument
+   * @throws IllegalArgumentException if the argument does not have one field per name
+   */
+  protected String[] splitArgument(String... fieldNames) {
+    String[] fields = getArgument().split(",", -1);
+    if (fields.length != fieldNames.length) {
+      throw new IllegalArgumentException("Expected the arguments: "
+          + String.join(", ", fieldNames) + ".");
+    }
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = fields[i].strip();
+    }
+    return fields;
+  }
+
 }
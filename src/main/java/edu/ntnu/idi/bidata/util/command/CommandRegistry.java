@@ -4,9 +4,9 @@ import edu.ntnu.idi.bidata.util.Utility;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Registers and stores valid commands for look-up and retrieval.
@@ -16,7 +16,8 @@ import java.util.Map;
  */
 public class CommandRegistry {
 
-  private static final Map<String, ValidCommand> COMMAND_MAP = new HashMap<>();
+  private static final Map<String, ValidCommand> COMMAND_MAP =
+      new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
   static {
     initializeValidCommand();
@@ -28,13 +29,15 @@ public class CommandRegistry {
   /**
    * Finds and returns the corresponding ValidCommand for the given input string.
    * If the input is not associated with a valid command, returns ValidCommand.UNKNOWN.
+   * The look-up ignores case, so the input is not converted to a new string.
    *
    * @param input the string input for which a corresponding ValidCommand is sought
    * @return the ValidCommand corresponding to the input string,
    *         or ValidCommand.UNKNOWN if no match is found
    */
   public static ValidCommand findCommand(String input) {
-    return COMMAND_MAP.getOrDefault(Utility.createKey(input), ValidCommand.UNKNOWN);
+    return (input == null) ? ValidCommand.UNKNOWN
+        : COMMAND_MAP.getOrDefault(input.strip(), ValidCommand.UNKNOWN);
   }
 
   /**
@@ -4,6 +4,7 @@ import edu.ntnu.idi.bidata.user.Printable;
 import edu.ntnu.idi.bidata.user.User;
 import edu.ntnu.idi.bidata.user.inventory.Ingredient;
 import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.ListStyle;
 import edu.ntnu.idi.bidata.util.OutputHandler;
 
 import java.util.List;
@@ -56,14 +57,22 @@ public class FindCommand extends Command {
     }
   }
 
+  /**
+   * Finds the ingredients in the current storage matching the argument.
+   * An exact name match is preferred, otherwise all ingredients whose names
+   * start with the argument are shown.
+   */
   private void findIngredient() {
     if (isArgumentEmpty()) {
       List<String> overview = getInventoryManager().getIngredientOverview();
-      getOutputHandler().printList(overview, "bullet");
+      getOutputHandler().printList(overview, ListStyle.BULLET);
       setArgument("Please enter the ingredient name to find:");
     }
     List<Ingredient> matchingIngredients = getInventoryManager()
         .findIngredientFromCurrent(getArgument());
+    if (matchingIngredients.isEmpty()) {
+      matchingIngredients = getInventoryManager().findIngredientsByPrefix(getArgument());
+    }
     // first case, none matching.
     if (matchingIngredients.isEmpty()) {
       getOutputHandler().printOutputWithLineBreak(getArgument()
@@ -80,7 +89,7 @@ public class FindCommand extends Command {
   private void findRecipe() {
     if (isArgumentEmpty()) {
       List<String> overview = getRecipeManager().getRecipeOverview();
-      getOutputHandler().printList(overview, "bullet");
+      getOutputHandler().printList(overview, ListStyle.BULLET);
       setArgument("Please enter the recipe name:");
     }
     List<Recipe> matchingRecipes = getRecipeManager().findRecipe(getArgument());
@@ -111,7 +120,7 @@ public class FindCommand extends Command {
   private void printAll(List<?> matchingObjects, OutputHandler outputHandler) {
     List<String> names = matchingObjects.stream()
         .map(o -> ((Printable) o).getName()).toList();
-    outputHandler.printList(names, "numbered");
+    outputHandler.printList(names, ListStyle.NUMBERED);
     int index = -1;
     while (index >= matchingObjects.size() || index < 1) {
       outputHandler.printInputPrompt("Please choose the recipe to show details:");
@@ -2,6 +2,7 @@ package edu.ntnu.idi.bidata.util.command;
 
 import edu.ntnu.idi.bidata.user.User;
 import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.util.ListStyle;
 
 import java.util.List;
 
@@ -61,7 +62,7 @@ public class GoCommand extends Command {
     if (isArgumentEmpty()) {
       List<String> storageOverview = getInventoryManager().getStorageOverview();
       getOutputHandler().printOutput("List of available storages:");
-      getOutputHandler().printList(storageOverview, "bullet");
+      getOutputHandler().printList(storageOverview, ListStyle.BULLET);
       setArgument("Please enter the storage name:");
     }
     IngredientStorage ingredientStorage = getInventoryManager().getStorage(getArgument());
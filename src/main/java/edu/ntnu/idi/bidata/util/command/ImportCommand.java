@@ -0,0 +1,97 @@
+package edu.ntnu.idi.bidata.util.command;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.util.importer.ImportReport;
+import edu.ntnu.idi.bidata.util.importer.IngredientImporter;
+import edu.ntnu.idi.bidata.util.importer.RecipeImporter;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * The ImportCommand class handles the "import" command, which loads data in bulk from a file.
+ * The ingredients of a delivery manifest are added to the storages named in it,
+ * and the recipes of a recipe file are added to the cookbook.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class ImportCommand extends Command {
+
+  /**
+   * Constructs an ImportCommand for the specified user.
+   *
+   * @param user the user whose data the file is imported into.
+   */
+  public ImportCommand(User user) {
+    super(user);
+  }
+
+  /**
+   * Processes the subcommand of the import command, or prints the help message if it is missing.
+   */
+  @Override
+  public void execute() {
+    if (hasSubcommand()) {
+      processSubcommand();
+    } else {
+      new HelpCommand(getUser(), getCommand());
+    }
+  }
+
+  /**
+   * Determines and processes the action to take based on the subcommand value.
+   * Calls illegalCommand() for unsupported subcommands.
+   */
+  private void processSubcommand() {
+    switch (getSubcommand()) {
+      case "ingredients", "ingredient" -> importIngredients();
+      case "recipes", "recipe" -> importRecipes();
+      default -> illegalCommand();
+    }
+  }
+
+  /**
+   * Imports the delivery manifest named by the argument and prints the report.
+   */
+  private void importIngredients() {
+    IngredientImporter importer = new IngredientImporter(getInventoryManager());
+    importFile("manifest", importer::importFile);
+  }
+
+  /**
+   * Imports the recipe file named by the argument and prints the report.
+   */
+  private void importRecipes() {
+    RecipeImporter importer = new RecipeImporter(getRecipeManager());
+    importFile("recipe file", importer::importFile);
+  }
+
+  /**
+   * Imports the file named by the argument, prompting for it if missing, and prints the report.
+   *
+   * @param fileKind the kind of file, for the prompt
+   * @param importer the importer reading the file
+   */
+  private void importFile(String fileKind, FileImporter importer) {
+    if (isArgumentEmpty()) {
+      setArgument("Please enter the path of the " + fileKind + " to import:");
+    }
+    try {
+      ImportReport report = importer.importFile(Path.of(getArgument().strip()));
+      getOutputHandler().printOutputWithLineBreak(report.toString());
+    } catch (IOException | InvalidPathException e) {
+      getOutputHandler().printOutputWithLineBreak("Could not read the file " + getArgument()
+          + ".");
+    }
+  }
+
+  /**
+   * Imports a file and reports the outcome.
+   */
+  @FunctionalInterface
+  private interface FileImporter {
+    ImportReport importFile(Path path) throws IOException;
+  }
+}
@@ -1,11 +1,13 @@
 package edu.ntnu.idi.bidata.util.command;
 
 import edu.ntnu.idi.bidata.user.User;
-import edu.ntnu.idi.bidata.user.inventory.Measurement;
 import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.ListStyle;
 import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.Utility;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * ListCommand is a concrete implementation of the Command class that handles
@@ -66,13 +68,19 @@ public class ListCommand extends Command {
   }
 
   /**
-   * Lists the total value of the inventory.
-   * Retrieves the inventory's total value from the InventoryManager
-   * and outputs it using the OutputHandler.
+   * Lists the total value of the inventory, followed by the value of each storage.
+   * Retrieves the values from the InventoryManager
+   * and outputs them using the OutputHandler.
    */
   private void listValue() {
     String message = getInventoryManager().getTotalValue();
     getOutputHandler().printOutput(message);
+    List<String> storageValues = getInventoryManager().getStorageValues().entrySet().stream()
+        .map(entry -> entry.getKey() + ": " + Utility.formatCents(entry.getValue()) + " kr")
+        .toList();
+    if (!storageValues.isEmpty()) {
+      getOutputHandler().printList(storageValues, ListStyle.BULLET);
+    }
   }
 
   /**
@@ -86,20 +94,20 @@ public class ListCommand extends Command {
 
   /**
    * Lists the inventory of the user.
-   * This method retrieves the user's storage data as a formatted string
-   * and then prints it to the console with a line of separator characters.
+   * The report is streamed to the console as the storages are visited,
+   * followed by a line of separator characters.
    */
   private void listAll() {
-    getOutputHandler().printOutputWithLineBreak(getInventoryManager().getInventoryString());
+    getOutputHandler().printReportWithLineBreak(getInventoryManager()::writeInventory);
   }
 
   /**
    * Lists the current storage details.
-   * Retrieves a formatted string of storage information from InventoryManager
-   * and outputs it using the OutputHandler with a line break.
+   * The report is streamed from the InventoryManager through the OutputHandler,
+   * followed by a line break.
    */
   private void listStorage() {
-    getOutputHandler().printOutputWithLineBreak(getInventoryManager().getStorageString());
+    getOutputHandler().printReportWithLineBreak(getInventoryManager()::writeStorage);
   }
 
   /**
@@ -116,7 +124,7 @@ public class ListCommand extends Command {
     } else {
       outputHandler.printOutput("There are currently "
           + recipeList.size() + " recipes in the system.");
-      outputHandler.printList(recipeList, "bullet");
+      outputHandler.printList(recipeList, ListStyle.BULLET);
     }
   }
 
@@ -133,27 +141,27 @@ public class ListCommand extends Command {
   }
 
   private void listExpired() {
-    getOutputHandler().printOutputWithLineBreak(getInventoryManager().getExpiredString());
+    getOutputHandler().printReportWithLineBreak(getInventoryManager()::writeExpired);
   }
 
+  /**
+   * Lists the recipes that can be made in at least one storage, along with the storages.
+   * The availability is kept up to date as the inventory changes,
+   * so listing it does not check every recipe against every storage.
+   */
   private void listAvailableRecipe() {
     OutputHandler outputHandler = getOutputHandler();
-    List<Recipe> recipeList = getRecipeManager().getAllRecipe();
-    if (recipeList.isEmpty()) {
+    if (getRecipeManager().getCookBook().getRecipeCount() == 0) {
       outputHandler.printOutput("There are no recipes at the moment.");
     } else {
-      boolean anyAvailable = false;
-      for (Recipe recipe : recipeList) {
-        List<Measurement> measurements = recipe.getAllMeasurement();
-        List<String> listOfSufficientStorages = getInventoryManager()
-            .findSufficientStorages(measurements);
-        if (!listOfSufficientStorages.isEmpty()) {
-          outputHandler.printOutput("There is enough ingredient for " + recipe.getName() + " at:");
-          outputHandler.printList(listOfSufficientStorages, "bullet");
-          anyAvailable = true;
-        }
+      Map<Recipe, List<String>> availableRecipes =
+          getUser().getRecipeAvailability().getAvailableRecipes();
+      for (Map.Entry<Recipe, List<String>> entry : availableRecipes.entrySet()) {
+        outputHandler.printOutput("There is enough ingredient for " + entry.getKey().getName()
+            + " at:");
+        outputHandler.printList(entry.getValue(), ListStyle.BULLET);
       }
-      if (!anyAvailable) {
+      if (availableRecipes.isEmpty()) {
         getOutputHandler().printOutput("You don't have enough ingredient at the moment.");
       }
     }
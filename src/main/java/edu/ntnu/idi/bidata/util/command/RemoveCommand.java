@@ -3,6 +3,7 @@ package edu.ntnu.idi.bidata.util.command;
 import edu.ntnu.idi.bidata.user.User;
 import edu.ntnu.idi.bidata.user.recipe.Recipe;
 import edu.ntnu.idi.bidata.user.recipe.RecipeManager;
+import edu.ntnu.idi.bidata.util.ListStyle;
 import edu.ntnu.idi.bidata.util.Utility;
 
 import java.util.List;
@@ -87,14 +88,22 @@ public class RemoveCommand extends Command {
 
   /**
    * Removes an ingredient from the current inventory storage.
-   * Displays a list of existing ingredients,
+   * If the argument lists the ingredient name and the number of the lot, separated by a comma,
+   * that lot is removed without prompting.
+   * Otherwise, displays a list of existing ingredients,
    * prompts the user for an ingredient name if no argument is provided, and performs
    * the removal operation.
    * Handles errors if the ingredient is not found or input is invalid.
    */
   private void removeIngredient() {
+    if (isArgumentList(2, 1)) {
+      String[] fields = splitArgument("name", "lot number");
+      getInventoryManager().removeIngredientFromCurrent(fields[0],
+          Utility.parseInt(fields[1], "lot number"));
+      return;
+    }
     getOutputHandler().printOutput("List of all stock ingredients:");
-    getOutputHandler().printList(getInventoryManager().getIngredientOverview(), "bullet");
+    getOutputHandler().printList(getInventoryManager().getIngredientOverview(), ListStyle.BULLET);
     if (isArgumentEmpty()) {
       setArgument("Please enter the ingredient name:");
     }
@@ -109,7 +118,7 @@ public class RemoveCommand extends Command {
   private void removeRecipe() {
     RecipeManager recipeManager = getRecipeManager();
     if (isArgumentEmpty()) {
-      getOutputHandler().printList(recipeManager.getRecipeOverview(), "bullet");
+      getOutputHandler().printList(recipeManager.getRecipeOverview(), ListStyle.BULLET);
       setArgument("Please enter the recipe name:");
     }
     List<Recipe> results = recipeManager.findRecipe(getArgument());
@@ -1,6 +1,11 @@
 package edu.ntnu.idi.bidata.util.command;
 
 import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.util.Utility;
+import edu.ntnu.idi.bidata.util.metrics.LatencySummary;
+import edu.ntnu.idi.bidata.util.metrics.MetricsRegistry;
+
+import java.util.Map;
 
 /**
  * The StatsCommand class extends the Command class and is responsible for
@@ -21,22 +26,52 @@ public class StatsCommand extends Command {
   }
 
   /**
-   * Executes the stats command by invoking printStats to display user statistics.
+   * Executes the stats command by invoking printStats to display user statistics,
+   * followed by the metrics of the application.
    */
   @Override
   public void execute() {
     printStats();
+    printMetrics();
   }
 
   /**
    * Prints the total value of wasted ingredients to the output handler.
    * Retrieves the wasted value from the user and formats it into a string message.
-   * The message displays the total value in currency and prints the message.
+   * The message displays the total value in currency and prints the message,
+   * followed by the value of the expired ingredients that are still stored.
    */
   private void printStats() {
     float wastedValue = getUser().getWastedValue();
-    String output = "Ingredient of total value " + wastedValue + " kr has been wasted.";
+    long expiredCents = getUser().getInventoryManager().getExpiredValueCents();
+    String output = "Ingredient of total value " + wastedValue + " kr has been wasted."
+        + "\nExpired ingredients of total value " + Utility.formatCents(expiredCents)
+        + " kr are still stored.";
     getOutputHandler().printOutput(output);
   }
 
+  /**
+   * Prints the latencies recorded since the application started, as the median,
+   * 99th percentile and maximum, followed by the counters of internal operations.
+   */
+  private void printMetrics() {
+    MetricsRegistry metrics = MetricsRegistry.getDefault();
+    getOutputHandler().printReportWithLineBreak(out -> {
+      out.append("Latencies (p50 / p99 / max):");
+      for (Map.Entry<String, LatencySummary> entry : metrics.getLatencies().entrySet()) {
+        LatencySummary summary = entry.getValue();
+        out.append("\n ").append(entry.getKey()).append(": ")
+            .append(Utility.formatNanos(summary.p50Nanos())).append(" / ")
+            .append(Utility.formatNanos(summary.p99Nanos())).append(" / ")
+            .append(Utility.formatNanos(summary.maxNanos()))
+            .append(" (count ").append(String.valueOf(summary.count())).append(")");
+      }
+      out.append("\nCounters:");
+      for (Map.Entry<String, Long> entry : metrics.getCounters().entrySet()) {
+        out.append("\n ").append(entry.getKey()).append(": ")
+            .append(String.valueOf(entry.getValue()));
+      }
+    });
+  }
+
 }
@@ -18,7 +18,8 @@ public enum ValidCommand {
 
   ADD("""
       Valid add commands are:
-       add storage | add ingredient | add recipe"""),
+       add storage | add ingredient | add recipe
+       add ingredient {name}, {amount}, {unit}, {value}, {days until expiry}"""),
 
   FIND("""
       Valid find commands are:
@@ -39,9 +40,14 @@ public enum ValidCommand {
       Valid remove commands are:
        remove storage {storage name}
        remove ingredient {ingredient name}
+       remove ingredient {ingredient name}, {lot number}
        remove recipe {recipe name}
        remove expired"""),
 
+  IMPORT("""
+      Valid import commands are:
+       import ingredients {file} | import recipes {file}"""),
+
   CLEAR("This command will clear the terminal window."),
 
   EXIT("This command will terminate the application.");
@@ -0,0 +1,25 @@
+package edu.ntnu.idi.bidata.util.generator;
+
+/**
+ * The outcome of generating household data.
+ *
+ * @param storages     the number of storages filled
+ * @param lots         the number of lots generated
+ * @param recipes      the number of recipes added to the cookbook
+ * @param elapsedNanos the duration of the generation in nanoseconds
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record GenerationReport(int storages, long lots, long recipes, long elapsedNanos) {
+
+  /**
+   * Retrieves a summary of the generation.
+   *
+   * @return a String representation of the report
+   */
+  @Override
+  public String toString() {
+    return "Generated " + lots + " lots in " + storages + " storages and " + recipes
+        + " recipes in " + elapsedNanos / 1_000_000 + " ms.";
+  }
+}
@@ -0,0 +1,275 @@
+package edu.ntnu.idi.bidata.util.generator;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.ClockService;
+import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.MemorySink;
+import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.generator.IngredientCatalog.Item;
+import edu.ntnu.idi.bidata.util.persistence.Journal;
+import edu.ntnu.idi.bidata.util.unit.UnitConverter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the storages, lots and recipes of a synthetic household, at any scale,
+ * e.g. for load and scale testing.
+ * The lots are drawn from an {@link IngredientCatalog}: popular groceries are bought more often,
+ * each lot holds a usual amount at about the usual price, and expires within the shelf life
+ * of the grocery; a few lots have expired already. Lots of the same ingredient expiring on
+ * the same day are merged by the storage, as when they are added by hand, so a storage ends up
+ * with fewer lots than were generated, the more so the more lots are generated.
+ * The recipes are named like {@code Creamy Tomatoes Soup}, and measure the grocery they are
+ * named after along with others, which are common staples as often as the overlap of the
+ * profile says.
+ * The data is generated in blocks on all processors. Each block draws from its own
+ * {@link SplittableRandom}, split from the seed in a fixed order, so the same profile
+ * generates the same data on the same day, however the blocks are scheduled.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class HouseholdGenerator {
+  static final int LOTS_PER_BLOCK = 1 << 14;
+  static final int RECIPES_PER_BLOCK = 1 << 12;
+  private static final double EXPIRED_SHARE = 0.04;
+  private static final int MAX_DAYS_EXPIRED = 14;
+  private static final String[] STORAGE_NAMES = {
+      "Fridge", "Freezer", "Pantry", "Cupboard", "Cellar", "Spice Rack", "Garage Freezer",
+      "Wine Fridge"
+  };
+  private static final String[] STYLES = {
+      "Baked", "Creamy", "Crispy", "Grilled", "Hearty", "Roasted", "Smoked", "Spicy", "Sweet",
+      "Quick"
+  };
+  private static final String[] DISHES = {
+      "Soup", "Stew", "Salad", "Pie", "Curry", "Casserole", "Stir Fry", "Risotto", "Gratin",
+      "Pancakes", "Wraps", "Bowl"
+  };
+
+  private final HouseholdProfile profile;
+
+  /**
+   * Constructs a generator for the given profile.
+   *
+   * @param profile the size and shape of the data
+   * @throws IllegalArgumentException if the profile is null
+   */
+  public HouseholdGenerator(HouseholdProfile profile) {
+    if (profile == null) {
+      throw new IllegalArgumentException("Profile cannot be null.");
+    }
+    this.profile = profile;
+  }
+
+  /**
+   * Retrieves the name of the storage with the given number, e.g. {@code Fridge}
+   * for the first storage and {@code Fridge 2} for the ninth.
+   *
+   * @param storage the number of the storage, starting at 0
+   * @return the name of the storage
+   */
+  public static String getStorageName(int storage) {
+    String name = STORAGE_NAMES[storage % STORAGE_NAMES.length];
+    int round = storage / STORAGE_NAMES.length;
+    return (round == 0) ? name : name + " " + (round + 1);
+  }
+
+  /**
+   * Generates the household into the given inventory and cookbook.
+   * The lots are added to the storages of the generated names, which are created if missing;
+   * the storages are filled in parallel. The recipes are added in order,
+   * skipping any recipe already in the cookbook.
+   *
+   * @param inventoryManager the inventory to add the storages and lots to
+   * @param cookBook         the cookbook to add the recipes to
+   * @return the report of the generation
+   */
+  public GenerationReport generateInto(InventoryManager inventoryManager, CookBook cookBook) {
+    long start = System.nanoTime();
+    SplittableRandom root = new SplittableRandom(profile.seed());
+    List<List<Ingredient>> lotBlocks = generateLots(root.split());
+    List<List<Recipe>> recipeBlocks = generateRecipes(root.split());
+
+    List<IngredientStorage> storages = new ArrayList<>(profile.storages());
+    for (int i = 0; i < profile.storages(); i++) {
+      String storageName = getStorageName(i);
+      if (inventoryManager.getStorage(storageName) == null) {
+        inventoryManager.createIngredientStorage(storageName);
+      }
+      storages.add(inventoryManager.getStorage(storageName));
+    }
+    int blocksPerStorage = lotBlocks.size() / profile.storages();
+    IntStream.range(0, profile.storages()).parallel().forEach(storage -> {
+      for (int block = 0; block < blocksPerStorage; block++) {
+        lotBlocks.get(storage * blocksPerStorage + block)
+            .forEach(storages.get(storage)::addIngredient);
+      }
+    });
+
+    long recipes = 0;
+    for (List<Recipe> block : recipeBlocks) {
+      for (Recipe recipe : block) {
+        if (cookBook.addRecipeIfAbsent(recipe)) {
+          recipes++;
+        }
+      }
+    }
+    return new GenerationReport(profile.storages(),
+        (long) profile.storages() * profile.lotsPerStorage(), recipes, System.nanoTime() - start);
+  }
+
+  /**
+   * Generates the household into a new journal in the given directory,
+   * so an application started on the directory begins with the generated data.
+   *
+   * @param directory the directory of the journal; created if missing
+   * @return the report of the generation, including writing the journal
+   * @throws IOException if the journal cannot be written
+   * @throws IllegalArgumentException if the directory already holds data
+   */
+  public GenerationReport generateSnapshot(Path directory) throws IOException {
+    long start = System.nanoTime();
+    OutputHandler outputHandler = new OutputHandler(new MemorySink());
+    CookBook cookBook = new CookBook();
+    User user = new User(InputScanner.nonInteractive(outputHandler), outputHandler,
+        new Inventory(), cookBook);
+    GenerationReport report = generateInto(user.getInventoryManager(), cookBook);
+    Journal.create(directory, user);
+    return new GenerationReport(report.storages(), report.lots(), report.recipes(),
+        System.nanoTime() - start);
+  }
+
+  /**
+   * Generates the lots of every storage in parallel, in blocks of at most
+   * {@value #LOTS_PER_BLOCK} lots. Every storage has the same number of blocks,
+   * the blocks of the first storage coming first.
+   *
+   * @param random the random generator to split the generators of the blocks from
+   * @return the blocks of lots
+   */
+  private List<List<Ingredient>> generateLots(SplittableRandom random) {
+    int blocksPerStorage = Math.max(1, ceilDiv(profile.lotsPerStorage(), LOTS_PER_BLOCK));
+    int blockCount = profile.storages() * blocksPerStorage;
+    List<SplittableRandom> blockRandoms = new ArrayList<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      blockRandoms.add(random.split());
+    }
+    int today = ClockService.todayEpochDay();
+    return IntStream.range(0, blockCount).parallel()
+        .mapToObj(block -> {
+          int first = (block % blocksPerStorage) * LOTS_PER_BLOCK;
+          int size = Math.clamp(profile.lotsPerStorage() - first, 0, LOTS_PER_BLOCK);
+          return generateLotBlock(size, today, blockRandoms.get(block));
+        })
+        .toList();
+  }
+
+  private static List<Ingredient> generateLotBlock(int size, int today, SplittableRandom random) {
+    List<Ingredient> lots = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Item item = IngredientCatalog.pickPopular(random);
+      String name = IngredientCatalog.pickName(item, random);
+      float amount = roundToTenths(item.minAmount()
+          + random.nextFloat() * (item.maxAmount() - item.minAmount()));
+      float value = Math.min(1000, Math.round(amount * item.unitPrice()
+          * (80 + random.nextInt(41))) / 100.0f); // within 20 % of the usual price
+      int expiryDay = (random.nextDouble() < EXPIRED_SHARE)
+          ? today - 1 - random.nextInt(MAX_DAYS_EXPIRED)
+          : today + random.nextInt(item.shelfLifeDays() + 1);
+      lots.add(Ingredient.restore(name, UnitConverter.toBaseAmount(amount, item.unit()),
+          item.unit(), value, expiryDay));
+    }
+    return lots;
+  }
+
+  /**
+   * Generates the recipes in parallel, in blocks of at most {@value #RECIPES_PER_BLOCK} recipes.
+   *
+   * @param random the random generator to split the generators of the blocks from
+   * @return the blocks of recipes, in order
+   */
+  private List<List<Recipe>> generateRecipes(SplittableRandom random) {
+    int blockCount = ceilDiv(profile.recipes(), RECIPES_PER_BLOCK);
+    List<SplittableRandom> blockRandoms = new ArrayList<>(blockCount);
+    for (int i = 0; i < blockCount; i++) {
+      blockRandoms.add(random.split());
+    }
+    return IntStream.range(0, blockCount).parallel()
+        .mapToObj(block -> {
+          int first = block * RECIPES_PER_BLOCK;
+          int last = Math.min(profile.recipes(), first + RECIPES_PER_BLOCK);
+          List<Recipe> recipes = new ArrayList<>(last - first);
+          for (int recipe = first; recipe < last; recipe++) {
+            recipes.add(generateRecipe(recipe, blockRandoms.get(block)));
+          }
+          return recipes;
+        })
+        .toList();
+  }
+
+  /**
+   * Generates the recipe with the given number. The number decides the name, so every
+   * recipe has a distinct name; the first ingredient is the grocery the recipe is named after.
+   */
+  private Recipe generateRecipe(int number, SplittableRandom random) {
+    int combination = number / (STYLES.length * DISHES.length);
+    Item main = IngredientCatalog.get(combination % IngredientCatalog.size());
+    String name = STYLES[number % STYLES.length] + " " + main.name() + " "
+        + DISHES[(number / STYLES.length) % DISHES.length];
+    if (combination >= IngredientCatalog.size()) {
+      name += " " + (combination / IngredientCatalog.size() + 1);
+    }
+
+    List<String> names = new ArrayList<>(profile.ingredientsPerRecipe());
+    List<Measurement> measurements = new ArrayList<>(profile.ingredientsPerRecipe());
+    Item item = main;
+    String ingredientName = main.name();
+    while (measurements.size() < profile.ingredientsPerRecipe()) {
+      if (!names.contains(ingredientName)) {
+        names.add(ingredientName);
+        float portion = roundToTenths(item.minAmount() * (0.2f + 0.8f * random.nextFloat()));
+        measurements.add(new Measurement(ingredientName, portion, item.unit()));
+      }
+      if (random.nextDouble() < profile.overlap()) {
+        item = IngredientCatalog.pickPopular(random);
+        ingredientName = item.name();
+      } else {
+        item = IngredientCatalog.pickAny(random);
+        ingredientName = IngredientCatalog.pickVarietyName(item, random);
+      }
+    }
+
+    Recipe recipe = new Recipe(name);
+    recipe.setDescription("A generated recipe with " + measurements.size() + " ingredients.");
+    int half = (measurements.size() + 1) / 2;
+    recipe.addStep(new Step("Prepare the ingredients.",
+        new ArrayList<>(measurements.subList(0, half))));
+    if (half < measurements.size()) {
+      recipe.addStep(new Step("Cook and serve.",
+          new ArrayList<>(measurements.subList(half, measurements.size()))));
+    }
+    return recipe;
+  }
+
+  private static float roundToTenths(float amount) {
+    return Math.max(1, Math.round(amount * 10)) / 10.0f;
+  }
+
+  private static int ceilDiv(int dividend, int divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+}
@@ -0,0 +1,61 @@
+package edu.ntnu.idi.bidata.util.generator;
+
+/**
+ * The size and shape of the data made by a {@link HouseholdGenerator}.
+ * The same profile always generates the same data.
+ *
+ * @param seed                 the seed of the random generator
+ * @param storages             the number of storages
+ * @param lotsPerStorage       the number of lots generated for each storage
+ * @param recipes              the number of recipes
+ * @param ingredientsPerRecipe the number of distinct ingredients measured by each recipe
+ * @param overlap              the share of the ingredients of a recipe drawn from the common
+ *                             staples rather than the whole catalog, between 0 and 1;
+ *                             the higher, the more ingredients the recipes have in common
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record HouseholdProfile(long seed, int storages, int lotsPerStorage, int recipes,
+                               int ingredientsPerRecipe, double overlap) {
+  static final int MAX_INGREDIENTS_PER_RECIPE = 20;
+  private static final int DEFAULT_INGREDIENTS_PER_RECIPE = 8;
+  private static final double DEFAULT_OVERLAP = 0.5;
+
+  /**
+   * Validates the profile.
+   *
+   * @throws IllegalArgumentException if there is no storage, a count is negative,
+   *                                  the ingredients per recipe are not between 1 and 20,
+   *                                  or the overlap is not between 0 and 1
+   */
+  public HouseholdProfile {
+    if (storages <= 0) {
+      throw new IllegalArgumentException("Number of storages must be positive.");
+    }
+    if (lotsPerStorage < 0 || recipes < 0) {
+      throw new IllegalArgumentException("Number of lots and recipes cannot be negative.");
+    }
+    if (ingredientsPerRecipe < 1 || ingredientsPerRecipe > MAX_INGREDIENTS_PER_RECIPE) {
+      throw new IllegalArgumentException("Ingredients per recipe must be between 1 and "
+          + MAX_INGREDIENTS_PER_RECIPE + ".");
+    }
+    if (!(overlap >= 0 && overlap <= 1)) {
+      throw new IllegalArgumentException("Overlap must be between 0 and 1.");
+    }
+  }
+
+  /**
+   * Creates a profile of recipes measuring eight ingredients each, half of them staples.
+   *
+   * @param seed           the seed of the random generator
+   * @param storages       the number of storages
+   * @param lotsPerStorage the number of lots generated for each storage
+   * @param recipes        the number of recipes
+   * @return the profile
+   * @throws IllegalArgumentException if there is no storage, or a count is negative
+   */
+  public static HouseholdProfile of(long seed, int storages, int lotsPerStorage, int recipes) {
+    return new HouseholdProfile(seed, storages, lotsPerStorage, recipes,
+        DEFAULT_INGREDIENTS_PER_RECIPE, DEFAULT_OVERLAP);
+  }
+}
@@ -0,0 +1,177 @@
+package edu.ntnu.idi.bidata.util.generator;
+
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The groceries a generated household buys, from the staples bought every week
+ * to the spices bought once a year. The items are listed from the most to the least popular,
+ * and are picked with a Zipf distribution over that order, so a household holds many lots
+ * of milk and bread and few of saffron. Each item may be bought in a variety and from a brand,
+ * e.g. {@code Organic Meadow Milk}, giving dozens of distinct ingredients per item.
+ * Recipes only ask for varieties, e.g. {@code Organic Milk}, which the unbranded lots satisfy.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class IngredientCatalog {
+  private static final Item[] ITEMS = {
+      new Item("Milk", ValidUnit.L, 1, 2, 22, 10),
+      new Item("Bread", ValidUnit.KG, 0.5f, 1, 45, 5),
+      new Item("Eggs", ValidUnit.KG, 0.4f, 0.8f, 70, 28),
+      new Item("Butter", ValidUnit.KG, 0.25f, 0.5f, 110, 60),
+      new Item("Cheese", ValidUnit.KG, 0.3f, 1, 120, 45),
+      new Item("Potatoes", ValidUnit.KG, 1, 3, 20, 40),
+      new Item("Onions", ValidUnit.KG, 0.5f, 2, 25, 60),
+      new Item("Tomatoes", ValidUnit.KG, 0.3f, 1, 45, 10),
+      new Item("Apples", ValidUnit.KG, 0.5f, 2, 35, 30),
+      new Item("Bananas", ValidUnit.KG, 0.5f, 1.5f, 28, 7),
+      new Item("Carrots", ValidUnit.KG, 0.5f, 1.5f, 22, 30),
+      new Item("Chicken Breast", ValidUnit.KG, 0.4f, 1.2f, 130, 4),
+      new Item("Minced Beef", ValidUnit.KG, 0.4f, 1, 140, 3),
+      new Item("Rice", ValidUnit.KG, 1, 2, 35, 365),
+      new Item("Pasta", ValidUnit.KG, 0.5f, 1, 30, 540),
+      new Item("Flour", ValidUnit.KG, 1, 2, 18, 365),
+      new Item("Sugar", ValidUnit.KG, 1, 2, 22, 730),
+      new Item("Yoghurt", ValidUnit.L, 0.5f, 1, 38, 14),
+      new Item("Cream", ValidUnit.DL, 2, 5, 6, 14),
+      new Item("Orange Juice", ValidUnit.L, 1, 2, 30, 10),
+      new Item("Salmon", ValidUnit.KG, 0.3f, 0.8f, 220, 3),
+      new Item("Garlic", ValidUnit.KG, 0.1f, 0.3f, 90, 90),
+      new Item("Lettuce", ValidUnit.KG, 0.2f, 0.5f, 60, 6),
+      new Item("Cucumber", ValidUnit.KG, 0.3f, 0.6f, 40, 10),
+      new Item("Bell Pepper", ValidUnit.KG, 0.2f, 0.6f, 70, 12),
+      new Item("Broccoli", ValidUnit.KG, 0.3f, 0.6f, 50, 7),
+      new Item("Mushrooms", ValidUnit.KG, 0.2f, 0.5f, 90, 6),
+      new Item("Oats", ValidUnit.KG, 0.5f, 1, 25, 300),
+      new Item("Olive Oil", ValidUnit.L, 0.5f, 1, 110, 540),
+      new Item("Sour Cream", ValidUnit.DL, 2, 3, 8, 21),
+      new Item("Ham", ValidUnit.KG, 0.1f, 0.3f, 160, 10),
+      new Item("Lemons", ValidUnit.KG, 0.2f, 0.6f, 45, 21),
+      new Item("Spinach", ValidUnit.KG, 0.1f, 0.3f, 100, 5),
+      new Item("Beans", ValidUnit.KG, 0.4f, 0.8f, 30, 730),
+      new Item("Lentils", ValidUnit.KG, 0.5f, 1, 40, 540),
+      new Item("Coffee", ValidUnit.KG, 0.25f, 0.5f, 160, 240),
+      new Item("Tea", ValidUnit.G, 50, 100, 0.5f, 540),
+      new Item("Honey", ValidUnit.KG, 0.3f, 0.5f, 120, 730),
+      new Item("Soy Sauce", ValidUnit.ML, 150, 500, 0.06f, 365),
+      new Item("Vinegar", ValidUnit.DL, 5, 10, 3, 730),
+      new Item("Tofu", ValidUnit.KG, 0.3f, 0.5f, 80, 20),
+      new Item("Coconut Milk", ValidUnit.DL, 4, 8, 5, 540),
+      new Item("Shrimp", ValidUnit.KG, 0.2f, 0.5f, 250, 2),
+      new Item("Chocolate", ValidUnit.G, 100, 300, 0.15f, 240),
+      new Item("Cinnamon", ValidUnit.G, 30, 60, 0.8f, 365),
+      new Item("Maple Syrup", ValidUnit.DL, 2, 5, 25, 365),
+      new Item("Vanilla Extract", ValidUnit.ML, 30, 100, 1.2f, 730),
+      new Item("Saffron", ValidUnit.G, 1, 2, 60, 730)
+  };
+  private static final String[] VARIETIES = {"Organic", "Local", "Premium", "Budget"};
+  private static final String[] BRANDS = {
+      "Coastal", "Farmhouse", "Golden", "Green Valley", "Harbor", "Highland", "Meadow", "Nordic",
+      "Old Mill", "Riverside", "Sunrise", "Westfield"
+  };
+  private static final double VARIETY_SHARE = 0.3; // share of the lots bought in a variety
+  private static final double BRAND_SHARE = 0.5; // share of the lots bought from a brand
+  private static final double[] CUMULATIVE_POPULARITY = computeCumulativePopularity();
+
+  private IngredientCatalog() {
+  }
+
+  /**
+   * Retrieves the number of items in the catalog.
+   *
+   * @return the number of items
+   */
+  static int size() {
+    return ITEMS.length;
+  }
+
+  /**
+   * Retrieves the item of the given popularity rank.
+   *
+   * @param rank the rank of the item, 0 being the most popular
+   * @return the item
+   */
+  static Item get(int rank) {
+    return ITEMS[rank];
+  }
+
+  /**
+   * Picks an item by popularity, the item ranked k being picked in proportion to 1/k.
+   *
+   * @param random the random generator to use
+   * @return the item
+   */
+  static Item pickPopular(SplittableRandom random) {
+    int index = Arrays.binarySearch(CUMULATIVE_POPULARITY, random.nextDouble());
+    return ITEMS[Math.min((index < 0) ? -index - 1 : index, ITEMS.length - 1)];
+  }
+
+  /**
+   * Picks any item, each as likely as the others.
+   *
+   * @param random the random generator to use
+   * @return the item
+   */
+  static Item pickAny(SplittableRandom random) {
+    return ITEMS[random.nextInt(ITEMS.length)];
+  }
+
+  /**
+   * Names the given item as bought, possibly in a variety and possibly from a brand.
+   *
+   * @param item   the item bought
+   * @param random the random generator to use
+   * @return the name of the ingredient, e.g. {@code Milk} or {@code Organic Meadow Milk}
+   */
+  static String pickName(Item item, SplittableRandom random) {
+    String name = (random.nextDouble() < BRAND_SHARE)
+        ? BRANDS[random.nextInt(BRANDS.length)] + " " + item.name()
+        : item.name();
+    return (random.nextDouble() < VARIETY_SHARE)
+        ? VARIETIES[random.nextInt(VARIETIES.length)] + " " + name
+        : name;
+  }
+
+  /**
+   * Names the given item as a recipe asks for it, mostly plain and sometimes in a variety.
+   *
+   * @param item   the item asked for
+   * @param random the random generator to use
+   * @return the name of the ingredient, e.g. {@code Milk} or {@code Organic Milk}
+   */
+  static String pickVarietyName(Item item, SplittableRandom random) {
+    return (random.nextDouble() < VARIETY_SHARE)
+        ? VARIETIES[random.nextInt(VARIETIES.length)] + " " + item.name()
+        : item.name();
+  }
+
+  private static double[] computeCumulativePopularity() {
+    double[] cumulative = new double[ITEMS.length];
+    double sum = 0;
+    for (int rank = 1; rank <= ITEMS.length; rank++) {
+      sum += 1.0 / rank;
+      cumulative[rank - 1] = sum;
+    }
+    for (int i = 0; i < cumulative.length; i++) {
+      cumulative[i] /= sum;
+    }
+    return cumulative;
+  }
+
+  /**
+   * A grocery as it is usually bought.
+   *
+   * @param name          the plain name of the grocery
+   * @param unit          the unit it is sold in
+   * @param minAmount     the smallest amount usually bought, in the unit
+   * @param maxAmount     the largest amount usually bought, in the unit
+   * @param unitPrice     the usual price of one unit
+   * @param shelfLifeDays the number of days it keeps after being bought
+   */
+  record Item(String name, ValidUnit unit, float minAmount, float maxAmount, float unitPrice,
+              int shelfLifeDays) {
+  }
+}
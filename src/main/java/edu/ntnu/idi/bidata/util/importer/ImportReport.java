@@ -0,0 +1,50 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk import.
+ *
+ * @param entries      the name of the imported entries, e.g. "rows" or "recipes"
+ * @param read         the number of entries read, excluding blank lines, comments and headers
+ * @param imported     the number of entries that were applied
+ * @param rejected     the number of entries that were rejected
+ * @param rejections   the reasons for the first rejected entries, each prefixed by its line number
+ * @param elapsedNanos the duration of the import in nanoseconds
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record ImportReport(String entries, long read, long imported, long rejected,
+                           List<String> rejections, long elapsedNanos) {
+  static final int MAX_REPORTED_REJECTIONS = 10;
+
+  /**
+   * Retrieves the throughput of the import.
+   *
+   * @return the number of entries read per second
+   */
+  public long getEntriesPerSecond() {
+    return (elapsedNanos == 0) ? read : read * 1_000_000_000L / elapsedNanos;
+  }
+
+  /**
+   * Retrieves a summary of the import, followed by the reasons for the first rejected entries.
+   *
+   * @return a String representation of the report
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder()
+        .append("Imported ").append(imported).append(" of ").append(read).append(' ')
+        .append(entries).append(" in ").append(elapsedNanos / 1_000_000).append(" ms (")
+        .append(getEntriesPerSecond()).append(' ').append(entries).append("/s), ")
+        .append(rejected).append(" rejected.");
+    for (String rejection : rejections) {
+      builder.append(System.lineSeparator()).append("  ").append(rejection);
+    }
+    if (rejected > rejections.size()) {
+      builder.append(System.lineSeparator()).append("  ...");
+    }
+    return builder.toString();
+  }
+}
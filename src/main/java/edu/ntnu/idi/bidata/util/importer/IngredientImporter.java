@@ -0,0 +1,193 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientKey;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports delivery manifests of ingredient lots into the storages of an inventory.
+ * A manifest is either comma-separated values, with an optional header row, or JSON lines;
+ * see {@link ManifestParser} for the fields. Blank lines and lines starting with '#' are skipped.
+ * The file is streamed through a buffered channel reader, so only one batch is held in memory.
+ * Within a batch, rows of the same storage, ingredient and expiry date are merged first,
+ * so each storage receives one lot per ingredient and date instead of one per row.
+ * Rows naming an unknown storage, with invalid fields, or with a unit that cannot be combined
+ * with an earlier row of the same lot, are rejected and reported.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class IngredientImporter {
+  static final int BATCH_SIZE = 10_000;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final InventoryManager inventoryManager;
+  private final Map<String, IngredientStorage> storageCache = new HashMap<>();
+  private final Map<IngredientStorage, Map<LotId, Lot>> batch = new LinkedHashMap<>();
+  private final List<String> rejections = new ArrayList<>();
+  private int batchRows;
+  private long rowsImported;
+  private long rowsRejected;
+
+  /**
+   * Constructs an importer adding to the storages of the given inventory.
+   *
+   * @param inventoryManager the inventory to import into
+   */
+  public IngredientImporter(InventoryManager inventoryManager) {
+    if (inventoryManager == null) {
+      throw new IllegalArgumentException("Inventory manager cannot be null.");
+    }
+    this.inventoryManager = inventoryManager;
+  }
+
+  /**
+   * Imports the manifest at the given path.
+   * Files ending with ".jsonl", ".ndjson" or ".json" are read as JSON lines,
+   * all others as comma-separated values.
+   *
+   * @param path the manifest to import
+   * @return the report of the import
+   * @throws IOException if the file cannot be read
+   */
+  public ImportReport importFile(Path path) throws IOException {
+    String fileName = path.getFileName().toString().toLowerCase();
+    boolean json = fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")
+        || fileName.endsWith(".json");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+         BufferedReader reader = new BufferedReader(
+             Channels.newReader(channel, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+      return importFrom(reader, json);
+    }
+  }
+
+  /**
+   * Imports a manifest from the given reader.
+   *
+   * @param reader the manifest to import
+   * @param json   true if the manifest is JSON lines, false if it is comma-separated values
+   * @return the report of the import
+   * @throws IOException if the manifest cannot be read
+   */
+  public ImportReport importFrom(BufferedReader reader, boolean json) throws IOException {
+    long start = System.nanoTime();
+    rejections.clear();
+    rowsImported = 0;
+    rowsRejected = 0;
+    long rowsRead = 0;
+    long lineNumber = 0;
+    boolean headerAllowed = !json;
+    String line = reader.readLine();
+    while (line != null) {
+      lineNumber++;
+      String row = line.strip();
+      if (!row.isEmpty() && row.charAt(0) != '#') {
+        if (!(headerAllowed && ManifestParser.isCsvHeader(row))) {
+          rowsRead++;
+          accept(row, json, lineNumber);
+        }
+        headerAllowed = false;
+      }
+      line = reader.readLine();
+    }
+    flush();
+    return new ImportReport("rows", rowsRead, rowsImported, rowsRejected, List.copyOf(rejections),
+        System.nanoTime() - start);
+  }
+
+  /**
+   * Parses a row and adds it to the current batch, flushing the batch when it is full.
+   * A row whose unit is of another kind than the lot it belongs to is rejected
+   * before the lot is changed.
+   *
+   * @param row        the row to accept
+   * @param json       true if the row is a JSON object, false if it is comma-separated values
+   * @param lineNumber the line number of the row, for the report
+   */
+  private void accept(String row, boolean json, long lineNumber) {
+    try {
+      ManifestRow manifestRow = json ? ManifestParser.parseJson(row) : ManifestParser.parseCsv(row);
+      IngredientStorage storage = storageCache.computeIfAbsent(manifestRow.storageName(),
+          inventoryManager::getStorage);
+      if (storage == null) {
+        throw new IllegalArgumentException("Unknown storage '" + manifestRow.storageName() + "'.");
+      }
+      Ingredient ingredient = manifestRow.toIngredient();
+      LotId id = new LotId(ingredient.getKey(), ingredient.getExpiryEpochDay());
+      Map<LotId, Lot> lots = batch.computeIfAbsent(storage, s -> new HashMap<>());
+      Lot lot = lots.get(id);
+      if (lot == null) {
+        lots.put(id, new Lot(ingredient, lineNumber));
+      } else {
+        lot.ingredient.merge(ingredient);
+        lot.rows++;
+      }
+      if (++batchRows >= BATCH_SIZE) {
+        flush();
+      }
+    } catch (IllegalArgumentException e) {
+      reject(lineNumber, 1, e.getMessage());
+    }
+  }
+
+  /**
+   * Adds the merged lots of the current batch to their storages and empties the batch.
+   */
+  private void flush() {
+    for (Map.Entry<IngredientStorage, Map<LotId, Lot>> entry : batch.entrySet()) {
+      IngredientStorage storage = entry.getKey();
+      for (Lot lot : entry.getValue().values()) {
+        try {
+          storage.addIngredient(lot.ingredient);
+          rowsImported += lot.rows;
+        } catch (IllegalArgumentException e) {
+          reject(lot.firstLine, lot.rows, e.getMessage());
+        }
+      }
+    }
+    batch.clear();
+    batchRows = 0;
+  }
+
+  private void reject(long lineNumber, int rows, String reason) {
+    rowsRejected += rows;
+    if (rejections.size() < ImportReport.MAX_REPORTED_REJECTIONS) {
+      rejections.add("Line " + lineNumber + ((rows > 1) ? " (and " + (rows - 1) + " merged)" : "")
+          + ": " + reason);
+    }
+  }
+
+  /**
+   * Identifies a lot within a storage by its ingredient and expiry date.
+   */
+  private record LotId(IngredientKey key, int expiryDay) {
+  }
+
+  /**
+   * A lot of the current batch and the number of rows merged into it.
+   */
+  private static final class Lot {
+    private final Ingredient ingredient;
+    private final long firstLine;
+    private int rows = 1;
+
+    private Lot(Ingredient ingredient, long firstLine) {
+      this.ingredient = ingredient;
+      this.firstLine = firstLine;
+    }
+  }
+}
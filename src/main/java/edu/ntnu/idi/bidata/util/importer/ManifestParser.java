@@ -0,0 +1,199 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.util.Utility;
+import edu.ntnu.idi.bidata.util.unit.UnitRegistry;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the rows of delivery manifests, either as comma-separated values or as JSON lines.
+ * A CSV row holds the fields in the order
+ * {@code storage,name,amount,unit,value,days}, without quoting.
+ * A JSON row is a flat object with the same field names, e.g.
+ * {@code {"storage": "Fridge", "name": "Milk", "amount": 1.5, "unit": "l", "value": 20, "days": 4}}.
+ * The rows are split by scanning for the separators, without regular expressions.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class ManifestParser {
+  static final String[] FIELDS = {"storage", "name", "amount", "unit", "value", "days"};
+
+  private ManifestParser() {
+  }
+
+  /**
+   * Checks if the given CSV line is the header row naming the fields.
+   *
+   * @param line the line to check
+   * @return true if the line starts with the name of the first field, false otherwise
+   */
+  static boolean isCsvHeader(String line) {
+    return line.regionMatches(true, 0, FIELDS[0] + ",", 0, FIELDS[0].length() + 1);
+  }
+
+  /**
+   * Parses a row of comma-separated values.
+   *
+   * @param line the line to parse
+   * @return the parsed row
+   * @throws IllegalArgumentException if the row does not have six valid fields
+   */
+  static ManifestRow parseCsv(String line) {
+    String[] fields = new String[FIELDS.length];
+    int start = 0;
+    for (int i = 0; i < fields.length; i++) {
+      int end = (i == fields.length - 1) ? line.length() : line.indexOf(',', start);
+      if (end < 0) {
+        throw new IllegalArgumentException("Expected " + FIELDS.length + " fields.");
+      }
+      fields[i] = line.substring(start, end).strip();
+      start = end + 1;
+    }
+    if (fields[fields.length - 1].indexOf(',') >= 0) {
+      throw new IllegalArgumentException("Expected " + FIELDS.length + " fields.");
+    }
+    return toRow(fields);
+  }
+
+  /**
+   * Parses a row holding a flat JSON object.
+   *
+   * @param line the line to parse
+   * @return the parsed row
+   * @throws IllegalArgumentException if the line is not a flat JSON object with valid fields
+   */
+  static ManifestRow parseJson(String line) {
+    Map<String, String> object = new JsonScanner(line).readObject();
+    String[] fields = new String[FIELDS.length];
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = object.get(FIELDS[i]);
+      if (fields[i] == null) {
+        throw new IllegalArgumentException("Missing field '" + FIELDS[i] + "'.");
+      }
+    }
+    return toRow(fields);
+  }
+
+  private static ManifestRow toRow(String[] fields) {
+    ValidUnit unit = UnitRegistry.findUnit(fields[3]);
+    if (unit == ValidUnit.UNKNOWN) {
+      throw new IllegalArgumentException("Unknown unit '" + fields[3] + "'.");
+    }
+    return new ManifestRow(fields[0], fields[1], Utility.parseFloat(fields[2], FIELDS[2]), unit,
+        Utility.parseFloat(fields[4], FIELDS[4]), Utility.parseInt(fields[5], FIELDS[5]));
+  }
+
+  /**
+   * Reads a flat JSON object, whose values are strings, numbers, booleans or null,
+   * into a map from the field names to the values as text.
+   */
+  private static final class JsonScanner {
+    private final String text;
+    private int position;
+
+    private JsonScanner(String text) {
+      this.text = text;
+    }
+
+    private Map<String, String> readObject() {
+      Map<String, String> object = new HashMap<>();
+      expect('{');
+      skipWhitespace();
+      if (peek() == '}') {
+        position++;
+      } else {
+        boolean more = true;
+        while (more) {
+          skipWhitespace();
+          String name = readString();
+          expect(':');
+          skipWhitespace();
+          object.put(name, (peek() == '"') ? readString() : readLiteral());
+          skipWhitespace();
+          more = peek() == ',';
+          position++;
+        }
+        if (text.charAt(position - 1) != '}') {
+          throw new IllegalArgumentException("Expected '}' at " + (position - 1) + ".");
+        }
+      }
+      skipWhitespace();
+      if (position < text.length()) {
+        throw new IllegalArgumentException("Unexpected text after the object.");
+      }
+      return object;
+    }
+
+    private String readString() {
+      expect('"');
+      StringBuilder builder = new StringBuilder();
+      char c = next();
+      while (c != '"') {
+        if (c == '\\') {
+          c = next();
+          switch (c) {
+            case 'n' -> builder.append('\n');
+            case 't' -> builder.append('\t');
+            case 'r' -> builder.append('\r');
+            case 'b' -> builder.append('\b');
+            case 'f' -> builder.append('\f');
+            case 'u' -> {
+              if (position + 4 > text.length()) {
+                throw new IllegalArgumentException("Invalid escape at " + position + ".");
+              }
+              builder.append((char) Integer.parseInt(text, position, position + 4, 16));
+              position += 4;
+            }
+            default -> builder.append(c); // \" \\ \/
+          }
+        } else {
+          builder.append(c);
+        }
+        c = next();
+      }
+      return builder.toString();
+    }
+
+    private String readLiteral() {
+      int start = position;
+      while (position < text.length() && text.charAt(position) != ','
+          && text.charAt(position) != '}' && !Character.isWhitespace(text.charAt(position))) {
+        position++;
+      }
+      if (start == position) {
+        throw new IllegalArgumentException("Expected a value at " + start + ".");
+      }
+      return text.substring(start, position);
+    }
+
+    private void expect(char expected) {
+      skipWhitespace();
+      if (next() != expected) {
+        throw new IllegalArgumentException("Expected '" + expected + "' at " + (position - 1)
+            + ".");
+      }
+    }
+
+    private void skipWhitespace() {
+      while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+        position++;
+      }
+    }
+
+    private char peek() {
+      if (position >= text.length()) {
+        throw new IllegalArgumentException("Unexpected end of line.");
+      }
+      return text.charAt(position);
+    }
+
+    private char next() {
+      char c = peek();
+      position++;
+      return c;
+    }
+  }
+}
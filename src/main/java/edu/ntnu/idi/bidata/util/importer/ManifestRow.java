@@ -0,0 +1,30 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+/**
+ * A single row of a delivery manifest, describing one lot delivered to a storage.
+ *
+ * @param storageName     the name of the storage receiving the lot
+ * @param name            the name of the ingredient
+ * @param amount          the amount of the lot
+ * @param unit            the unit of the amount
+ * @param value           the value of the lot
+ * @param daysUntilExpiry the number of days from today until the lot expires
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+record ManifestRow(String storageName, String name, float amount, ValidUnit unit, float value,
+                   int daysUntilExpiry) {
+
+  /**
+   * Creates the lot described by the row.
+   *
+   * @return the created Ingredient
+   * @throws IllegalArgumentException if any of the fields is invalid for an ingredient
+   */
+  Ingredient toIngredient() {
+    return new Ingredient(name, amount, unit, value, daysUntilExpiry);
+  }
+}
@@ -0,0 +1,177 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.recipe.RecipeManager;
+import edu.ntnu.idi.bidata.util.importer.RecipeParser.ParsedChunk;
+import edu.ntnu.idi.bidata.util.importer.RecipeParser.ParsedRecipe;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Imports recipes written in the line-oriented format described by {@link RecipeParser}.
+ * The input is cut into chunks of whole recipes, which are parsed in parallel on a pool of
+ * worker threads. The parsed chunks are added to the cookbook on the calling thread, in the order
+ * of the input, skipping recipes equal to one already in the cookbook.
+ * At most two chunks per worker are in flight at any time, so the memory used by the import
+ * itself is bounded regardless of the size of the input.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class RecipeImporter {
+  static final int CHUNK_LINES = 8192;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final RecipeManager recipeManager;
+  private final int workers;
+  private final List<String> rejections = new ArrayList<>();
+  private long read;
+  private long imported;
+  private long rejected;
+
+  /**
+   * Constructs an importer using one worker thread per available processor.
+   *
+   * @param recipeManager the recipes to import into
+   */
+  public RecipeImporter(RecipeManager recipeManager) {
+    this(recipeManager, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs an importer using the given number of worker threads.
+   *
+   * @param recipeManager the recipes to import into
+   * @param workers       the number of threads parsing the input
+   * @throws IllegalArgumentException if the recipe manager is null or the workers not positive
+   */
+  public RecipeImporter(RecipeManager recipeManager, int workers) {
+    if (recipeManager == null) {
+      throw new IllegalArgumentException("Recipe manager cannot be null.");
+    }
+    if (workers <= 0) {
+      throw new IllegalArgumentException("Number of workers must be positive.");
+    }
+    this.recipeManager = recipeManager;
+    this.workers = workers;
+  }
+
+  /**
+   * Imports the recipes in the file at the given path.
+   *
+   * @param path the file to import
+   * @return the report of the import
+   * @throws IOException if the file cannot be read
+   */
+  public ImportReport importFile(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+         BufferedReader reader = new BufferedReader(
+             Channels.newReader(channel, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+      return importFrom(reader);
+    }
+  }
+
+  /**
+   * Imports the recipes from the given reader.
+   *
+   * @param reader the recipes to import
+   * @return the report of the import
+   * @throws IOException if the input cannot be read, or the import is interrupted
+   */
+  public ImportReport importFrom(BufferedReader reader) throws IOException {
+    long start = System.nanoTime();
+    rejections.clear();
+    read = 0;
+    imported = 0;
+    rejected = 0;
+    ExecutorService pool = Executors.newFixedThreadPool(workers);
+    Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+    try {
+      List<String> chunk = new ArrayList<>(CHUNK_LINES);
+      long chunkStart = 1;
+      long lineNumber = 0;
+      String line = reader.readLine();
+      while (line != null) {
+        lineNumber++;
+        if (chunk.size() >= CHUNK_LINES && RecipeParser.isRecipeStart(line)) {
+          submit(pool, inFlight, chunk, chunkStart);
+          chunk = new ArrayList<>(CHUNK_LINES);
+          chunkStart = lineNumber;
+        }
+        chunk.add(line);
+        line = reader.readLine();
+      }
+      submit(pool, inFlight, chunk, chunkStart);
+      while (!inFlight.isEmpty()) {
+        merge(inFlight.removeFirst());
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    return new ImportReport("recipes", read, imported, rejected, List.copyOf(rejections),
+        System.nanoTime() - start);
+  }
+
+  /**
+   * Submits a chunk for parsing, first merging the oldest chunk if too many are in flight.
+   */
+  private void submit(ExecutorService pool, Deque<Future<ParsedChunk>> inFlight,
+                      List<String> chunk, long chunkStart) throws IOException {
+    if (inFlight.size() >= 2 * workers) {
+      merge(inFlight.removeFirst());
+    }
+    inFlight.addLast(pool.submit(() -> RecipeParser.parse(chunk, chunkStart)));
+  }
+
+  /**
+   * Waits for a chunk to be parsed and adds its recipes to the cookbook.
+   *
+   * @param future the chunk being parsed
+   * @throws IOException if the import is interrupted while waiting
+   */
+  private void merge(Future<ParsedChunk> future) throws IOException {
+    ParsedChunk chunk;
+    try {
+      chunk = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("The import was interrupted.");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Could not parse the recipes.", e.getCause());
+    }
+    read += chunk.getRead();
+    rejected += chunk.rejected;
+    for (String rejection : chunk.rejections) {
+      addRejection(rejection);
+    }
+    for (ParsedRecipe parsed : chunk.recipes) {
+      if (recipeManager.addRecipeIfAbsent(parsed.recipe())) {
+        imported++;
+      } else {
+        rejected++;
+        addRejection("Line " + parsed.line() + ": Duplicate recipe '"
+            + parsed.recipe().getName() + "'.");
+      }
+    }
+  }
+
+  private void addRejection(String rejection) {
+    if (rejections.size() < ImportReport.MAX_REPORTED_REJECTIONS) {
+      rejections.add(rejection);
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.Utility;
+import edu.ntnu.idi.bidata.util.unit.UnitRegistry;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses recipes written in the line-oriented recipe format:
+ * <pre>
+ * # comment
+ * recipe: Pancakes
+ * description: Thin pancakes for four.
+ * step: Whisk the eggs into the milk.
+ * - Egg, 3, pcs
+ * - Milk, 5, dl
+ * step: Fry on medium heat.
+ * </pre>
+ * A recipe starts at its {@code recipe:} line and has a description and one or more steps.
+ * Each measurement line, starting with '-', holds the name, amount and unit of an ingredient
+ * used in the step above it. Blank lines and lines starting with '#' are skipped.
+ * A recipe with an invalid line is rejected as a whole, and parsing continues at the next recipe.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class RecipeParser {
+  static final String RECIPE = "recipe:";
+  static final String DESCRIPTION = "description:";
+  static final String STEP = "step:";
+  static final char MEASUREMENT = '-';
+
+  private RecipeParser() {
+  }
+
+  /**
+   * Checks if the given line starts a new recipe, i.e. where the input may be split into chunks.
+   *
+   * @param line the line to check
+   * @return true if the line is a recipe line, false otherwise
+   */
+  static boolean isRecipeStart(String line) {
+    return line.strip().startsWith(RECIPE);
+  }
+
+  /**
+   * Parses a chunk of lines, which holds whole recipes only.
+   *
+   * @param lines     the lines of the chunk
+   * @param firstLine the line number of the first line in the chunk
+   * @return the recipes parsed and the rejections
+   */
+  static ParsedChunk parse(List<String> lines, long firstLine) {
+    ParsedChunk chunk = new ParsedChunk();
+    RecipeState current = null;
+    for (int i = 0; i < lines.size(); i++) {
+      long lineNumber = firstLine + i;
+      String line = lines.get(i).strip();
+      if (line.isEmpty() || line.charAt(0) == '#') {
+        continue;
+      }
+      if (line.startsWith(RECIPE)) {
+        finish(current, chunk);
+        current = new RecipeState(lineNumber);
+      }
+      if (current == null) {
+        chunk.reject(lineNumber, "Expected '" + RECIPE + "' before this line.");
+      } else if (current.error == null) {
+        try {
+          current.accept(line);
+        } catch (IllegalArgumentException e) {
+          current.error = e.getMessage();
+          current.errorLine = lineNumber;
+        }
+      }
+    }
+    finish(current, chunk);
+    return chunk;
+  }
+
+  private static void finish(RecipeState state, ParsedChunk chunk) {
+    if (state == null) {
+      return;
+    }
+    if (state.error == null) {
+      try {
+        chunk.recipes.add(new ParsedRecipe(state.build(), state.firstLine));
+      } catch (IllegalArgumentException e) {
+        chunk.reject(state.firstLine, e.getMessage());
+      }
+    } else {
+      chunk.reject(state.errorLine, state.error);
+    }
+  }
+
+  /**
+   * Parses a measurement line, holding the name, amount and unit separated by commas.
+   *
+   * @param text the line after the leading '-'
+   * @return the parsed Measurement
+   * @throws IllegalArgumentException if the line is not a valid measurement
+   */
+  private static Measurement parseMeasurement(String text) {
+    int first = text.indexOf(',');
+    int second = (first < 0) ? -1 : text.indexOf(',', first + 1);
+    if (second < 0 || text.indexOf(',', second + 1) >= 0) {
+      throw new IllegalArgumentException("Expected name, amount and unit.");
+    }
+    String name = text.substring(0, first).strip();
+    float amount = Utility.parseFloat(text.substring(first + 1, second).strip(), "amount");
+    String unitText = text.substring(second + 1).strip();
+    ValidUnit unit = UnitRegistry.findUnit(unitText);
+    if (name.isEmpty() || unit == ValidUnit.UNKNOWN) {
+      throw new IllegalArgumentException(name.isEmpty()
+          ? "Measurement name cannot be empty." : "Unknown unit '" + unitText + "'.");
+    }
+    return new Measurement(name, amount, unit);
+  }
+
+  private static String requireText(String text, String field) {
+    if (text.isEmpty()) {
+      throw new IllegalArgumentException(field + " cannot be empty.");
+    }
+    return text;
+  }
+
+  /**
+   * A recipe read from a line of the input.
+   *
+   * @param recipe the parsed recipe
+   * @param line   the line number of its recipe line
+   */
+  record ParsedRecipe(Recipe recipe, long line) {
+  }
+
+  /**
+   * The recipes and rejections of one chunk of input.
+   */
+  static final class ParsedChunk {
+    final List<ParsedRecipe> recipes = new ArrayList<>();
+    final List<String> rejections = new ArrayList<>();
+    long rejected;
+
+    private void reject(long lineNumber, String reason) {
+      rejected++;
+      if (rejections.size() < ImportReport.MAX_REPORTED_REJECTIONS) {
+        rejections.add("Line " + lineNumber + ": " + reason);
+      }
+    }
+
+    /**
+     * Retrieves the number of recipes read, whether parsed or rejected.
+     *
+     * @return the number of recipes in the chunk
+     */
+    long getRead() {
+      return recipes.size() + rejected;
+    }
+  }
+
+  /**
+   * The recipe currently being parsed. The error is set when a line is invalid,
+   * so the rest of the recipe is skipped.
+   */
+  private static final class RecipeState {
+    private final long firstLine;
+    private final List<Step> steps = new ArrayList<>();
+    private String name;
+    private String description;
+    private String instruction;
+    private List<Measurement> measurements;
+    private String error;
+    private long errorLine;
+
+    private RecipeState(long firstLine) {
+      this.firstLine = firstLine;
+    }
+
+    private void accept(String line) {
+      if (line.startsWith(RECIPE)) {
+        name = requireText(line.substring(RECIPE.length()).strip(), "Recipe name");
+      } else if (line.startsWith(DESCRIPTION)) {
+        description = requireText(line.substring(DESCRIPTION.length()).strip(), "Description");
+      } else if (line.startsWith(STEP)) {
+        finishStep();
+        instruction = requireText(line.substring(STEP.length()).strip(), "Step");
+      } else if (line.charAt(0) == MEASUREMENT) {
+        if (instruction == null) {
+          throw new IllegalArgumentException("Expected '" + STEP + "' before a measurement.");
+        }
+        if (measurements == null) {
+          measurements = new ArrayList<>();
+        }
+        measurements.add(parseMeasurement(line.substring(1)));
+      } else {
+        throw new IllegalArgumentException("Unrecognized line '" + line + "'.");
+      }
+    }
+
+    private void finishStep() {
+      if (instruction != null) {
+        steps.add(new Step(instruction, measurements));
+        instruction = null;
+        measurements = null;
+      }
+    }
+
+    private Recipe build() {
+      finishStep();
+      if (description == null) {
+        throw new IllegalArgumentException("Recipe '" + name + "' has no description.");
+      }
+      if (steps.isEmpty()) {
+        throw new IllegalArgumentException("Recipe '" + name + "' has no steps.");
+      }
+      Recipe recipe = new Recipe(name);
+      recipe.setDescription(description);
+      steps.forEach(recipe::addStep);
+      return recipe;
+    }
+  }
+}
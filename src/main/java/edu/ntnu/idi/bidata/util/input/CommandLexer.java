@@ -0,0 +1,246 @@
+package edu.ntnu.idi.bidata.util.input;
+
+import edu.ntnu.idi.bidata.util.command.ValidCommand;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.nio.CharBuffer;
+
+/**
+ * Splits lines of user input into commands and units by scanning the characters once,
+ * without regular expressions or a string per token.
+ * A command line holds a command word, an optional subcommand and an optional argument,
+ * separated by whitespace, e.g. {@code go to Cold Room}. The command and any known subcommand
+ * are matched in place, ignoring case, so only the argument is copied into a new string.
+ * An argument in double quotes, e.g. {@code find recipe "Pancakes, thin"}, is taken without
+ * the quotes, where {@code \"} and {@code \\} stand for a quote and a backslash.
+ * A unit line holds an amount and a unit, either separated by whitespace or not,
+ * e.g. {@code 1.5 kg} or {@code 1.5kg}.
+ * A lexer keeps a scratch buffer between lines, so it must only be used by one thread.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class CommandLexer {
+  private static final ValidCommand[] COMMANDS = ValidCommand.values();
+  private static final ValidUnit[] UNITS = ValidUnit.values();
+  private static final String[] SUBCOMMANDS = {
+      "all", "available", "back", "command", "commands", "expired", "ingredient", "ingredients",
+      "inventory", "name", "recipe", "recipes", "storage", "to", "value", "values"
+  };
+  private static final float[] POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f,
+      1e6f, 1e7f, 1e8f, 1e9f, 1e10f}; // exact as floats
+  private static final int MAX_EXACT_MANTISSA = 1 << 24;
+
+  private CharBuffer scratch;
+
+  /**
+   * Constructs a lexer with a small scratch buffer, which grows with the longest quoted argument.
+   */
+  public CommandLexer() {
+    scratch = CharBuffer.allocate(64);
+  }
+
+  /**
+   * Splits a line into the command, subcommand and argument.
+   * The command and subcommand are matched ignoring case, and the subcommand is lowercase.
+   *
+   * @param line the line to split
+   * @return the CommandInput holding the parts of the line
+   * @throws IllegalArgumentException if a quoted argument is not closed, or followed by text
+   */
+  public CommandInput lexCommand(CharSequence line) {
+    int end = trimEnd(line);
+    int commandStart = skipWhitespace(line, 0, end);
+    int commandEnd = skipWord(line, commandStart, end);
+    int subcommandStart = skipWhitespace(line, commandEnd, end);
+    int subcommandEnd = skipWord(line, subcommandStart, end);
+    int argumentStart = skipWhitespace(line, subcommandEnd, end);
+
+    ValidCommand command = matchCommand(line, commandStart, commandEnd);
+    String subcommand = (subcommandStart == subcommandEnd) ? null
+        : matchSubcommand(line, subcommandStart, subcommandEnd);
+    String argument = (argumentStart == end) ? null : readArgument(line, argumentStart, end);
+    return new CommandInput(command, subcommand, argument);
+  }
+
+  /**
+   * Reads an amount followed by a unit. Any text after the unit is ignored.
+   *
+   * @param line the line to read
+   * @return the UnitInput holding the amount and unit; the unit is UNKNOWN if not recognized
+   * @throws IllegalArgumentException if the amount or the unit is missing,
+   *                                  or the amount is not a number
+   */
+  public UnitInput lexUnit(CharSequence line) {
+    int end = trimEnd(line);
+    int amountStart = skipWhitespace(line, 0, end);
+    int amountEnd = skipNumber(line, amountStart, end);
+    int unitStart = skipWhitespace(line, amountEnd, end);
+    int unitEnd = skipWord(line, unitStart, end);
+    if (amountStart == amountEnd || unitStart == unitEnd) {
+      throw new IllegalArgumentException("Missing unit inputs.");
+    }
+    float amount = parseAmount(line, amountStart, amountEnd);
+    return new UnitInput(amount, matchUnit(line, unitStart, unitEnd));
+  }
+
+  /**
+   * Checks whether a subcommand is one of the known subcommands, e.g. {@code available}.
+   *
+   * @param subcommand the lowercase subcommand, may be null
+   * @return true if the subcommand is known
+   */
+  public static boolean isSubcommand(String subcommand) {
+    for (String known : SUBCOMMANDS) {
+      if (known.equals(subcommand)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static ValidCommand matchCommand(CharSequence line, int start, int end) {
+    for (ValidCommand command : COMMANDS) {
+      if (command != ValidCommand.UNKNOWN && equalsIgnoreCase(line, start, end, command.name())) {
+        return command;
+      }
+    }
+    return ValidCommand.UNKNOWN;
+  }
+
+  private static ValidUnit matchUnit(CharSequence line, int start, int end) {
+    for (ValidUnit unit : UNITS) {
+      if (unit != ValidUnit.UNKNOWN && equalsIgnoreCase(line, start, end, unit.name())) {
+        return unit;
+      }
+    }
+    return ValidUnit.UNKNOWN;
+  }
+
+  /**
+   * Matches the subcommand against the known subcommands, returning the shared constant,
+   * and only builds a new lowercase string for a subcommand that is not known.
+   */
+  private String matchSubcommand(CharSequence line, int start, int end) {
+    for (String subcommand : SUBCOMMANDS) {
+      if (equalsIgnoreCase(line, start, end, subcommand)) {
+        return subcommand;
+      }
+    }
+    CharBuffer buffer = scratch(end - start);
+    for (int i = start; i < end; i++) {
+      buffer.put(Character.toLowerCase(line.charAt(i)));
+    }
+    return buffer.flip().toString();
+  }
+
+  /**
+   * Reads the argument, removing the quotes and escapes of a quoted argument.
+   */
+  private String readArgument(CharSequence line, int start, int end) {
+    if (line.charAt(start) != '"') {
+      return line.subSequence(start, end).toString();
+    }
+    CharBuffer buffer = scratch(end - start);
+    int position = start + 1;
+    while (position < end && line.charAt(position) != '"') {
+      char c = line.charAt(position++);
+      if (c == '\\' && position < end) {
+        c = line.charAt(position++);
+      }
+      buffer.put(c);
+    }
+    if (position >= end) {
+      throw new IllegalArgumentException("The quoted argument is not closed.");
+    }
+    if (position + 1 != end) {
+      throw new IllegalArgumentException("Unexpected text after the quoted argument.");
+    }
+    return buffer.flip().toString();
+  }
+
+  /**
+   * Parses the amount of a unit line. Amounts of up to seven significant digits and ten
+   * decimals are computed exactly from the digits with a single rounding, as by
+   * {@link Float#parseFloat(String)}; longer amounts are left to that method.
+   */
+  private static float parseAmount(CharSequence line, int start, int end) {
+    int mantissa = 0;
+    int decimals = -1; // digits after the decimal point, or -1 before the point
+    int digits = 0;
+    for (int i = start; i < end; i++) {
+      char c = line.charAt(i);
+      if (c == '.' && decimals < 0) {
+        decimals = 0;
+      } else if (c >= '0' && c <= '9') {
+        if (mantissa >= MAX_EXACT_MANTISSA / 10 || decimals >= POWERS_OF_TEN.length - 1) {
+          return Float.parseFloat(line.subSequence(start, end).toString());
+        }
+        mantissa = mantissa * 10 + (c - '0');
+        digits++;
+        if (decimals >= 0) {
+          decimals++;
+        }
+      } else {
+        throw new IllegalArgumentException("Invalid amount '" + line.subSequence(start, end)
+            + "'.");
+      }
+    }
+    if (digits == 0) {
+      throw new IllegalArgumentException("Invalid amount '" + line.subSequence(start, end)
+          + "'.");
+    }
+    return (decimals <= 0) ? mantissa : mantissa / POWERS_OF_TEN[decimals];
+  }
+
+  private CharBuffer scratch(int capacity) {
+    if (scratch.capacity() < capacity) {
+      scratch = CharBuffer.allocate(Math.max(capacity, 2 * scratch.capacity()));
+    }
+    return scratch.clear();
+  }
+
+  private static boolean equalsIgnoreCase(CharSequence line, int start, int end, String word) {
+    if (end - start != word.length()) {
+      return false;
+    }
+    for (int i = 0; i < word.length(); i++) {
+      char c = line.charAt(start + i);
+      char w = word.charAt(i);
+      if (c != w && Character.toLowerCase(c) != Character.toLowerCase(w)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int trimEnd(CharSequence line) {
+    int end = line.length();
+    while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+      end--;
+    }
+    return end;
+  }
+
+  private static int skipWhitespace(CharSequence line, int position, int end) {
+    while (position < end && Character.isWhitespace(line.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static int skipWord(CharSequence line, int position, int end) {
+    while (position < end && !Character.isWhitespace(line.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static int skipNumber(CharSequence line, int position, int end) {
+    while (position < end && !Character.isWhitespace(line.charAt(position))
+        && !Character.isLetter(line.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+}
@@ -0,0 +1,34 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for finding the storages holding enough of every ingredient
+ * of a recipe. The number of candidate storages shows how well the ingredient index
+ * narrowed the storages that had their quantities checked.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@Name("edu.ntnu.idi.bidata.AvailabilityEvaluation")
+@Label("Availability Evaluation")
+@Category({"Meal Planning", "Inventory"})
+@Description("Finding the storages holding enough ingredients for a recipe")
+public final class AvailabilityEvaluationEvent extends Event {
+  @Label("Required Ingredients")
+  public int ingredients;
+
+  @Label("Storages")
+  public int storages;
+
+  @Label("Candidate Storages")
+  @Description("Storages holding every ingredient, whose quantities were checked")
+  public int candidates;
+
+  @Label("Sufficient Storages")
+  public int sufficient;
+}
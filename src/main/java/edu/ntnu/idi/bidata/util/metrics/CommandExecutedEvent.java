@@ -0,0 +1,39 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a command executed by a session, lasting from the time
+ * the command is read until it has printed its output.
+ * Along with the command it records the size of the data the command worked on
+ * and of the output it printed, so slow commands can be told apart from large ones.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@Name("edu.ntnu.idi.bidata.CommandExecuted")
+@Label("Command Executed")
+@Category({"Meal Planning", "Commands"})
+@Description("A command executed by a session")
+@StackTrace(false)
+public final class CommandExecutedEvent extends Event {
+  @Label("Command")
+  public String command;
+
+  @Label("Subcommand")
+  public String subcommand;
+
+  @Label("Output Characters")
+  public long outputCharacters;
+
+  @Label("Storages")
+  public int storages;
+
+  @Label("Recipes")
+  public int recipes;
+}
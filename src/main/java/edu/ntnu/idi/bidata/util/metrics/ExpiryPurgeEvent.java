@@ -0,0 +1,29 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for removing the expired lots of a storage.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@Name("edu.ntnu.idi.bidata.ExpiryPurge")
+@Label("Expiry Purge")
+@Category({"Meal Planning", "Inventory"})
+@Description("Removing the expired lots of a storage")
+public final class ExpiryPurgeEvent extends Event {
+  @Label("Storage")
+  public String storage;
+
+  @Label("Lots Removed")
+  public int removed;
+
+  @Label("Value Removed")
+  @Description("The value of the removed lots in cents")
+  public long valueCents;
+}
@@ -0,0 +1,108 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Counts durations in logarithmic buckets, so any duration from a nanosecond to centuries
+ * is recorded in constant time and memory, to within 1/16 of its value.
+ * Durations below 16 ns get a bucket each; above, every power of two is split into
+ * 16 buckets of equal width, in the manner of an HDR histogram.
+ * Recording is lock-free, so any number of threads may record at the same time;
+ * a {@linkplain #summarize() summary} read while durations are recorded may miss some of them.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts;
+  private final LongAccumulator max;
+
+  /**
+   * Constructs an empty histogram.
+   */
+  public LatencyHistogram() {
+    counts = new AtomicLongArray(BUCKETS);
+    max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records a duration. A negative duration is recorded as 0.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long duration = Math.max(0, nanos);
+    counts.incrementAndGet(bucketOf(duration));
+    max.accumulate(duration);
+  }
+
+  /**
+   * Summarizes the recorded durations.
+   *
+   * @return the count, median, 99th percentile and maximum of the durations
+   */
+  public LatencySummary summarize() {
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    long maxNanos = max.get();
+    return new LatencySummary(count, Math.min(maxNanos, valueAt(snapshot, count, 0.50)),
+        Math.min(maxNanos, valueAt(snapshot, count, 0.99)), maxNanos);
+  }
+
+  /**
+   * Finds the bucket holding the duration at the given percentile,
+   * and returns the highest duration of that bucket.
+   */
+  private static long valueAt(long[] snapshot, long count, double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile * count));
+    long seen = 0;
+    int bucket = 0;
+    while (bucket < BUCKETS - 1 && seen + snapshot[bucket] < rank) {
+      seen += snapshot[bucket];
+      bucket++;
+    }
+    return highestValueOf(bucket);
+  }
+
+  /**
+   * Finds the bucket of a duration. A duration d of 16 ns or more lies in a power of two
+   * 2^e ≤ d &lt; 2^(e + 1); its bucket is given by e and the four bits after the leading one.
+   *
+   * @param nanos the duration, at least 0
+   * @return the index of the bucket
+   */
+  static int bucketOf(long nanos) {
+    if (nanos < SUB_BUCKETS) {
+      return (int) nanos;
+    }
+    int shift = (63 - Long.numberOfLeadingZeros(nanos)) - SUB_BUCKET_BITS;
+    return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+  }
+
+  /**
+   * Finds the highest duration counted in a bucket.
+   *
+   * @param bucket the index of the bucket
+   * @return the highest duration of the bucket
+   */
+  static long highestValueOf(int bucket) {
+    if (bucket < 2 * SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+    long mantissa = SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1));
+    return ((mantissa + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,15 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+/**
+ * A summary of the durations recorded by a {@link LatencyHistogram}.
+ * The percentiles are accurate to within 1/16 of their value.
+ *
+ * @param count     the number of durations recorded
+ * @param p50Nanos  the median duration in nanoseconds
+ * @param p99Nanos  the duration exceeded by 1 % of the durations, in nanoseconds
+ * @param maxNanos  the longest duration in nanoseconds
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record LatencySummary(long count, long p50Nanos, long p99Nanos, long maxNanos) {
+}
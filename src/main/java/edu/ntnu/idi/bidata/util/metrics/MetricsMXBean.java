@@ -0,0 +1,27 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import java.util.Map;
+
+/**
+ * The metrics of the application as exposed over JMX, under the name
+ * {@value MetricsRegistry#OBJECT_NAME}, e.g. to be read with JConsole.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public interface MetricsMXBean {
+
+  /**
+   * Retrieves the value of every counter.
+   *
+   * @return a map from counter name to its value
+   */
+  Map<String, Long> getCounters();
+
+  /**
+   * Retrieves a summary of the durations recorded by every histogram.
+   *
+   * @return a map from histogram name to its summary
+   */
+  Map<String, LatencySummary> getLatencies();
+}
@@ -0,0 +1,113 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Keeps the counters and latency histograms of the application by name.
+ * A counter or histogram is created on first use and kept for the life of the registry;
+ * code recording on a hot path looks it up once and keeps the reference.
+ * Counters are {@link LongAdder}s, so threads counting at the same time do not contend.
+ * The {@linkplain #getDefault() default registry} is shared by every session of the process,
+ * and is exposed over JMX as a {@link MetricsMXBean}.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class MetricsRegistry implements MetricsMXBean {
+  static final String OBJECT_NAME = "edu.ntnu.idi.bidata:type=Metrics";
+
+  private final ConcurrentMap<String, LongAdder> counters;
+  private final ConcurrentMap<String, LatencyHistogram> histograms;
+
+  /**
+   * Constructs an empty registry.
+   */
+  public MetricsRegistry() {
+    counters = new ConcurrentHashMap<>();
+    histograms = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Retrieves the registry shared by the whole process,
+   * registering it with the platform MBean server on first use.
+   *
+   * @return the default registry
+   */
+  public static MetricsRegistry getDefault() {
+    return DefaultHolder.REGISTRY;
+  }
+
+  /**
+   * Retrieves the counter of the given name, creating it if missing.
+   *
+   * @param name the name of the counter, e.g. {@code storage lookups}
+   * @return the counter
+   */
+  public LongAdder counter(String name) {
+    return counters.computeIfAbsent(name, key -> new LongAdder());
+  }
+
+  /**
+   * Retrieves the histogram of the given name, creating it if missing.
+   *
+   * @param name the name of the histogram, e.g. {@code list available}
+   * @return the histogram
+   */
+  public LatencyHistogram histogram(String name) {
+    LatencyHistogram histogram = histograms.get(name); // avoids locking once it exists
+    return (histogram != null) ? histogram
+        : histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+  }
+
+  /**
+   * Retrieves the value of every counter, sorted by name.
+   *
+   * @return a map from counter name to its value
+   */
+  @Override
+  public Map<String, Long> getCounters() {
+    Map<String, Long> values = new TreeMap<>();
+    counters.forEach((name, counter) -> values.put(name, counter.sum()));
+    return values;
+  }
+
+  /**
+   * Retrieves a summary of every histogram, sorted by name.
+   *
+   * @return a map from histogram name to its summary
+   */
+  @Override
+  public Map<String, LatencySummary> getLatencies() {
+    Map<String, LatencySummary> summaries = new TreeMap<>();
+    histograms.forEach((name, histogram) -> summaries.put(name, histogram.summarize()));
+    return summaries;
+  }
+
+  /**
+   * Creates the default registry when it is first used.
+   */
+  private static final class DefaultHolder {
+    private static final MetricsRegistry REGISTRY = register(new MetricsRegistry());
+
+    private static MetricsRegistry register(MetricsRegistry registry) {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      try {
+        server.registerMBean(registry, new ObjectName(OBJECT_NAME));
+      } catch (InstanceAlreadyExistsException e) {
+        // registered by another copy of the application in the same process
+      } catch (JMException e) {
+        throw new IllegalStateException("Could not register the metrics.", e);
+      }
+      return registry;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for a scan visiting many lots of a storage,
+ * such as listing the storage or collecting its expired lots.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+@Name("edu.ntnu.idi.bidata.StorageScan")
+@Label("Storage Scan")
+@Category({"Meal Planning", "Inventory"})
+@Description("A scan over the lots of a storage")
+public final class StorageScanEvent extends Event {
+  @Label("Storage")
+  public String storage;
+
+  @Label("Scan")
+  @Description("What the lots were scanned for, e.g. all lots or expired lots")
+  public String scan;
+
+  @Label("Lots Visited")
+  public int lots;
+}
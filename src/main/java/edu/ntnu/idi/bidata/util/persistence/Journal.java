@@ -0,0 +1,374 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+import edu.ntnu.idi.bidata.user.ChangeListener;
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Makes the data of a user durable, i.e. the storages and their lots, the recipes
+ * and the wasted value. Every change is appended to a write-ahead log, and the changes of
+ * one command are committed together by {@link #commit()}. After a number of changes the
+ * complete state is written to a compact snapshot and the log is emptied, so a restart only
+ * loads the snapshot and replays the changes made after it.
+ * Changes may be recorded from several threads, e.g. when storages are changed concurrently;
+ * they are appended to the log one at a time. A snapshot reads every storage,
+ * so it is only written while no change is in progress: each thread changing the data holds
+ * the {@linkplain #getChangeLock() change lock}, and the snapshot is written while none does.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class Journal implements ChangeListener, Closeable {
+  private static final String LOG_FILE = "journal.log";
+  private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+  private final User user;
+  private final Path snapshotPath;
+  private final int snapshotInterval;
+  private final ReentrantReadWriteLock checkpointLock;
+  private WriteAheadLog log;
+  private boolean recovered;
+  private int changesSinceSnapshot;
+
+  private Journal(User user, Path directory, int snapshotInterval) {
+    this.user = user;
+    this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+    this.snapshotInterval = snapshotInterval;
+    this.checkpointLock = new ReentrantReadWriteLock();
+  }
+
+  /**
+   * Opens the journal in the given directory, restores the stored data into the user,
+   * and starts recording the changes made to the user.
+   *
+   * @param directory        the directory holding the journal files; created if missing
+   * @param user             the user whose data is made durable
+   * @param snapshotInterval the number of changes after which a new snapshot is written
+   * @return the opened Journal
+   * @throws IOException if the journal files cannot be read or created
+   * @throws IllegalArgumentException if the snapshot interval is not positive
+   */
+  public static Journal open(Path directory, User user, int snapshotInterval) throws IOException {
+    if (snapshotInterval <= 0) {
+      throw new IllegalArgumentException("Snapshot interval must be positive.");
+    }
+    Files.createDirectories(directory);
+    Journal journal = new Journal(user, directory, snapshotInterval);
+    journal.recover(directory.resolve(LOG_FILE));
+    user.addChangeListener(journal);
+    return journal;
+  }
+
+  /**
+   * Creates a journal in the given directory, holding the current data of the given user
+   * as its snapshot, e.g. generated data for an application to be started on.
+   * The journal is not opened, and changes to the user are not recorded.
+   *
+   * @param directory the directory of the journal; created if missing
+   * @param user      the user whose data is written
+   * @throws IOException if the snapshot cannot be written
+   * @throws IllegalArgumentException if the directory already holds a journal
+   */
+  public static void create(Path directory, User user) throws IOException {
+    Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+    if (Files.exists(snapshotPath) || Files.exists(directory.resolve(LOG_FILE))) {
+      throw new IllegalArgumentException("The directory " + directory + " already holds data.");
+    }
+    Files.createDirectories(directory);
+    SnapshotFile.write(snapshotPath, 0, user);
+  }
+
+  /**
+   * Checks if any data was restored when the journal was opened.
+   *
+   * @return true if data was restored, false if the journal was empty
+   */
+  public boolean hasRecoveredData() {
+    return recovered;
+  }
+
+  /**
+   * Retrieves the lock to hold while changing the data, e.g. for the duration of a command.
+   * Any number of threads may hold it at the same time; a snapshot is only written while
+   * no thread holds it, so a snapshot never contains a change missing from the log.
+   *
+   * @return the change lock of the journal
+   */
+  public Lock getChangeLock() {
+    return checkpointLock.readLock();
+  }
+
+  /**
+   * Makes all changes since the last commit durable with a single disk flush,
+   * and writes a snapshot if enough changes have been made since the last one.
+   * If another thread holds the change lock, the snapshot is put off to a later commit
+   * instead of waiting, so a session waiting for input never delays the others.
+   *
+   * @throws UncheckedIOException if the changes cannot be written
+   */
+  public void commit() {
+    try {
+      boolean snapshotDue;
+      synchronized (this) {
+        log.commit();
+        snapshotDue = changesSinceSnapshot >= snapshotInterval;
+      }
+      if (snapshotDue && checkpointLock.writeLock().tryLock()) {
+        try {
+          writeSnapshot();
+        } finally {
+          checkpointLock.writeLock().unlock();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not save the changes.", e);
+    }
+  }
+
+  /**
+   * Writes the complete state to a new snapshot and empties the log,
+   * waiting until no thread holds the change lock.
+   * Must not be called while holding the change lock.
+   *
+   * @throws IOException if the snapshot cannot be written
+   */
+  public void snapshot() throws IOException {
+    checkpointLock.writeLock().lock();
+    try {
+      writeSnapshot();
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+  }
+
+  private synchronized void writeSnapshot() throws IOException {
+    log.commit();
+    SnapshotFile.write(snapshotPath, log.getLastLsn(), user);
+    log.truncate();
+    changesSinceSnapshot = 0;
+  }
+
+  /**
+   * Stops recording changes, commits the pending changes and closes the log.
+   *
+   * @throws IOException if the changes cannot be written
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    user.removeChangeListener(this);
+    log.close();
+  }
+
+  @Override
+  public void storageCreated(String storageName) {
+    append(RecordType.STORAGE_CREATED, encode(storageName));
+  }
+
+  @Override
+  public void storageRemoved(String storageName) {
+    append(RecordType.STORAGE_REMOVED, encode(storageName));
+  }
+
+  @Override
+  public void lotAdded(String storageName, Ingredient lot) {
+    append(RecordType.LOT_ADDED, encodeLot(storageName, lot));
+  }
+
+  @Override
+  public void lotRemoved(String storageName, Ingredient lot) {
+    append(RecordType.LOT_REMOVED, encodeLot(storageName, lot));
+  }
+
+  @Override
+  public void recipeAdded(Recipe recipe) {
+    append(RecordType.RECIPE_ADDED, encodeRecipe(recipe));
+  }
+
+  @Override
+  public void recipeRemoved(Recipe recipe) {
+    append(RecordType.RECIPE_REMOVED, encodeRecipe(recipe));
+  }
+
+  @Override
+  public void wasteRecorded(float wastedValue) {
+    append(RecordType.WASTE_RECORDED, encodeWaste(wastedValue));
+  }
+
+  /**
+   * Loads the snapshot, if any, and replays the log records made after it.
+   * The journal is not yet listening to the user, so replaying does not record the changes again.
+   *
+   * @param logPath the file of the log
+   * @throws IOException if the files cannot be read
+   */
+  private void recover(Path logPath) throws IOException {
+    recovered = Files.exists(snapshotPath);
+    long snapshotLsn = SnapshotFile.load(snapshotPath, user);
+    log = new WriteAheadLog(logPath, snapshotLsn + 1);
+    log.replay(snapshotLsn, record -> {
+      apply(record);
+      changesSinceSnapshot++;
+      recovered = true;
+    });
+  }
+
+  /**
+   * Applies the change described by the given record to the user.
+   *
+   * @param record the record to be applied
+   * @throws UncheckedIOException if the record cannot be decoded
+   * @throws IllegalArgumentException if the record holds an unknown unit code
+   */
+  private void apply(LogRecord record) {
+    InventoryManager inventoryManager = user.getInventoryManager();
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.payload()))) {
+      switch (record.type()) {
+        case STORAGE_CREATED -> inventoryManager.createIngredientStorage(in.readUTF());
+        case STORAGE_REMOVED -> inventoryManager.removeStorage(in.readUTF());
+        case LOT_ADDED -> {
+          IngredientStorage storage = inventoryManager.getStorage(in.readUTF());
+          storage.addIngredient(decodeLot(in));
+        }
+        case LOT_REMOVED -> {
+          IngredientStorage storage = inventoryManager.getStorage(in.readUTF());
+          Ingredient lot = decodeLot(in);
+          storage.removeIngredient(storage.findIngredient(lot.getName(), lot.getExpiryDate()));
+        }
+        case RECIPE_ADDED -> user.getRecipeManager().addRecipe(decodeRecipe(in));
+        case RECIPE_REMOVED -> user.getRecipeManager().removeRecipe(decodeRecipe(in));
+        case WASTE_RECORDED -> user.addWastedValue(in.readFloat());
+        default -> throw new IllegalArgumentException("Unknown record type: " + record.type());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Corrupted record " + record.lsn() + ".", e);
+    }
+  }
+
+  /**
+   * Appends a record to the log.
+   *
+   * @param type    the kind of change
+   * @param payload the encoded details of the change
+   */
+  private synchronized void append(RecordType type, byte[] payload) {
+    try {
+      log.append(type, payload);
+      changesSinceSnapshot++;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not record the change.", e);
+    }
+  }
+
+  private static byte[] encode(String text) {
+    return encodeWith(out -> out.writeUTF(text));
+  }
+
+  private static byte[] encodeWaste(float wastedValue) {
+    return encodeWith(out -> out.writeFloat(wastedValue));
+  }
+
+  private static byte[] encodeLot(String storageName, Ingredient lot) {
+    return encodeWith(out -> {
+      out.writeUTF(storageName);
+      out.writeUTF(lot.getName());
+      out.writeLong(lot.getBaseAmount());
+      out.writeByte(lot.getUnit().getCode());
+      out.writeFloat(lot.getValue());
+      out.writeInt(lot.getExpiryEpochDay());
+    });
+  }
+
+  private static Ingredient decodeLot(DataInputStream in) throws IOException {
+    String name = in.readUTF();
+    long baseAmount = in.readLong();
+    ValidUnit unit = ValidUnit.fromCode(in.readByte());
+    float value = in.readFloat();
+    int expiryEpochDay = in.readInt();
+    return Ingredient.restore(name, baseAmount, unit, value, expiryEpochDay);
+  }
+
+  private static byte[] encodeRecipe(Recipe recipe) {
+    return encodeWith(out -> {
+      out.writeUTF(recipe.getName());
+      out.writeBoolean(recipe.getDescription() != null);
+      if (recipe.getDescription() != null) {
+        out.writeUTF(recipe.getDescription());
+      }
+      out.writeInt(recipe.getSteps().size());
+      for (Step step : recipe.getSteps()) {
+        out.writeUTF(step.getInstruction());
+        List<Measurement> measurements = step.getMeasurements();
+        out.writeInt((measurements == null) ? -1 : measurements.size());
+        if (measurements != null) {
+          for (Measurement measurement : measurements) {
+            out.writeUTF(measurement.getName());
+            out.writeLong(measurement.getBaseAmount());
+            out.writeByte(measurement.getUnit().getCode());
+          }
+        }
+      }
+    });
+  }
+
+  private static Recipe decodeRecipe(DataInputStream in) throws IOException {
+    Recipe recipe = new Recipe(in.readUTF());
+    if (in.readBoolean()) {
+      recipe.setDescription(in.readUTF());
+    }
+    int stepCount = in.readInt();
+    for (int i = 0; i < stepCount; i++) {
+      String instruction = in.readUTF();
+      int measurementCount = in.readInt();
+      List<Measurement> measurements = null;
+      if (measurementCount >= 0) {
+        measurements = new ArrayList<>(measurementCount);
+        for (int j = 0; j < measurementCount; j++) {
+          String name = in.readUTF();
+          long baseAmount = in.readLong();
+          ValidUnit unit = ValidUnit.fromCode(in.readByte());
+          measurements.add(Measurement.ofBase(name, baseAmount, unit));
+        }
+      }
+      recipe.addStep(new Step(instruction, measurements));
+    }
+    return recipe;
+  }
+
+  private static byte[] encodeWith(PayloadWriter writer) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writer.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Writes the payload of a record.
+   */
+  @FunctionalInterface
+  private interface PayloadWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
+}
@@ -0,0 +1,80 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * A single mutation as it is stored in the write-ahead log.
+ * On disk a record is its log sequence number, type code, payload length and payload,
+ * followed by a CRC32 checksum of all of them, so a torn or corrupted record is detected.
+ *
+ * @param lsn     the log sequence number, increasing by one for each record
+ * @param type    the kind of mutation
+ * @param payload the encoded details of the mutation
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public record LogRecord(long lsn, RecordType type, byte[] payload) {
+  static final int HEADER_SIZE = Long.BYTES + Byte.BYTES + Integer.BYTES;
+  static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * Retrieves the number of bytes the record takes up on disk.
+   *
+   * @return the encoded size of the record.
+   */
+  public int encodedSize() {
+    return HEADER_SIZE + payload.length + Integer.BYTES;
+  }
+
+  /**
+   * Writes the record, including its checksum.
+   *
+   * @param out the output to write to
+   * @throws IOException if the record cannot be written
+   */
+  public void writeTo(DataOutput out) throws IOException {
+    ByteBuffer header = header(lsn, type.getCode(), payload.length);
+    out.write(header.array());
+    out.write(payload);
+    out.writeInt(checksum(header.array(), payload));
+  }
+
+  /**
+   * Reads a record and verifies its checksum.
+   *
+   * @param in the input to read from
+   * @return the record read
+   * @throws IOException if the input ends within the record
+   * @throws IllegalArgumentException if the record is corrupted
+   */
+  public static LogRecord readFrom(DataInput in) throws IOException {
+    long lsn = in.readLong();
+    byte code = in.readByte();
+    int length = in.readInt();
+    if (length < 0 || length > MAX_PAYLOAD_SIZE) {
+      throw new IllegalArgumentException("Corrupted record " + lsn + ": invalid length.");
+    }
+    byte[] payload = new byte[length];
+    in.readFully(payload);
+    int storedChecksum = in.readInt();
+    if (storedChecksum != checksum(header(lsn, code, length).array(), payload)) {
+      throw new IllegalArgumentException("Corrupted record " + lsn + ": checksum mismatch.");
+    }
+    return new LogRecord(lsn, RecordType.fromCode(code), payload);
+  }
+
+  private static ByteBuffer header(long lsn, byte code, int length) {
+    return ByteBuffer.allocate(HEADER_SIZE).putLong(lsn).put(code).putInt(length);
+  }
+
+  private static int checksum(byte[] header, byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(header);
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+}
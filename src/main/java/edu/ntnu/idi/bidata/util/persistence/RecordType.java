@@ -0,0 +1,49 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+/**
+ * The kinds of mutation that are written to the journal, each with a stable one-byte code.
+ * The codes are part of the file format and must never be reused or changed.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public enum RecordType {
+  STORAGE_CREATED(1),
+  STORAGE_REMOVED(2),
+  LOT_ADDED(3),
+  LOT_REMOVED(4),
+  RECIPE_ADDED(5),
+  RECIPE_REMOVED(6),
+  WASTE_RECORDED(7);
+
+  private final byte code;
+
+  RecordType(int code) {
+    this.code = (byte) code;
+  }
+
+  /**
+   * Retrieves the code written to the file for this record type.
+   *
+   * @return the code of the record type.
+   */
+  public byte getCode() {
+    return code;
+  }
+
+  /**
+   * Finds the record type with the given code.
+   *
+   * @param code the code read from the file
+   * @return the matching RecordType
+   * @throws IllegalArgumentException if no record type has the given code
+   */
+  public static RecordType fromCode(byte code) {
+    for (RecordType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown record type: " + code);
+  }
+}
@@ -0,0 +1,286 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes compact binary snapshots of the complete data of a user.
+ * The layout, all numbers big-endian, is:
+ * <pre>
+ * header     magic, version, last log sequence number included
+ * strings    count, then per string its UTF-8 length and bytes
+ * storages   count, then per storage its name id, lot count and fixed-width lots
+ *            (name id, base amount, unit code, value, expiry epoch day)
+ * recipes    count, then per recipe its name id, description id, step count and steps
+ *            (instruction id, measurement count, fixed-width measurements)
+ * waste      the wasted value
+ * trailer    CRC32 of everything before it
+ * </pre>
+ * Every string is stored once in the dictionary and referred to by its index, so loading
+ * decodes each distinct name once. A snapshot is read through a {@link MappedByteBuffer},
+ * so the records are decoded straight from the file without copying it into streams.
+ * It is written to a temporary file, forced to disk and then moved over the previous
+ * snapshot, so a crash during writing always leaves either the old or the new snapshot intact.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+final class SnapshotFile {
+  private static final int MAGIC = 0x4D504C53; // "MPLS"
+  private static final int VERSION = 2;
+  private static final int NONE = -1;
+
+  private SnapshotFile() {
+  }
+
+  /**
+   * Writes a snapshot of the data of the given user, replacing any existing snapshot.
+   *
+   * @param path    the file of the snapshot
+   * @param lastLsn the sequence number of the last log record included in the snapshot
+   * @param user    the user whose data is written
+   * @throws IOException if the snapshot cannot be written
+   */
+  static void write(Path path, long lastLsn, User user) throws IOException {
+    InventoryManager inventoryManager = user.getInventoryManager();
+    List<IngredientStorage> storages = inventoryManager.getStorageOverview().stream()
+        .map(inventoryManager::getStorage)
+        .toList();
+    List<Recipe> recipes = user.getRecipeManager().getAllRecipe();
+    Map<String, Integer> dictionary = buildDictionary(storages, recipes);
+
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      CRC32 crc = new CRC32();
+      CheckedOutputStream checked = new CheckedOutputStream(
+          new BufferedOutputStream(Channels.newOutputStream(channel)), crc);
+      DataOutputStream out = new DataOutputStream(checked);
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(lastLsn);
+      writeDictionary(out, dictionary);
+      writeStorages(out, dictionary, storages);
+      writeRecipes(out, dictionary, recipes);
+      out.writeFloat(user.getWastedValue());
+      out.flush();
+      out.writeInt((int) crc.getValue());
+      out.flush();
+      channel.force(true);
+    }
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Loads the snapshot at the given path into the given user.
+   *
+   * @param path the file of the snapshot
+   * @param user the user to load the data into
+   * @return the sequence number of the last log record included in the snapshot,
+   *         or 0 if there is no snapshot
+   * @throws IOException if the snapshot cannot be read
+   * @throws IllegalArgumentException if the file is not a valid snapshot
+   */
+  static long load(Path path, User user) throws IOException {
+    if (!Files.exists(path)) {
+      return 0;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      verify(buffer, path);
+      buffer.position(2 * Integer.BYTES);
+      long lastLsn = buffer.getLong();
+      String[] dictionary = readDictionary(buffer);
+      readStorages(buffer, dictionary, user.getInventoryManager());
+      readRecipes(buffer, dictionary, user);
+      float wastedValue = buffer.getFloat();
+      if (wastedValue != 0) {
+        user.addWastedValue(wastedValue);
+      }
+      return lastLsn;
+    }
+  }
+
+  /**
+   * Checks the header and the checksum of a snapshot.
+   *
+   * @param buffer the contents of the snapshot
+   * @param path   the file of the snapshot, for the error message
+   * @throws IllegalArgumentException if the snapshot is not valid
+   */
+  private static void verify(ByteBuffer buffer, Path path) {
+    int length = buffer.limit() - Integer.BYTES;
+    if (length < 2 * Integer.BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a snapshot file: " + path);
+    }
+    if (buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IllegalArgumentException("Unsupported snapshot version "
+          + buffer.getInt(Integer.BYTES) + ": " + path);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(buffer.slice(0, length));
+    if ((int) crc.getValue() != buffer.getInt(length)) {
+      throw new IllegalArgumentException("Corrupted snapshot file: " + path);
+    }
+  }
+
+  private static Map<String, Integer> buildDictionary(List<IngredientStorage> storages,
+                                                      List<Recipe> recipes) {
+    Map<String, Integer> dictionary = new LinkedHashMap<>();
+    for (IngredientStorage storage : storages) {
+      dictionary.putIfAbsent(storage.getStorageName(), dictionary.size());
+      for (Ingredient lot : storage.getAllIngredients()) {
+        dictionary.putIfAbsent(lot.getName(), dictionary.size());
+      }
+    }
+    for (Recipe recipe : recipes) {
+      dictionary.putIfAbsent(recipe.getName(), dictionary.size());
+      if (recipe.getDescription() != null) {
+        dictionary.putIfAbsent(recipe.getDescription(), dictionary.size());
+      }
+      for (Step step : recipe.getSteps()) {
+        dictionary.putIfAbsent(step.getInstruction(), dictionary.size());
+        if (step.getMeasurements() != null) {
+          for (Measurement measurement : step.getMeasurements()) {
+            dictionary.putIfAbsent(measurement.getName(), dictionary.size());
+          }
+        }
+      }
+    }
+    return dictionary;
+  }
+
+  private static void writeDictionary(DataOutputStream out, Map<String, Integer> dictionary)
+      throws IOException {
+    out.writeInt(dictionary.size());
+    for (String string : dictionary.keySet()) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static String[] readDictionary(ByteBuffer buffer) {
+    String[] dictionary = new String[buffer.getInt()];
+    for (int i = 0; i < dictionary.length; i++) {
+      int length = buffer.getInt();
+      dictionary[i] = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length))
+          .toString();
+      buffer.position(buffer.position() + length);
+    }
+    return dictionary;
+  }
+
+  private static void writeStorages(DataOutputStream out, Map<String, Integer> dictionary,
+                                    List<IngredientStorage> storages) throws IOException {
+    out.writeInt(storages.size());
+    for (IngredientStorage storage : storages) {
+      List<Ingredient> lots = storage.getAllIngredients();
+      out.writeInt(dictionary.get(storage.getStorageName()));
+      out.writeInt(lots.size());
+      for (Ingredient lot : lots) {
+        out.writeInt(dictionary.get(lot.getName()));
+        out.writeLong(lot.getBaseAmount());
+        out.writeByte(lot.getUnit().getCode());
+        out.writeFloat(lot.getValue());
+        out.writeInt(lot.getExpiryEpochDay());
+      }
+    }
+  }
+
+  private static void readStorages(ByteBuffer buffer, String[] dictionary,
+                                   InventoryManager inventoryManager) {
+    int storageCount = buffer.getInt();
+    for (int i = 0; i < storageCount; i++) {
+      String storageName = dictionary[buffer.getInt()];
+      inventoryManager.createIngredientStorage(storageName);
+      IngredientStorage storage = inventoryManager.getStorage(storageName);
+      int lotCount = buffer.getInt();
+      for (int j = 0; j < lotCount; j++) {
+        String name = dictionary[buffer.getInt()];
+        long baseAmount = buffer.getLong();
+        ValidUnit unit = ValidUnit.fromCode(buffer.get());
+        float value = buffer.getFloat();
+        int expiryEpochDay = buffer.getInt();
+        storage.addIngredient(Ingredient.restore(name, baseAmount, unit, value, expiryEpochDay));
+      }
+    }
+  }
+
+  private static void writeRecipes(DataOutputStream out, Map<String, Integer> dictionary,
+                                   List<Recipe> recipes) throws IOException {
+    out.writeInt(recipes.size());
+    for (Recipe recipe : recipes) {
+      out.writeInt(dictionary.get(recipe.getName()));
+      out.writeInt((recipe.getDescription() == null)
+          ? NONE : dictionary.get(recipe.getDescription()));
+      out.writeInt(recipe.getSteps().size());
+      for (Step step : recipe.getSteps()) {
+        List<Measurement> measurements = step.getMeasurements();
+        out.writeInt(dictionary.get(step.getInstruction()));
+        out.writeInt((measurements == null) ? NONE : measurements.size());
+        if (measurements != null) {
+          for (Measurement measurement : measurements) {
+            out.writeInt(dictionary.get(measurement.getName()));
+            out.writeLong(measurement.getBaseAmount());
+            out.writeByte(measurement.getUnit().getCode());
+          }
+        }
+      }
+    }
+  }
+
+  private static void readRecipes(ByteBuffer buffer, String[] dictionary, User user) {
+    int recipeCount = buffer.getInt();
+    for (int i = 0; i < recipeCount; i++) {
+      Recipe recipe = new Recipe(dictionary[buffer.getInt()]);
+      int descriptionId = buffer.getInt();
+      if (descriptionId != NONE) {
+        recipe.setDescription(dictionary[descriptionId]);
+      }
+      int stepCount = buffer.getInt();
+      for (int j = 0; j < stepCount; j++) {
+        String instruction = dictionary[buffer.getInt()];
+        int measurementCount = buffer.getInt();
+        List<Measurement> measurements = null;
+        if (measurementCount != NONE) {
+          measurements = new ArrayList<>(measurementCount);
+          for (int k = 0; k < measurementCount; k++) {
+            String name = dictionary[buffer.getInt()];
+            long baseAmount = buffer.getLong();
+            ValidUnit unit = ValidUnit.fromCode(buffer.get());
+            measurements.add(Measurement.ofBase(name, baseAmount, unit));
+          }
+        }
+        recipe.addStep(new Step(instruction, measurements));
+      }
+      user.getRecipeManager().addRecipe(recipe);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * An append-only log of binary records in a single file.
+ * Appended records are buffered in memory and written together by {@link #commit()},
+ * which forces them to disk with one {@link FileChannel#force(boolean)} call.
+ * This group commit lets all records of one command share a single disk flush.
+ * When the log is opened, a torn or corrupted record at the end, left by a crash
+ * during a write, is cut off, so the log always ends with the last complete record.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public class WriteAheadLog implements Closeable {
+  private final FileChannel channel;
+  private final ByteArrayOutputStream pending;
+  private final DataOutputStream pendingOut;
+  private long lastLsn;
+
+  /**
+   * Opens the log in the given file, creating it if it does not exist.
+   *
+   * @param path       the file of the log
+   * @param minimumLsn the lowest sequence number to give the next record, e.g. one more
+   *                   than the last record included in a snapshot
+   * @throws IOException if the file cannot be opened or read
+   */
+  public WriteAheadLog(Path path, long minimumLsn) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    pending = new ByteArrayOutputStream();
+    pendingOut = new DataOutputStream(pending);
+    lastLsn = minimumLsn - 1;
+    long end = scan(record -> lastLsn = Math.max(lastLsn, record.lsn()));
+    if (end < channel.size()) {
+      channel.truncate(end);
+      channel.force(true);
+    }
+    channel.position(end);
+  }
+
+  /**
+   * Passes every record after the given sequence number to the given action, in order.
+   * Only records already committed to the file are read.
+   *
+   * @param afterLsn the sequence number of the last record not to be replayed
+   * @param action   the action to be performed for each record
+   * @throws IOException if the file cannot be read
+   */
+  public void replay(long afterLsn, Consumer<LogRecord> action) throws IOException {
+    scan(record -> {
+      if (record.lsn() > afterLsn) {
+        action.accept(record);
+      }
+    });
+  }
+
+  /**
+   * Appends a record to the log. The record is only durable after {@link #commit()}.
+   *
+   * @param type    the kind of mutation
+   * @param payload the encoded details of the mutation
+   * @return the sequence number given to the record
+   * @throws IOException if the record cannot be encoded
+   */
+  public long append(RecordType type, byte[] payload) throws IOException {
+    lastLsn++;
+    new LogRecord(lastLsn, type, payload).writeTo(pendingOut);
+    return lastLsn;
+  }
+
+  /**
+   * Writes all appended records to the file and forces them to disk.
+   * Does nothing if no records have been appended since the last commit.
+   *
+   * @throws IOException if the records cannot be written
+   */
+  public void commit() throws IOException {
+    if (pending.size() == 0) {
+      return;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    channel.force(false);
+    pending.reset();
+  }
+
+  /**
+   * Removes all records from the file, e.g. after they have been included in a snapshot.
+   * The sequence numbers keep increasing from the last record.
+   *
+   * @throws IOException if the file cannot be truncated
+   */
+  public void truncate() throws IOException {
+    commit();
+    channel.truncate(0);
+    channel.position(0);
+    channel.force(true);
+  }
+
+  /**
+   * Retrieves the sequence number of the last appended record.
+   *
+   * @return the last sequence number, or one less than the minimum if no record exists.
+   */
+  public long getLastLsn() {
+    return lastLsn;
+  }
+
+  /**
+   * Commits any appended records and closes the file.
+   *
+   * @throws IOException if the records cannot be written or the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      commit();
+    } finally {
+      channel.close();
+    }
+  }
+
+  /**
+   * Reads the complete records from the start of the file, stopping at the first
+   * incomplete or corrupted record.
+   *
+   * @param action the action to be performed for each record
+   * @return the position just after the last complete record
+   * @throws IOException if the file cannot be read
+   */
+  private long scan(Consumer<LogRecord> action) throws IOException {
+    long position = 0;
+    long savedPosition = channel.position();
+    channel.position(0);
+    InputStream stream = new BufferedInputStream(Channels.newInputStream(channel));
+    DataInputStream in = new DataInputStream(stream);
+    try {
+      LogRecord record = readRecord(in);
+      while (record != null) {
+        position += record.encodedSize();
+        action.accept(record);
+        record = readRecord(in);
+      }
+    } finally {
+      channel.position(savedPosition);
+    }
+    return position;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @param in the input to read from
+   * @return the next record, or null if the log ends with no complete and valid record
+   * @throws IOException if the file cannot be read
+   */
+  private static LogRecord readRecord(DataInputStream in) throws IOException {
+    try {
+      return LogRecord.readFrom(in);
+    } catch (EOFException | IllegalArgumentException endOfLog) {
+      return null;
+    }
+  }
+}
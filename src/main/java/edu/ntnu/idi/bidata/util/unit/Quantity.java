@@ -0,0 +1,254 @@
+package edu.ntnu.idi.bidata.util.unit;
+
+import edu.ntnu.idi.bidata.util.metrics.MetricsRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents an exact quantity as a whole number of base units together with a display unit.
+ * Solids are counted in milligrams and liquids in microliters (see
+ * {@link UnitConverter#getBaseFactor(ValidUnit)}). Arithmetic, comparison and conversion
+ * operate on the base amount in place, so they neither allocate nor accumulate rounding errors.
+ * Rounding to two decimals only happens when the amount is read in the display unit.
+ * Conversions are counted in the {@linkplain MetricsRegistry#getDefault() metrics}.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+public final class Quantity implements Comparable<Quantity> {
+  private static final LongAdder CONVERSIONS =
+      MetricsRegistry.getDefault().counter("unit conversions");
+
+  private long baseAmount;
+  private ValidUnit unit;
+
+  /**
+   * Constructs an empty Quantity without a unit.
+   * The unit must be set before an amount can be set.
+   */
+  public Quantity() {
+    baseAmount = 0;
+  }
+
+  /**
+   * Constructs a Quantity with the given amount in the given unit.
+   *
+   * @param amount the amount in the given unit; must be non-negative
+   * @param unit   the display unit; must not be null or unknown
+   * @throws IllegalArgumentException if the amount is negative or the unit is invalid
+   */
+  public Quantity(float amount, ValidUnit unit) {
+    setUnit(unit);
+    setAmount(amount);
+  }
+
+  /**
+   * Creates a Quantity from a whole number of base units.
+   *
+   * @param baseAmount the amount in milligrams for solids, or microliters for liquids
+   * @param unit       the display unit; must not be null or unknown
+   * @return the created Quantity
+   * @throws IllegalArgumentException if the base amount is negative or the unit is invalid
+   */
+  public static Quantity ofBase(long baseAmount, ValidUnit unit) {
+    Quantity quantity = new Quantity();
+    quantity.setUnit(unit);
+    quantity.setBaseAmount(baseAmount);
+    return quantity;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof Quantity that)) {
+      return false;
+    }
+    return baseAmount == that.baseAmount && unit == that.unit;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(baseAmount) + ((unit == null) ? 0 : unit.hashCode());
+  }
+
+  @Override
+  public String toString() {
+    return getAmount() + " " + unit;
+  }
+
+  /**
+   * Compares the base amount of this quantity with another quantity of the same kind.
+   *
+   * @param other the quantity to compare with; must be of the same kind
+   * @return a negative number, zero or a positive number if this quantity is
+   *         less than, equal to, or greater than the other
+   * @throws IllegalArgumentException if the quantities are not of the same kind
+   */
+  @Override
+  public int compareTo(Quantity other) {
+    assertSameKind(other);
+    return Long.compare(baseAmount, other.baseAmount);
+  }
+
+  /**
+   * Checks if this quantity is at least as large as another quantity of the same kind.
+   *
+   * @param other the quantity to compare with
+   * @return true if this quantity is greater than or equal to the other, false otherwise
+   * @throws IllegalArgumentException if the quantities are not of the same kind
+   */
+  public boolean isAtLeast(Quantity other) {
+    return compareTo(other) >= 0;
+  }
+
+  /**
+   * Adds another quantity of the same kind to this quantity. The display unit is kept.
+   *
+   * @param other the quantity to add
+   * @throws IllegalArgumentException if the quantities are not of the same kind
+   */
+  public void add(Quantity other) {
+    assertSameKind(other);
+    baseAmount = Math.addExact(baseAmount, other.baseAmount);
+  }
+
+  /**
+   * Subtracts another quantity of the same kind from this quantity. The display unit is kept.
+   *
+   * @param other the quantity to subtract; must not be larger than this quantity
+   * @throws IllegalArgumentException if the quantities are not of the same kind,
+   *                                  or if the result would be negative
+   */
+  public void subtract(Quantity other) {
+    assertSameKind(other);
+    setBaseAmount(baseAmount - other.baseAmount);
+  }
+
+  /**
+   * Changes the display unit of this quantity, keeping the exact amount.
+   *
+   * @param targetUnit the unit to convert to; must be of the same kind as the current unit
+   * @throws IllegalArgumentException if the target unit is not of the same kind
+   */
+  public void convertTo(ValidUnit targetUnit) {
+    if (unit == null || targetUnit == null || UnitConverter.getBaseFactor(targetUnit) == 0
+        || UnitConverter.isSolid(unit) != UnitConverter.isSolid(targetUnit)) {
+      throw new IllegalArgumentException("Illegal operation: convert "
+          + unit + " to " + targetUnit + ".");
+    }
+    this.unit = targetUnit;
+    CONVERSIONS.increment();
+  }
+
+  /**
+   * Changes the display unit to the standard unit of its kind,
+   * kilograms for solids and liters for liquids.
+   */
+  public void convertToStandard() {
+    convertTo(isSolid() ? ValidUnit.KG : ValidUnit.L);
+  }
+
+  /**
+   * Retrieves the amount in the display unit, rounded to two decimal places.
+   *
+   * @return the amount in the display unit.
+   */
+  public float getAmount() {
+    if (unit == null) {
+      return 0;
+    }
+    return Math.round(baseAmount * 100.0 / UnitConverter.getBaseFactor(unit)) / 100.0f;
+  }
+
+  /**
+   * Sets the amount in the current display unit.
+   *
+   * @param amount the amount to set; must be non-negative
+   * @throws IllegalArgumentException if the amount is negative or no unit is set
+   */
+  public void setAmount(float amount) {
+    if (amount < 0) {
+      throw new IllegalArgumentException("Amount cannot be negative");
+    }
+    if (unit == null) {
+      throw new IllegalArgumentException("Unit must be set before the amount.");
+    }
+    setBaseAmount(UnitConverter.toBaseAmount(amount, unit));
+  }
+
+  /**
+   * Retrieves the exact amount in base units.
+   *
+   * @return the amount in milligrams for solids, or microliters for liquids.
+   */
+  public long getBaseAmount() {
+    return baseAmount;
+  }
+
+  /**
+   * Retrieves the display unit.
+   *
+   * @return the display unit, or null if no unit is set.
+   */
+  public ValidUnit getUnit() {
+    return unit;
+  }
+
+  /**
+   * Sets the display unit, keeping the amount as read in the display unit.
+   * For example 2 kg becomes 2 g. Use {@link #convertTo(ValidUnit)} to keep the exact amount.
+   *
+   * @param unit the new display unit
+   * @throws IllegalArgumentException if the unit is null or UNKNOWN
+   */
+  public void setUnit(ValidUnit unit) {
+    if (unit == null) {
+      throw new IllegalArgumentException("Unit cannot be null.");
+    }
+    if (unit == ValidUnit.UNKNOWN) {
+      throw new IllegalArgumentException("Invalid unit, please try again.");
+    }
+    if (this.unit != null && this.unit != unit) {
+      long oldFactor = UnitConverter.getBaseFactor(this.unit);
+      long newFactor = UnitConverter.getBaseFactor(unit);
+      baseAmount = baseAmount / oldFactor * newFactor
+          + Math.round((double) (baseAmount % oldFactor) * newFactor / oldFactor);
+    }
+    this.unit = unit;
+  }
+
+  /**
+   * Checks if this quantity measures a solid.
+   *
+   * @return true if the display unit is a weight unit, false otherwise
+   */
+  public boolean isSolid() {
+    return UnitConverter.isSolid(unit);
+  }
+
+  /**
+   * Sets the exact amount in base units. The display unit is kept.
+   *
+   * @param baseAmount the amount in milligrams for solids, or microliters for liquids
+   * @throws IllegalArgumentException if the base amount is negative
+   */
+  public void setBaseAmount(long baseAmount) {
+    if (baseAmount < 0) {
+      throw new IllegalArgumentException("Amount cannot be negative");
+    }
+    this.baseAmount = baseAmount;
+  }
+
+  /**
+   * Checks that another quantity is of the same kind as this one,
+   * so the two can be compared, added or subtracted.
+   *
+   * @param other the quantity to check
+   * @throws IllegalArgumentException if the quantities are not of the same kind
+   */
+  public void assertSameKind(Quantity other) {
+    if (other == null || unit == null || other.unit == null || isSolid() != other.isSolid()) {
+      throw new IllegalArgumentException("Illegal operation: cannot combine "
+          + unit + " with " + ((other == null) ? null : other.unit) + ".");
+    }
+  }
+}
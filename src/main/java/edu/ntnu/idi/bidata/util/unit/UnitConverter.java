@@ -38,6 +38,44 @@ public class UnitConverter {
     return multiplier;
   }
 
+  /**
+   * Retrieves the number of base units in one of the given unit.
+   * Solids are counted in milligrams and liquids in microliters, so both
+   * have the same resolution relative to their standard unit.
+   *
+   * @param unit the valid unit for which the factor is to be determined.
+   * @return the number of base units in one of the given unit, or 0 if the unit is unknown.
+   */
+  public static long getBaseFactor(ValidUnit unit) {
+    return switch (unit) {
+      case KG, L -> 1_000_000L;
+      case DL -> 100_000L;
+      case G, ML -> 1_000L;
+      default -> 0L;
+    };
+  }
+
+  /**
+   * Converts the given amount in the given unit to a whole number of base units.
+   *
+   * @param amount the amount to be converted
+   * @param unit   the unit of the amount
+   * @return the amount as milligrams for solids, or microliters for liquids.
+   */
+  public static long toBaseAmount(float amount, ValidUnit unit) {
+    return Math.round((double) amount * getBaseFactor(unit));
+  }
+
+  /**
+   * Checks if the given unit measures a solid.
+   *
+   * @param unit the unit to be checked
+   * @return true if the unit is a weight unit, false otherwise
+   */
+  public static boolean isSolid(ValidUnit unit) {
+    return unit == ValidUnit.KG || unit == ValidUnit.G;
+  }
+
   /**
    * Calculates the standard unit price based on the given unit and unit price.
    *
@@ -58,35 +96,24 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; can be null
    */
   public static void convertToStandard(Measurement measurement) {
-    String ingredientType = "";
-    if (measurement != null) {
-      ingredientType = measurement.getIngredientType();
-    }
-    if (ingredientType.equals("SOLID")) {
-      convertToKG(measurement);
-    } else if (ingredientType.equals("LIQUID")) {
-      convertToLiter(measurement);
+    if (measurement != null && measurement.getUnit() != null) {
+      measurement.convertTo(isSolid(measurement.getUnit()) ? ValidUnit.KG : ValidUnit.L);
     }
   }
 
   /**
    * Converts the given measurement to a standard format based on its ingredient type.
-   * For the "SOLID" type, it is converted using specific factors for kilograms and grams.
-   * For the "LIQUID" type, it is converted using factors for liters, deciliters, and milliliters.
+   * For the "SOLID" type, the amount is given in kilograms.
+   * For the "LIQUID" type, the amount is given in liters.
+   * The given measurement is not modified.
    *
    * @param measurement the measurement to be converted; must not be null
-   * @return a list containing the converted value and the associated unit,
-   * or null if the ingredient type is unsupported
+   * @return a list containing the converted value and the associated unit
    */
   public static List<Object> getStandardData(Measurement measurement) {
-    String ingredientType = measurement.getIngredientType();
-    List<Object> data = null;
-    if (ingredientType.equals("SOLID")) {
-      data = convertSolid(measurement, ValidUnit.KG, 1, 0.001f);
-    } else if (ingredientType.equals("LIQUID")) {
-      data = convertLiquid(measurement, ValidUnit.L, 1, 0.1f, 0.001f);
-    }
-    return data;
+    ValidUnit standardUnit = isSolid(measurement.getUnit()) ? ValidUnit.KG : ValidUnit.L;
+    float amount = Quantity.ofBase(measurement.getBaseAmount(), standardUnit).getAmount();
+    return List.of(amount, standardUnit);
   }
 
   /**
@@ -106,8 +133,7 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; must not be null
    */
   public static void convertToGrams(Measurement measurement) {
-    List<Object> data = convertSolid(measurement, ValidUnit.G, 1000, 1);
-    updateMeasurement(measurement, data);
+    measurement.convertTo(ValidUnit.G);
   }
 
   /**
@@ -116,8 +142,7 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; must not be null
    */
   public static void convertToKG(Measurement measurement) {
-    List<Object> data = convertSolid(measurement, ValidUnit.KG, 1, 0.001f);
-    updateMeasurement(measurement, data);
+    measurement.convertTo(ValidUnit.KG);
   }
 
   /**
@@ -126,8 +151,7 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; must not be null
    */
   public static void convertToLiter(Measurement measurement) {
-    List<Object> data = convertLiquid(measurement, ValidUnit.L, 1, 0.1f, 0.001f);
-    updateMeasurement(measurement, data);
+    measurement.convertTo(ValidUnit.L);
   }
 
   /**
@@ -136,8 +160,7 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; must not be null
    */
   public static void convertToDeciLiter(Measurement measurement) {
-    List<Object> data = convertLiquid(measurement, ValidUnit.DL, 10, 1f, 0.01f);
-    updateMeasurement(measurement, data);
+    measurement.convertTo(ValidUnit.DL);
   }
 
   /**
@@ -146,12 +169,12 @@ public class UnitConverter {
    * @param measurement the measurement to be converted; must not be null
    */
   public static void convertToMilliLiter(Measurement measurement) {
-    List<Object> data = convertLiquid(measurement, ValidUnit.ML, 1000, 100f, 1f);
-    updateMeasurement(measurement, data);
+    measurement.convertTo(ValidUnit.ML);
   }
 
   /**
    * Converts the given measurement to the specified target unit based on its current valid unit.
+   * Only the unit is changed, the exact amount of the measurement is kept.
    *
    * @param measurement the measurement to be converted; must not be null
    * @param targetUnit  the unit to convert the measurement to; must not be null
@@ -172,82 +195,4 @@ public class UnitConverter {
     }
   }
 
-  /**
-   * Updates the specified measurement with the provided data.
-   *
-   * @param sourceMeasurement the measurement object to be updated; must not be null
-   * @param data              a list containing the new amount as the first element
-   *                          and the new valid unit as the last element; must not be null
-   */
-  public static void updateMeasurement(Measurement sourceMeasurement, List<Object> data) {
-    sourceMeasurement.setAmount((Float) data.getFirst());
-    sourceMeasurement.setUnit((ValidUnit) data.getLast());
-  }
-
-  /**
-   * Converts a given solid measurement to the specified target unit.
-   *
-   * @param measurement  the measurement to be converted; must not be null
-   * @param targetUnit   the unit to convert the measurement to; must not be null
-   * @param factorFromKG conversion factor to apply when the current unit is kilograms
-   * @param factorFromG  conversion factor to apply when the current unit is grams
-   * @return a list containing the converted amount and target unit
-   * @throws IllegalArgumentException if the conversion between the current unit
-   *                                  and the target unit is not allowed
-   */
-  private static List<Object> convertSolid(Measurement measurement,
-                                           ValidUnit targetUnit,
-                                           float factorFromKG,
-                                           float factorFromG) {
-    float amount = measurement.getAmount();
-    ValidUnit currentUnit = measurement.getUnit();
-    switch (currentUnit) {
-      case KG -> amount *= factorFromKG;
-      case G -> amount *= factorFromG;
-      default -> throw new IllegalArgumentException("Illegal operation: convert "
-          + currentUnit + " to " + targetUnit + ".");
-    }
-    amount = roundToTwoDecimals(amount);
-    return List.of(amount, targetUnit);
-  }
-
-  /**
-   * Converts a given liquid measurement to the specified target unit.
-   *
-   * @param sourceMeasurement the measurement to be converted; must not be null
-   * @param targetUnit        the unit to convert the measurement to; must not be null
-   * @param factorFromL       conversion factor to apply when the current unit is liters
-   * @param factorFromDL      conversion factor to apply when the current unit is deciliters
-   * @param factorFromML      conversion factor to apply when the current unit is milliliters
-   * @return a list containing the converted amount and target unit
-   * @throws IllegalArgumentException if the conversion between the current unit
-   *                                  and the target unit is not allowed
-   */
-  private static List<Object> convertLiquid(Measurement sourceMeasurement,
-                                            ValidUnit targetUnit, float factorFromL,
-                                            float factorFromDL, float factorFromML) {
-    float amount = sourceMeasurement.getAmount();
-    ValidUnit currentUnit = sourceMeasurement.getUnit();
-    switch (currentUnit) {
-      case L -> amount *= factorFromL;
-      case DL -> amount *= factorFromDL;
-      case ML -> amount *= factorFromML;
-      default -> throw new IllegalArgumentException("Illegal operation: convert "
-          + currentUnit + " to " + targetUnit + ".");
-    }
-    amount = roundToTwoDecimals(amount);
-    return List.of(amount, targetUnit);
-  }
-
-  /**
-   * Rounds a given float value to two decimal places.
-   * The method multiplies the value by 100, rounds it, and then divides by 100.
-   *
-   * @param value the float value to be rounded
-   * @return the rounded float value with two decimal places
-   */
-  private static float roundToTwoDecimals(float value) {
-    return Math.round(value * 100) / 100.0f;
-  }
-
-}
\ No newline at end of file
+}
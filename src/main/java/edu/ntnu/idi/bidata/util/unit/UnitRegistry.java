@@ -3,9 +3,9 @@ package edu.ntnu.idi.bidata.util.unit;
 import edu.ntnu.idi.bidata.util.Utility;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Registers and stores valid units for look-up and retrieval.
@@ -14,7 +14,8 @@ import java.util.Map;
  * @version 2024-12-04
  */
 public class UnitRegistry {
-  private static final Map<String, ValidUnit> UNIT_MAP = new HashMap<>();
+  private static final Map<String, ValidUnit> UNIT_MAP =
+      new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
   private UnitRegistry() {
   }
@@ -25,12 +26,14 @@ public class UnitRegistry {
 
   /**
    * Finds and returns the corresponding ValidUnit for a given input string.
+   * The look-up ignores case, so the input is not converted to a new string.
    *
    * @param input the string representation of a unit to be looked up.
    * @return the matching ValidUnit if found; otherwise, ValidUnit.UNKNOWN.
    */
   public static ValidUnit findUnit(String input) {
-    return UNIT_MAP.getOrDefault(Utility.createKey(input), ValidUnit.UNKNOWN);
+    return (input == null) ? ValidUnit.UNKNOWN
+        : UNIT_MAP.getOrDefault(input.strip(), ValidUnit.UNKNOWN);
   }
 
   /**
@@ -6,15 +6,54 @@ package edu.ntnu.idi.bidata.util.unit;
  * ingredients, substances, or other measurable entities. It includes
  * units for weight (KG, G), volume (L, DL, ML), and a placeholder for
  * unknown or unrecognized units (UNKNOWN).
+ * Each unit has a fixed code for saved data, which does not change
+ * if units are added or reordered.
  *
  * @author Nick Heggø
  * @version 2024-11-08
  */
 public enum ValidUnit {
-  KG,
-  G,
-  L,
-  DL,
-  ML,
-  UNKNOWN
+  KG(0),
+  G(1),
+  L(2),
+  DL(3),
+  ML(4),
+  UNKNOWN(5);
+
+  private static final ValidUnit[] BY_CODE = new ValidUnit[6];
+
+  static {
+    for (ValidUnit unit : values()) {
+      BY_CODE[unit.code] = unit;
+    }
+  }
+
+  private final byte code;
+
+  ValidUnit(int code) {
+    this.code = (byte) code;
+  }
+
+  /**
+   * Retrieves the fixed code of the unit, used to save it.
+   *
+   * @return the code of the unit
+   */
+  public byte getCode() {
+    return code;
+  }
+
+  /**
+   * Retrieves the unit with the given code.
+   *
+   * @param code the code of the unit, as returned by {@link #getCode()}
+   * @return the unit with the code
+   * @throws IllegalArgumentException if no unit has the code
+   */
+  public static ValidUnit fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+      throw new IllegalArgumentException("Unknown unit code: " + code + ".");
+    }
+    return BY_CODE[code];
+  }
 }
@@ -0,0 +1,131 @@
+package edu.ntnu.idi.bidata.user;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.MemorySink;
+import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RecipeAvailability class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class RecipeAvailabilityTest {
+  private Inventory inventory;
+  private CookBook cookBook;
+  private RecipeAvailability availability;
+
+  @BeforeEach
+  void setUp() {
+    inventory = new Inventory();
+    cookBook = new CookBook();
+    availability = new RecipeAvailability(inventory, cookBook);
+    inventory.createIngredientStorage("Fridge");
+    inventory.createIngredientStorage("Pantry");
+  }
+
+  @Test
+  void testFollowsLotChanges() {
+    Recipe pancakes = recipe("Pancakes", new Measurement("Milk", 5, ValidUnit.DL),
+        new Measurement("Flour", 300, ValidUnit.G));
+    cookBook.addRecipe(pancakes);
+    assertEquals(Map.of(), availability.getAvailableRecipes());
+
+    IngredientStorage pantry = inventory.getStorage("Pantry");
+    Ingredient milk = new Ingredient("Milk", 1, ValidUnit.L, 20, 5);
+    pantry.addIngredient(milk);
+    pantry.addIngredient(new Ingredient("Flour", 200, ValidUnit.G, 10, 100));
+    assertEquals(List.of(), availability.findSufficientStorages(pancakes));
+
+    pantry.addIngredient(new Ingredient("Flour", 200, ValidUnit.G, 10, 100)); // merged
+    assertEquals(Map.of(pancakes, List.of("Pantry")), availability.getAvailableRecipes());
+
+    pantry.removeIngredient(milk);
+    assertEquals(List.of(), availability.findSufficientStorages(pancakes));
+  }
+
+  @Test
+  void testFollowsRecipeAndStorageChanges() {
+    Recipe toast = recipe("Toast", new Measurement("Bread", 200, ValidUnit.G));
+    Recipe water = recipe("Water");
+    inventory.getStorage("Fridge").addIngredient(new Ingredient("Bread", 1, ValidUnit.KG, 30, 3));
+    cookBook.addRecipe(toast);
+    assertEquals(List.of("Fridge"), availability.findSufficientStorages(toast));
+
+    cookBook.addRecipe(water);
+    assertEquals(List.of("Fridge", "Pantry"), availability.findSufficientStorages(water));
+    inventory.createIngredientStorage("Cellar");
+    inventory.removeStorage("Fridge");
+    assertEquals(List.of("Cellar", "Pantry"), availability.findSufficientStorages(water));
+    assertEquals(List.of(), availability.findSufficientStorages(toast));
+
+    cookBook.removeRecipe(water);
+    assertEquals(List.of(), availability.findSufficientStorages(water));
+  }
+
+  @Test
+  void testMatchesInventoryAfterRandomChanges() {
+    Inventory generatedInventory = new Inventory();
+    CookBook generatedCookBook = new CookBook();
+    OutputHandler outputHandler = new OutputHandler(new MemorySink());
+    User user = new User(InputScanner.nonInteractive(outputHandler), outputHandler,
+        generatedInventory, generatedCookBook);
+    new HouseholdGenerator(new HouseholdProfile(3, 3, 400, 400, 2, 0.9))
+        .generateInto(user.getInventoryManager(), generatedCookBook);
+    RecipeAvailability generatedAvailability = user.getRecipeAvailability();
+    assertMatchesInventory(generatedAvailability, generatedInventory, generatedCookBook);
+
+    Random random = new Random(11);
+    List<Recipe> recipes = generatedCookBook.getAllRecipe();
+    for (int round = 0; round < 20; round++) {
+      for (int change = 0; change < 25; change++) {
+        IngredientStorage storage = generatedInventory.getStorage(
+            HouseholdGenerator.getStorageName(random.nextInt(3)));
+        Recipe recipe = recipes.get(random.nextInt(recipes.size()));
+        List<Ingredient> lots = storage.getAllIngredients();
+        if (random.nextBoolean() && !lots.isEmpty()) {
+          storage.removeIngredient(lots.get(random.nextInt(lots.size())));
+        } else {
+          Measurement needed = recipe.getAllMeasurement().getFirst();
+          storage.addIngredient(new Ingredient(needed.getName(), needed.getAmount() * 2,
+              needed.getUnit(), 10, 30));
+        }
+      }
+      assertMatchesInventory(generatedAvailability, generatedInventory, generatedCookBook);
+    }
+  }
+
+  private static void assertMatchesInventory(RecipeAvailability availability,
+                                             Inventory inventory, CookBook cookBook) {
+    for (Recipe recipe : cookBook.getAllRecipe()) {
+      List<String> expected = inventory.findSufficientStorages(recipe.getAllMeasurement())
+          .stream().sorted().toList();
+      assertEquals(expected, availability.findSufficientStorages(recipe), recipe.getName());
+    }
+  }
+
+  private static Recipe recipe(String name, Measurement... measurements) {
+    Recipe recipe = new Recipe(name);
+    recipe.setDescription(name + " for testing.");
+    recipe.addStep(new Step("Prepare.", List.of(measurements)));
+    return recipe;
+  }
+}
@@ -0,0 +1,74 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.MemorySink;
+import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.generator.HouseholdGenerator;
+import edu.ntnu.idi.bidata.util.generator.HouseholdProfile;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BatchAvailabilityEvaluator class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class BatchAvailabilityEvaluatorTest {
+
+  @Test
+  void testMatchesFindSufficientStorages() {
+    Inventory inventory = new Inventory();
+    CookBook cookBook = new CookBook();
+    OutputHandler outputHandler = new OutputHandler(new MemorySink());
+    InventoryManager inventoryManager = new InventoryManager(inventory,
+        InputScanner.nonInteractive(outputHandler), outputHandler);
+    int recipeCount = 5 * BatchAvailabilityEvaluator.RECIPES_PER_TASK;
+    new HouseholdGenerator(new HouseholdProfile(5, 4, 300, recipeCount, 3, 0.9))
+        .generateInto(inventoryManager, cookBook);
+    List<List<Measurement>> requirements = cookBook.getAllRecipe().stream()
+        .map(Recipe::getAllMeasurement)
+        .toList();
+
+    List<List<String>> results;
+    try (ForkJoinPool pool = new ForkJoinPool(4)) {
+      results = new BatchAvailabilityEvaluator(pool).evaluate(requirements,
+          inventory.getStorages());
+    }
+
+    assertEquals(recipeCount, results.size());
+    int available = 0;
+    for (int i = 0; i < recipeCount; i++) {
+      List<String> expected = inventory.findSufficientStorages(requirements.get(i));
+      assertEquals(expected.stream().sorted().toList(), results.get(i).stream().sorted().toList());
+      available += expected.isEmpty() ? 0 : 1;
+    }
+    assertTrue(available > 0 && available < recipeCount, available + " of " + recipeCount);
+  }
+
+  @Test
+  void testSmallBatchAndEdgeCases() {
+    Inventory inventory = new Inventory();
+    inventory.createIngredientStorage("Fridge");
+    inventory.createIngredientStorage("Pantry");
+    inventory.getStorage("Fridge").addIngredient(new Ingredient("Milk", 1, ValidUnit.L, 20, 5));
+
+    List<List<String>> results = inventory.findSufficientStoragesForAll(List.of(
+        List.of(new Measurement("Milk", 5, ValidUnit.DL)),
+        List.of(new Measurement("Milk", 2, ValidUnit.L)),
+        List.of(new Measurement("Cream", 1, ValidUnit.DL)),
+        List.of()));
+
+    assertEquals(List.of("Fridge"), results.get(0));
+    assertEquals(List.of(), results.get(1));
+    assertEquals(List.of(), results.get(2));
+    assertEquals(List.of("Fridge", "Pantry"), results.get(3).stream().sorted().toList());
+  }
+}
@@ -1,12 +1,17 @@
 package edu.ntnu.idi.bidata.user.inventory;
 
+import edu.ntnu.idi.bidata.util.ClockService;
 import edu.ntnu.idi.bidata.util.unit.ValidUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -30,6 +35,7 @@ class IngredientStorageTest {
   @AfterEach
   void restoreStreams() {
     System.setOut(originalOut);
+    ClockService.resetClock();
   }
 
   @Test
@@ -47,6 +53,18 @@ class IngredientStorageTest {
     assertEquals(1, expiredList.size());
   }
 
+  @Test
+  void testRemoveExpired() {
+    Ingredient fresh = new Ingredient("testIngredient", 23, ValidUnit.KG, 20, 4);
+    ingredientStorage.addIngredient(fresh);
+    ingredientStorage.addIngredient(new Ingredient("expiredDemo"));
+    List<Ingredient> removedList = ingredientStorage.removeExpired();
+    assertEquals(1, removedList.size());
+    assertTrue(ingredientStorage.getAllExpired().isEmpty());
+    assertTrue(ingredientStorage.isIngredientPresent("testIngredient"));
+    removedList.forEach(removed -> assertFalse(ingredientStorage.removeIngredient(removed)));
+  }
+
   @Test
   void testAddIngredient() {
     Ingredient ingredient = new Ingredient("testIngredient", 23, ValidUnit.KG, 20, 4);
@@ -64,6 +82,63 @@ class IngredientStorageTest {
     assertFalse(ingredientStorage.isIngredientPresent("TESTINGREDIENT"));
   }
 
+  @Test
+  void testIsIngredientEnough() {
+    Ingredient ingredient = new Ingredient("testIngredient", 2, ValidUnit.KG, 20, 4);
+    ingredientStorage.addIngredient(ingredient);
+    ingredientStorage.addIngredient(new Ingredient("testIngredient", 300, ValidUnit.G, 20, 5));
+    assertTrue(ingredientStorage.isIngredientEnough(
+        List.of(new Measurement("TestIngredient", 2300, ValidUnit.G))));
+    assertFalse(ingredientStorage.isIngredientEnough(
+        List.of(new Measurement("testIngredient", 2.31f, ValidUnit.KG))));
+    assertFalse(ingredientStorage.isIngredientEnough(
+        List.of(new Measurement("testIngredient", 1, ValidUnit.ML))));
+    assertEquals(ValidUnit.KG, ingredient.getUnit());
+    ingredientStorage.removeIngredient(ingredient);
+    assertFalse(ingredientStorage.isIngredientEnough(
+        List.of(new Measurement("testIngredient", 301, ValidUnit.G))));
+  }
+
+  @Test
+  void testRejectedMergeKeepsTotals() {
+    ingredientStorage.addIngredient(new Ingredient("Milk", 1, ValidUnit.L, 10, 4));
+    Ingredient solidMilk = new Ingredient("Milk", 1, ValidUnit.KG, 20, 4);
+    assertThrows(IllegalArgumentException.class, () -> ingredientStorage.addIngredient(solidMilk));
+    assertEquals(1000, ingredientStorage.getValueCents());
+    assertEquals(1000, ingredientStorage.getIngredientValues().get(IngredientKey.lookup("Milk")));
+    assertTrue(ingredientStorage.isIngredientEnough(
+        List.of(new Measurement("Milk", 1, ValidUnit.L))));
+    assertEquals(1, ingredientStorage.findIngredient("Milk").size());
+  }
+
+  @Test
+  void testValueCents() {
+    Ingredient ingredient = new Ingredient("testIngredient", 2, ValidUnit.KG, 20.1f, 4);
+    ingredientStorage.addIngredient(ingredient);
+    ingredientStorage.addIngredient(new Ingredient("testIngredient", 300, ValidUnit.G, 0.2f, 4));
+    ingredientStorage.addIngredient(new Ingredient("otherIngredient", 1, ValidUnit.L, 5.05f, 6));
+    assertEquals(2535, ingredientStorage.getValueCents());
+    assertEquals(2030, ingredientStorage.getIngredientValues()
+        .get(IngredientKey.lookup("testIngredient")));
+    ingredientStorage.removeIngredient(ingredient);
+    assertEquals(505, ingredientStorage.getValueCents());
+    assertNull(ingredientStorage.getIngredientValues().get(IngredientKey.lookup("testIngredient")));
+  }
+
+  @Test
+  void testKeysInternedOnlyWhenStored() {
+    assertFalse(ingredientStorage.isIngredientPresent("Queried Only"));
+    IngredientKey queried = IngredientKey.lookup("queried only");
+    assertEquals(queried, IngredientKey.lookup(" Queried Only "));
+    assertNotSame(queried, IngredientKey.lookup("queried only"));
+
+    Ingredient lot = new Ingredient("Queried Only", 1, ValidUnit.KG, 10, 4);
+    assertNotSame(queried, lot.getKey());
+    ingredientStorage.addIngredient(lot);
+    assertSame(lot.getKey(), IngredientKey.lookup("queried only"));
+    assertSame(lot.getKey(), new Measurement("QUERIED ONLY", 1, ValidUnit.KG).getKey());
+  }
+
   @Test
   void testMergeIngredient() {
     Ingredient ingredient1 = new Ingredient("testIngredient", 2, ValidUnit.KG, 20, 4);
@@ -75,4 +150,82 @@ class IngredientStorageTest {
     Ingredient ingredient = ingredientStorage.findIngredient(name, expiryDate);
     assertEquals(2.3f, ingredient.getAmount());
   }
-}
\ No newline at end of file
+
+  @Test
+  void testExpiredTotals() {
+    Ingredient ingredient = new Ingredient("testIngredient", 2, ValidUnit.KG, 20, 4);
+    ingredientStorage.addIngredient(ingredient);
+    ingredientStorage.addIngredient(new Ingredient("testIngredient", 300, ValidUnit.G, 0.5f, 4));
+    ingredientStorage.addIngredient(new Ingredient("expiredDemo"));
+    ingredientStorage.addIngredient(new Ingredient("otherIngredient", 1, ValidUnit.L, 5, 6));
+    ingredientStorage.removeIngredient(ingredient);
+    assertEquals(1, ingredientStorage.getExpiredCount());
+    long expiredCents = ingredientStorage.getAllExpired().get(0).getValueCents();
+    assertEquals(expiredCents, ingredientStorage.getExpiredValueCents());
+    LocalDate nextWeek = ClockService.today().plusDays(7);
+    assertEquals(expiredCents + 500, ingredientStorage.getValueCentsExpiringBefore(nextWeek));
+    ingredientStorage.removeExpired();
+    assertEquals(0, ingredientStorage.getExpiredCount());
+    assertEquals(500, ingredientStorage.getValueCentsExpiringBefore(nextWeek));
+  }
+
+  @Test
+  void testExpiryFollowsClock() {
+    Ingredient ingredient = new Ingredient("testIngredient", 2, ValidUnit.KG, 20, 4);
+    ingredientStorage.addIngredient(ingredient);
+    assertEquals(0, ingredientStorage.getExpiredCount());
+    ClockService.setClock(Clock.offset(Clock.systemDefaultZone(), Duration.ofDays(5)));
+    assertEquals(1, ingredientStorage.getExpiredCount());
+    assertEquals(List.of(ingredient), ingredientStorage.getAllExpired());
+    assertTrue(ingredient.toString().contains("Expired 1 days ago"));
+  }
+
+  @Test
+  void testFindIngredientsByPrefix() {
+    ingredientStorage.addIngredient(new Ingredient("Brown Sugar", 1, ValidUnit.KG, 20, 4));
+    ingredientStorage.addIngredient(new Ingredient("Butter", 1, ValidUnit.KG, 20, 4));
+    ingredientStorage.addIngredient(new Ingredient("Milk", 1, ValidUnit.L, 20, 4));
+    assertEquals(2, ingredientStorage.findIngredientsByPrefix("b").size());
+    assertEquals(List.of("Brown Sugar"), ingredientStorage.completeIngredientName("BR", 5));
+    ingredientStorage.removeIngredient(ingredientStorage.findIngredient("butter").getFirst());
+    assertEquals(1, ingredientStorage.findIngredientsByPrefix("b").size());
+    assertTrue(ingredientStorage.findIngredientsByPrefix("").isEmpty());
+  }
+
+  @Test
+  void testWriteStorage() throws IOException {
+    ingredientStorage.addIngredient(new Ingredient("Milk", 1.5f, ValidUnit.L, 20, 4));
+    ingredientStorage.addIngredient(new Ingredient("expiredDemo"));
+    StringWriter writer = new StringWriter();
+    ingredientStorage.writeStorage(writer);
+    assertEquals(ingredientStorage.getStorageString(), writer.toString());
+    LocalDate expiryDate = ClockService.today().plusDays(4);
+    assertTrue(writer.toString().startsWith("\n Test Storage\n"));
+    assertTrue(writer.toString().contains("\n  - Milk: 1.5 L - Best before: "
+        + expiryDate + " (in 4 days) Value: 20.0 kr"));
+
+    writer = new StringWriter();
+    ingredientStorage.writeExpired(writer);
+    assertEquals(1, writer.toString().split("\n").length - 1);
+    assertTrue(writer.toString().startsWith("\n  * "));
+  }
+
+  @Test
+  void testWriteStorageInChunks() throws IOException {
+    StringWriter writer = new StringWriter();
+    ingredientStorage.writeStorage(writer);
+    assertEquals("\n Test Storage\n   (Empty)", writer.toString());
+
+    int lotCount = 2 * IngredientStorage.REPORT_CHUNK_LINES + 1;
+    for (int i = 0; i < lotCount; i++) {
+      ingredientStorage.addIngredient(new Ingredient("Ingredient " + i, 1, ValidUnit.KG, 10, 4));
+    }
+    writer = new StringWriter();
+    ingredientStorage.writeStorage(writer);
+    String[] lines = writer.toString().split("\n");
+    assertEquals(lotCount, lines.length - 2);
+    for (int i = 0; i < lotCount; i++) {
+      assertTrue(writer.toString().contains("- Ingredient " + i + ": 1.0 KG"));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package edu.ntnu.idi.bidata.user.inventory;
+
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Inventory class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class InventoryTest {
+
+  @Test
+  void testSessionsShareStoragesButNotCurrentStorage() {
+    Inventory inventory = new Inventory();
+    InventoryManager first = new InventoryManager(inventory, null, null);
+    InventoryManager second = new InventoryManager(inventory, null, null);
+    first.createIngredientStorage("Fridge");
+    second.createIngredientStorage("Pantry");
+    first.setCurrentStorage("fridge");
+    second.setCurrentStorage("pantry");
+
+    first.addIngredientToCurrentStorage(new Ingredient("Milk", 1, ValidUnit.L, 20, 4));
+    assertEquals("Fridge", first.getCurrentStorage().getStorageName());
+    assertEquals("Pantry", second.getCurrentStorage().getStorageName());
+    assertNotNull(second.getStorage("Fridge").findIngredient("milk"));
+    assertEquals(2000, second.getTotalValueCents());
+  }
+
+  @Test
+  void testCurrentStorageRemovedByOtherSession() {
+    Inventory inventory = new Inventory();
+    InventoryManager first = new InventoryManager(inventory, null, null);
+    InventoryManager second = new InventoryManager(inventory, null, null);
+    first.createIngredientStorage("Fridge");
+    first.setCurrentStorage("fridge");
+    second.setCurrentStorage("fridge");
+
+    assertTrue(second.removeStorage("Fridge"));
+    Ingredient milk = new Ingredient("Milk", 1, ValidUnit.L, 20, 4);
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> first.addIngredientToCurrentStorage(milk));
+    assertTrue(e.getMessage().contains("Fridge has been removed"));
+    assertNull(first.getCurrentStorage());
+
+    second.createIngredientStorage("Fridge");
+    second.setCurrentStorage("fridge");
+    first.setCurrentStorage("fridge");
+    second.createIngredientStorage("Fridge"); // replaces the storage
+    assertNull(first.getCurrentStorage());
+    assertThrows(IllegalArgumentException.class, () -> second.findIngredientFromCurrent("milk"));
+  }
+
+  @Test
+  void testConcurrentChanges() throws Exception {
+    Inventory inventory = new Inventory();
+    int threads = 8;
+    int lotsPerThread = 500;
+    for (int i = 0; i < threads; i++) {
+      inventory.createIngredientStorage("Storage " + i);
+    }
+    inventory.createIngredientStorage("Shared");
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        IngredientStorage own = inventory.getStorage("Storage " + i);
+        IngredientStorage shared = inventory.getStorage("Shared");
+        futures.add(pool.submit(() -> {
+          for (int j = 0; j < lotsPerThread; j++) {
+            own.addIngredient(new Ingredient("Item " + j, 1, ValidUnit.KG, 1, 4));
+            shared.addIngredient(new Ingredient("Item " + (j % 10), 100, ValidUnit.G, 1, 4));
+            inventory.findSufficientStorages(List.of(new Measurement("Item 1", 1, ValidUnit.G)));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    assertEquals(2L * threads * lotsPerThread * 100, inventory.getTotalValueCents());
+    IngredientStorage shared = inventory.getStorage("Shared");
+    assertEquals(10, shared.getAllIngredients().size());
+    assertEquals(threads * lotsPerThread / 10 * 100,
+        shared.findIngredient("item 3").getFirst().getBaseAmount() / 1000);
+    assertEquals(threads + 1, inventory.findIngredientFromAll("item 3").size());
+  }
+}
@@ -0,0 +1,64 @@
+package edu.ntnu.idi.bidata.user.recipe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CookBook class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class CookBookTest {
+  private CookBook cookBook;
+  private Recipe cookieDough;
+  private Recipe sourdough;
+
+  @BeforeEach
+  void setUp() {
+    cookBook = new CookBook();
+    cookieDough = recipe("Cookie Dough");
+    sourdough = recipe("Sourdough");
+    cookBook.addRecipe(cookieDough);
+    cookBook.addRecipe(sourdough);
+    cookBook.addRecipe(recipe("Pancakes"));
+  }
+
+  @Test
+  void testFindRecipesContainingName() {
+    assertEquals(Set.of(cookieDough, sourdough),
+        Set.copyOf(cookBook.findRecipesContainingName("dough")));
+    assertEquals(List.of(sourdough), cookBook.findRecipesContainingName(" OURDO "));
+    assertEquals(List.of(), cookBook.findRecipesContainingName("waffles"));
+    assertEquals(List.of(), cookBook.findRecipesContainingName(null));
+  }
+
+  @Test
+  void testFindRecipesByPrefix() {
+    assertEquals(List.of(cookieDough), cookBook.findRecipesByPrefix("dough"));
+    assertEquals(List.of(cookieDough), cookBook.findRecipesByPrefix("cookie do"));
+    cookBook.removeRecipe(cookieDough);
+    assertEquals(List.of(), cookBook.findRecipesByPrefix("dough"));
+    assertEquals(List.of(sourdough), cookBook.findRecipesContainingName("dough"));
+  }
+
+  @Test
+  void testFindRecipePrefersWordStarts() {
+    RecipeManager recipeManager = new RecipeManager(cookBook, null, null);
+    assertEquals(List.of(cookieDough), recipeManager.findRecipe("dough"));
+    assertEquals(List.of(sourdough), recipeManager.findRecipe("ourdo"));
+    assertEquals(List.of(), recipeManager.findRecipe("waffles"));
+  }
+
+  private static Recipe recipe(String name) {
+    Recipe recipe = new Recipe(name);
+    recipe.setDescription(name + " for testing.");
+    recipe.addStep(new Step("Prepare.", List.of()));
+    return recipe;
+  }
+}
@@ -0,0 +1,100 @@
+package edu.ntnu.idi.bidata.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the ApplicationServer class, using clients on the local machine.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class ApplicationServerTest {
+  private ApplicationServer server;
+  private Thread serveThread;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = new ApplicationServer(new Application(), 0);
+    serveThread = Thread.ofVirtual().start(() -> {
+      try {
+        server.serve();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  @AfterEach
+  void stopServer() throws IOException, InterruptedException {
+    server.close();
+    serveThread.join();
+  }
+
+  @Test
+  void testSessionsShareTheInventory() throws IOException {
+    String first = runSession("add storage Pantry\ngo to pantry\nexit\n");
+    assertTrue(first.contains("You are now at Pantry"), first);
+    assertTrue(first.contains("Thank you for using the application, goodbye!"), first);
+
+    String second = runSession("go to pantry\nexit\n");
+    assertTrue(second.contains("You are now at Pantry"), second);
+  }
+
+  @Test
+  void testSessionEndsWhenInputEnds() throws IOException {
+    String output = runSession("go to fridge\n");
+    assertTrue(output.contains("You are now at Fridge"), output);
+    assertTrue(output.endsWith("Thank you for using the application, goodbye!"
+        + System.lineSeparator()), output);
+  }
+
+  @Test
+  void testManyIdleSessions() throws IOException, InterruptedException {
+    int sessionCount = 500;
+    List<Socket> clients = new ArrayList<>();
+    try {
+      for (int i = 0; i < sessionCount; i++) {
+        clients.add(new Socket(InetAddress.getLoopbackAddress(), server.getPort()));
+      }
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (server.getSessionCount() < sessionCount && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(sessionCount, server.getSessionCount());
+
+      server.close();
+      assertEquals(0, server.getSessionCount());
+      for (Socket client : clients) {
+        client.getInputStream().readAllBytes(); // returns once the server closed the session
+      }
+    } finally {
+      for (Socket client : clients) {
+        client.close();
+      }
+    }
+  }
+
+  /**
+   * Connects to the server, sends the given input, and reads the output until the session ends.
+   */
+  private String runSession(String input) throws IOException {
+    try (Socket client = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+      client.getOutputStream().write(input.getBytes(StandardCharsets.UTF_8));
+      client.shutdownOutput();
+      InputStream in = client.getInputStream();
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package edu.ntnu.idi.bidata.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BatchRunner class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class BatchRunnerTest {
+
+  @Test
+  void testRunScript() throws IOException {
+    String script = """
+        # stock adjustments
+        add storage Pantry
+        go to pantry
+
+        add ingredient Rice, 2, kg, 40, 300
+        add ingredient Rice, 1, kg, 25, 200
+        remove ingredient rice, 2
+        find ingredient rice
+        exit
+        add ingredient Flour, 1, kg, 20, 100
+        """;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BatchReport report = new BatchRunner(new Application()).run(
+        new BufferedReader(new StringReader(script)), out);
+
+    assertTrue(report.isSuccessful(), report.toString());
+    assertEquals(6, report.commands());
+    String output = out.toString(StandardCharsets.UTF_8);
+    assertFalse(output.contains("Hello"), output);
+    assertTrue(output.contains("Rice: 2.0 KG"), output);
+    assertFalse(output.contains("Rice: 1.0 KG"), output);
+    assertFalse(output.contains("Flour"), output);
+  }
+
+  @Test
+  void testFailFastWithLineNumber() throws IOException {
+    String script = """
+        add storage Fridge
+        go to fridge
+        add ingredient Milk, 1, litres, 20, 4
+        add ingredient Cream, 1, dl, 20, 4
+        """;
+    BatchReport report = new BatchRunner(new Application()).run(
+        new BufferedReader(new StringReader(script)), new ByteArrayOutputStream());
+
+    assertFalse(report.isSuccessful());
+    assertEquals(2, report.commands());
+    assertTrue(report.failure().startsWith("line 3: Unknown unit 'litres'."), report.failure());
+  }
+
+  @Test
+  void testCommandPromptingForInputFails() throws IOException {
+    String script = "add storage Fridge\ngo to fridge\nadd ingredient Milk\n";
+    BatchReport report = new BatchRunner(new Application()).run(
+        new BufferedReader(new StringReader(script)), new ByteArrayOutputStream());
+
+    assertFalse(report.isSuccessful());
+    assertTrue(report.failure().startsWith("line 3: "), report.failure());
+  }
+
+  @Test
+  void testNameWithCommaIsNotArgumentList() throws IOException {
+    String script = "add storage Fridge\ngo to fridge\nadd ingredient Salt, coarse\n";
+    BatchReport report = new BatchRunner(new Application()).run(
+        new BufferedReader(new StringReader(script)), new ByteArrayOutputStream());
+
+    assertFalse(report.isSuccessful());
+    assertTrue(report.failure().contains("cannot prompt"), report.failure());
+  }
+}
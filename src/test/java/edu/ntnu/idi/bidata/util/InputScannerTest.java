@@ -8,6 +8,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,6 +38,26 @@ class InputScannerTest {
     assertThrows(AbortException.class, inputScanner::nextLine);
   }
 
+  @Test
+  void testLockReleasedWhileWaiting() {
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    AtomicInteger holdsWhileReading = new AtomicInteger(-1);
+    InputStream input = new ByteArrayInputStream("answer\n".getBytes()) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        holdsWhileReading.set(lock.getReadHoldCount());
+        return super.read(b, off, len);
+      }
+    };
+    InputScanner inputScanner = new InputScanner(new Scanner(input));
+    lock.readLock().lock();
+    inputScanner.setReleasedWhileWaiting(lock.readLock());
+    assertEquals("answer", inputScanner.nextLine());
+    assertEquals(0, holdsWhileReading.get());
+    assertEquals(1, lock.getReadHoldCount());
+    lock.readLock().unlock();
+  }
+
   @Test
   void testNextLine() {
     System.setIn(new ByteArrayInputStream("lISt   testSuBcOmmand    test   uSEr iNput stRing   ".getBytes()));
@@ -0,0 +1,61 @@
+package edu.ntnu.idi.bidata.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the OutputHandler class, printing to memory.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class OutputHandlerTest {
+  private static final String NL = System.lineSeparator();
+
+  private MemorySink sink;
+  private OutputHandler outputHandler;
+
+  @BeforeEach
+  void setUp() {
+    sink = new MemorySink();
+    outputHandler = new OutputHandler(sink);
+  }
+
+  @Test
+  void testPrintListStyles() {
+    List<String> items = List.of("Milk", "Eggs");
+    outputHandler.printList(items, ListStyle.BULLET);
+    outputHandler.printList(items, ListStyle.NUMBERED);
+    outputHandler.printList(items, ListStyle.SUFFIX);
+
+    assertEquals(" * Milk" + NL + " * Eggs" + NL
+        + " #1: Milk" + NL + " #2: Eggs" + NL
+        + " 1st: Milk" + NL + " 2nd: Eggs" + NL, sink.getText());
+  }
+
+  @Test
+  void testPrintListInvalidArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> outputHandler.printList(List.of(), ListStyle.BULLET));
+    assertThrows(IllegalArgumentException.class,
+        () -> outputHandler.printList(List.of("Milk"), null));
+  }
+
+  @Test
+  void testPrintReportAndClearScreen() {
+    outputHandler.printReportWithLineBreak(out -> out.append("Report"));
+    outputHandler.clearScreen();
+
+    assertEquals("Report" + NL + "########################" + NL + NL.repeat(40),
+        sink.getText());
+  }
+
+  @Test
+  void testConstructorRejectsNullSink() {
+    assertThrows(IllegalArgumentException.class, () -> new OutputHandler(null));
+  }
+}
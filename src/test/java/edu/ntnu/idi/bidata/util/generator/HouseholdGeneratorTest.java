@@ -0,0 +1,114 @@
+package edu.ntnu.idi.bidata.util.generator;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import edu.ntnu.idi.bidata.user.recipe.CookBook;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.util.InputScanner;
+import edu.ntnu.idi.bidata.util.MemorySink;
+import edu.ntnu.idi.bidata.util.OutputHandler;
+import edu.ntnu.idi.bidata.util.persistence.Journal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the HouseholdGenerator class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class HouseholdGeneratorTest {
+  private static final HouseholdProfile PROFILE =
+      HouseholdProfile.of(42, 3, HouseholdGenerator.LOTS_PER_BLOCK + 100, 5000);
+
+  @Test
+  void testSameSeedGeneratesSameData() {
+    User first = generate(PROFILE);
+    User second = generate(PROFILE);
+
+    for (int i = 0; i < PROFILE.storages(); i++) {
+      String storageName = HouseholdGenerator.getStorageName(i);
+      assertEquals(first.getInventoryManager().getStorage(storageName).getAllIngredients(),
+          second.getInventoryManager().getStorage(storageName).getAllIngredients());
+    }
+    assertEquals(first.getRecipeManager().getAllRecipe(),
+        second.getRecipeManager().getAllRecipe());
+  }
+
+  @Test
+  void testGeneratesProfileSize() {
+    User user = generate(PROFILE);
+    InventoryManager inventoryManager = user.getInventoryManager();
+
+    assertEquals(Set.of("Fridge", "Freezer", "Pantry"),
+        Set.copyOf(inventoryManager.getStorageOverview()));
+    long lots = 0;
+    for (int i = 0; i < PROFILE.storages(); i++) {
+      IngredientStorage storage = inventoryManager.getStorage(HouseholdGenerator.getStorageName(i));
+      lots += storage.getAllIngredients().size();
+      assertTrue(storage.getExpiredCount() > 0);
+    }
+    // lots of the same ingredient and expiry date are merged, but most are kept apart
+    long generated = 3L * PROFILE.lotsPerStorage();
+    assertTrue(lots <= generated && lots > generated / 2, lots + " of " + generated);
+
+    List<Recipe> recipes = user.getRecipeManager().getAllRecipe();
+    assertEquals(PROFILE.recipes(), recipes.size());
+    for (Recipe recipe : recipes.subList(0, 100)) {
+      assertEquals(PROFILE.ingredientsPerRecipe(), recipe.getAllMeasurement().size());
+    }
+  }
+
+  @Test
+  void testGeneratedSnapshotIsRestored(@TempDir Path directory) throws IOException {
+    HouseholdProfile profile = HouseholdProfile.of(7, 2, 500, 200);
+    GenerationReport report = new HouseholdGenerator(profile).generateSnapshot(directory);
+    assertEquals(1000, report.lots());
+    assertEquals(200, report.recipes());
+
+    User restored = newUser();
+    try (Journal journal = Journal.open(directory, restored, 1000)) {
+      assertTrue(journal.hasRecoveredData());
+    }
+    User generated = generate(profile);
+    assertEquals(generated.getInventoryManager().getStorage("Freezer").getAllIngredients(),
+        restored.getInventoryManager().getStorage("Freezer").getAllIngredients());
+    assertEquals(generated.getRecipeManager().getAllRecipe(),
+        restored.getRecipeManager().getAllRecipe());
+
+    HouseholdGenerator generator = new HouseholdGenerator(profile);
+    assertThrows(IllegalArgumentException.class, () -> generator.generateSnapshot(directory));
+  }
+
+  @Test
+  void testInvalidProfile() {
+    assertThrows(IllegalArgumentException.class, () -> HouseholdProfile.of(1, 0, 10, 10));
+    assertThrows(IllegalArgumentException.class, () -> HouseholdProfile.of(1, 1, -1, 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HouseholdProfile(1, 1, 10, 10, 21, 0.5));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HouseholdProfile(1, 1, 10, 10, 8, 1.5));
+  }
+
+  private static User generate(HouseholdProfile profile) {
+    User user = newUser();
+    new HouseholdGenerator(profile).generateInto(user.getInventoryManager(),
+        user.getRecipeManager().getCookBook());
+    return user;
+  }
+
+  private static User newUser() {
+    OutputHandler outputHandler = new OutputHandler(new MemorySink());
+    return new User(InputScanner.nonInteractive(outputHandler), outputHandler, new Inventory(),
+        new CookBook());
+  }
+}
@@ -0,0 +1,98 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.InventoryManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the IngredientImporter class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class IngredientImporterTest {
+  private InventoryManager inventoryManager;
+  private IngredientImporter importer;
+
+  @BeforeEach
+  void setUp() {
+    inventoryManager = new User().getInventoryManager();
+    inventoryManager.createIngredientStorage("Fridge");
+    importer = new IngredientImporter(inventoryManager);
+  }
+
+  @Test
+  void testImportCsv(@TempDir Path directory) throws IOException {
+    Path manifest = directory.resolve("delivery.csv");
+    Files.writeString(manifest, """
+        storage,name,amount,unit,value,days
+        # morning delivery
+        Fridge,Milk,1,l,20,4
+        fridge, milk ,500,ml,10,4
+
+        Fridge,Butter,250,g,30,6
+        Pantry,Rice,1,kg,25,100
+        Fridge,Egg,six,pcs,25,2
+        Fridge,Cream,1,dl
+        """);
+    ImportReport report = importer.importFile(manifest);
+
+    assertEquals(6, report.read());
+    assertEquals(3, report.imported());
+    assertEquals(3, report.rejected());
+    assertEquals(3, report.rejections().size());
+    assertTrue(report.rejections().getFirst().startsWith("Line 7:"));
+    IngredientStorage fridge = inventoryManager.getStorage("Fridge");
+    List<Ingredient> milk = fridge.findIngredient("milk");
+    assertEquals(1, milk.size());
+    assertEquals(1.5f, milk.getFirst().getAmount());
+    assertEquals(30, milk.getFirst().getValue());
+    assertEquals(1, fridge.findIngredient("butter").size());
+  }
+
+  @Test
+  void testRowOfOtherUnitKindIsRejected() throws IOException {
+    String manifest = """
+        Fridge,Milk,1,l,20,4
+        Fridge,Milk,1,kg,30,4
+        """;
+    ImportReport report = importer.importFrom(new BufferedReader(new StringReader(manifest)), false);
+
+    assertEquals(1, report.imported());
+    assertEquals(1, report.rejected());
+    assertTrue(report.rejections().getFirst().startsWith("Line 2:"));
+    Ingredient milk = inventoryManager.getStorage("Fridge").findIngredient("milk").getFirst();
+    assertEquals(20, milk.getValue());
+    assertEquals(1, milk.getAmount());
+  }
+
+  @Test
+  void testImportJsonLines() throws IOException {
+    String manifest = """
+        {"storage": "Fridge", "name": "Cr\\u00e8me fra\\u00eeche", "amount": 2, "unit": "dl", "value": 18, "days": 5}
+        {"storage":"Fridge","name":"Milk","amount":1,"unit":"l","value":20,"days":4}
+        {"storage": "Fridge", "name": "Milk", "amount": 1}
+        {"storage": "Fridge", "name": "Milk"
+        """;
+    ImportReport report = importer.importFrom(new BufferedReader(new StringReader(manifest)), true);
+
+    assertEquals(4, report.read());
+    assertEquals(2, report.imported());
+    assertEquals(2, report.rejected());
+    IngredientStorage fridge = inventoryManager.getStorage("Fridge");
+    assertEquals("Crème fraîche", fridge.findIngredient("crème fraîche").getFirst().getName());
+  }
+}
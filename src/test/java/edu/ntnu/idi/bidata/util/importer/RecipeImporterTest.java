@@ -0,0 +1,84 @@
+package edu.ntnu.idi.bidata.util.importer;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.RecipeManager;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RecipeImporter class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class RecipeImporterTest {
+
+  @Test
+  void testImportRecipes() throws IOException {
+    String input = """
+        # breakfast
+        recipe: Pancakes
+        description: Thin pancakes for four.
+        step: Whisk the eggs into the milk.
+        - Flour, 300, g
+        - Milk, 5, dl
+        step: Fry on medium heat.
+
+        recipe: Toast
+        step: Toast the bread.
+        recipe: Omelette
+        description: Quick.
+        step: Beat the eggs.
+        - Egg, three, g
+        recipe: Pancakes
+        description: Thin pancakes for four.
+        step: Whisk the eggs into the milk.
+        - Flour, 300, g
+        - Milk, 5, dl
+        step: Fry on medium heat.
+        """;
+    RecipeManager recipeManager = new User().getRecipeManager();
+    ImportReport report = new RecipeImporter(recipeManager, 2)
+        .importFrom(new BufferedReader(new StringReader(input)));
+
+    assertEquals(4, report.read());
+    assertEquals(1, report.imported());
+    assertEquals(3, report.rejected());
+    assertEquals(List.of("Line 9: Recipe 'Toast' has no description.",
+        "Line 14: Invalid amount 'three'.",
+        "Line 15: Duplicate recipe 'Pancakes'."), report.rejections());
+    Recipe pancakes = recipeManager.findRecipe("pancakes").getFirst();
+    assertEquals(2, pancakes.getSteps().size());
+    assertEquals(List.of(new Measurement("Flour", 300, ValidUnit.G),
+        new Measurement("Milk", 5, ValidUnit.DL)), pancakes.getSteps().getFirst().getMeasurements());
+    assertNull(pancakes.getSteps().get(1).getMeasurements());
+  }
+
+  @Test
+  void testImportSpansSeveralChunks() throws IOException {
+    StringBuilder input = new StringBuilder();
+    int recipeCount = 2 * RecipeImporter.CHUNK_LINES / 3;
+    for (int i = 0; i < recipeCount; i++) {
+      input.append("recipe: Soup ").append(i).append('\n')
+          .append("description: Number ").append(i).append(".\n")
+          .append("step: Boil.\n")
+          .append("- Water, ").append(i % 10 + 1).append(", dl\n");
+    }
+    RecipeManager recipeManager = new User().getRecipeManager();
+    ImportReport report = new RecipeImporter(recipeManager, 3)
+        .importFrom(new BufferedReader(new StringReader(input.toString())));
+
+    assertEquals(recipeCount, report.read());
+    assertEquals(recipeCount, report.imported());
+    assertEquals(recipeCount, recipeManager.getAllRecipe().size());
+  }
+}
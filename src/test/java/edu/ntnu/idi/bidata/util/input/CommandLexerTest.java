@@ -0,0 +1,70 @@
+package edu.ntnu.idi.bidata.util.input;
+
+import edu.ntnu.idi.bidata.util.command.ValidCommand;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the CommandLexer class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class CommandLexerTest {
+  private final CommandLexer lexer = new CommandLexer();
+
+  @Test
+  void testLexCommand() {
+    CommandInput input = lexer.lexCommand("  gO   To    Cold   Room  ");
+    assertEquals(ValidCommand.GO, input.getCommand());
+    assertSame("to", input.getSubcommand());
+    assertEquals("Cold   Room", input.getArgument());
+
+    CommandInput unknown = lexer.lexCommand("lst SomeThing");
+    assertEquals(ValidCommand.UNKNOWN, unknown.getCommand());
+    assertEquals("something", unknown.getSubcommand());
+    assertNull(unknown.getArgument());
+
+    CommandInput single = lexer.lexCommand("EXIT");
+    assertEquals(ValidCommand.EXIT, single.getCommand());
+    assertNull(single.getSubcommand());
+  }
+
+  @Test
+  void testLexQuotedArgument() {
+    CommandInput input = lexer.lexCommand("find recipe \"Pancakes, \\\"thin\\\" \\\\ crisp\"");
+    assertEquals("Pancakes, \"thin\" \\ crisp", input.getArgument());
+    assertThrows(IllegalArgumentException.class, () -> lexer.lexCommand("find recipe \"Pancakes"));
+    assertThrows(IllegalArgumentException.class,
+        () -> lexer.lexCommand("find recipe \"Pancakes\" thin"));
+  }
+
+  @Test
+  void testLexUnit() {
+    UnitInput separated = lexer.lexUnit("123.45 kg");
+    assertEquals(123.45f, separated.getAmount());
+    assertEquals(ValidUnit.KG, separated.getUnit());
+
+    UnitInput joined = lexer.lexUnit("2DL");
+    assertEquals(2f, joined.getAmount());
+    assertEquals(ValidUnit.DL, joined.getUnit());
+
+    assertEquals(ValidUnit.UNKNOWN, lexer.lexUnit("3 cups").getUnit());
+    assertThrows(IllegalArgumentException.class, () -> lexer.lexUnit("k"));
+    assertThrows(IllegalArgumentException.class, () -> lexer.lexUnit("123"));
+    assertThrows(IllegalArgumentException.class, () -> lexer.lexUnit("1.2.3 kg"));
+  }
+
+  @Test
+  void testAmountsMatchParseFloat() {
+    Random random = new Random(18);
+    for (int i = 0; i < 100_000; i++) {
+      String amount = random.nextInt(100_000) + "." + random.nextInt(1_000_000_000);
+      assertEquals(Float.parseFloat(amount), lexer.lexUnit(amount + " g").getAmount(), amount);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Inventory;
+import edu.ntnu.idi.bidata.util.Application;
+import edu.ntnu.idi.bidata.util.BatchReport;
+import edu.ntnu.idi.bidata.util.BatchRunner;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the flight recorder events, recording a batch of commands
+ * and the inventory operations they cover.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class FlightRecorderEventsTest {
+
+  @Test
+  void testCommandsEmitEvents(@TempDir Path directory) throws IOException {
+    String script = """
+        add storage Fridge
+        go to fridge
+        add ingredient Milk, 1, l, 20, 4
+        list storage
+        list available
+        """;
+    Path file = directory.resolve("commands.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(CommandExecutedEvent.class);
+      recording.enable(StorageScanEvent.class);
+      recording.enable(AvailabilityEvaluationEvent.class);
+      recording.enable(ExpiryPurgeEvent.class);
+      recording.start();
+      BatchReport report = new BatchRunner(new Application()).run(
+          new BufferedReader(new StringReader(script)), new ByteArrayOutputStream());
+      assertTrue(report.isSuccessful(), report.toString());
+      IngredientStorage pantry = new IngredientStorage("Pantry");
+      pantry.addIngredient(new Ingredient("expiredDemo"));
+      pantry.removeExpired();
+      Inventory inventory = new Inventory();
+      inventory.createIngredientStorage("Pantry");
+      inventory.findSufficientStorages(List.of());
+      recording.stop();
+      recording.dump(file);
+    }
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    List<RecordedEvent> commands = ofType(events, "edu.ntnu.idi.bidata.CommandExecuted");
+    assertEquals(List.of("ADD", "GO", "ADD", "LIST", "LIST"),
+        commands.stream().map(event -> event.getString("command")).toList());
+    RecordedEvent listStorage = commands.get(3);
+    assertEquals("storage", listStorage.getString("subcommand"));
+    assertTrue(listStorage.getLong("outputCharacters") > 0);
+    assertTrue(listStorage.getInt("storages") > 0);
+
+    RecordedEvent scan = ofType(events, "edu.ntnu.idi.bidata.StorageScan").get(0);
+    assertEquals("Fridge", scan.getString("storage"));
+    assertEquals("write lots", scan.getString("scan"));
+    assertTrue(scan.getInt("lots") > 0);
+
+    RecordedEvent evaluation = ofType(events, "edu.ntnu.idi.bidata.AvailabilityEvaluation").get(0);
+    assertEquals(1, evaluation.getInt("storages"));
+    assertEquals(1, evaluation.getInt("sufficient"));
+    RecordedEvent purge = ofType(events, "edu.ntnu.idi.bidata.ExpiryPurge").get(0);
+    assertEquals("Pantry", purge.getString("storage"));
+    assertTrue(purge.getInt("removed") > 0);
+    assertTrue(purge.getLong("valueCents") > 0);
+  }
+
+  private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(event -> event.getEventType().getName().equals(name))
+        .toList();
+  }
+}
@@ -0,0 +1,48 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LatencyHistogram class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class LatencyHistogramTest {
+
+  @Test
+  void testBucketsCoverEveryDuration() {
+    assertEquals(0, LatencyHistogram.bucketOf(0));
+    assertEquals(15, LatencyHistogram.bucketOf(15));
+    assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.BUCKETS - 1));
+
+    long[] durations = {1, 16, 31, 32, 33, 1_000, 999_999, 1L << 40, (1L << 40) - 1};
+    for (long duration : durations) {
+      int bucket = LatencyHistogram.bucketOf(duration);
+      long highest = LatencyHistogram.highestValueOf(bucket);
+      assertTrue(duration <= highest, duration + " above " + highest);
+      assertTrue(highest - duration <= duration / 16, duration + " far from " + highest);
+      assertEquals(bucket + 1, LatencyHistogram.bucketOf(highest + 1));
+    }
+  }
+
+  @Test
+  void testSummarize() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(new LatencySummary(0, 0, 0, 0), histogram.summarize());
+
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1_000L);
+    }
+    histogram.record(-5);
+    LatencySummary summary = histogram.summarize();
+
+    assertEquals(1001, summary.count());
+    assertEquals(1_000_000, summary.maxNanos());
+    assertEquals(500_000, summary.p50Nanos(), 500_000 / 16.0);
+    assertEquals(990_000, summary.p99Nanos(), 990_000 / 16.0);
+  }
+}
@@ -0,0 +1,54 @@
+package edu.ntnu.idi.bidata.util.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the MetricsRegistry class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class MetricsRegistryTest {
+
+  @Test
+  void testCountersAndHistogramsByName() {
+    MetricsRegistry registry = new MetricsRegistry();
+    assertSame(registry.counter("lookups"), registry.counter("lookups"));
+    assertSame(registry.histogram("stats"), registry.histogram("stats"));
+
+    registry.counter("lookups").add(3);
+    registry.histogram("stats").record(100);
+
+    assertEquals(Map.of("lookups", 3L), registry.getCounters());
+    assertEquals(Map.of("stats", new LatencySummary(1, 100, 100, 100)),
+        registry.getLatencies());
+  }
+
+  @Test
+  void testDefaultRegistryIsReadOverJmx() throws JMException {
+    MetricsRegistry registry = MetricsRegistry.getDefault();
+    registry.histogram("jmx test").record(2_000);
+    registry.counter("jmx test").increment();
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+    TabularData latencies = (TabularData) server.getAttribute(name, "Latencies");
+    CompositeData row = latencies.get(new Object[] {"jmx test"});
+    CompositeData summary = (CompositeData) row.get("value");
+    assertTrue((Long) summary.get("count") >= 1);
+    assertEquals(2_000L, summary.get("maxNanos"));
+
+    TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+    assertTrue((Long) counters.get(new Object[] {"jmx test"}).get("value") >= 1);
+  }
+}
@@ -0,0 +1,129 @@
+package edu.ntnu.idi.bidata.util.persistence;
+
+import edu.ntnu.idi.bidata.user.User;
+import edu.ntnu.idi.bidata.user.inventory.Ingredient;
+import edu.ntnu.idi.bidata.user.inventory.IngredientStorage;
+import edu.ntnu.idi.bidata.user.inventory.Measurement;
+import edu.ntnu.idi.bidata.user.recipe.Recipe;
+import edu.ntnu.idi.bidata.user.recipe.Step;
+import edu.ntnu.idi.bidata.util.unit.ValidUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Journal class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class JournalTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void testRecoverFromSnapshotAndLog() throws IOException {
+    User user = new User();
+    Journal journal = Journal.open(directory, user, 3);
+    assertFalse(journal.hasRecoveredData());
+    user.getInventoryManager().createIngredientStorage("Fridge");
+    IngredientStorage fridge = user.getInventoryManager().getStorage("fridge");
+    fridge.addIngredient(new Ingredient("Milk", 1, ValidUnit.L, 20, 4));
+    fridge.addIngredient(new Ingredient("milk", 300, ValidUnit.ML, 5.5f, 4));
+    journal.commit(); // three changes, so a snapshot is written
+    assertTrue(Files.exists(directory.resolve("snapshot.bin")));
+    assertEquals(0, Files.size(directory.resolve("journal.log")));
+
+    Ingredient butter = new Ingredient("Butter", 250, ValidUnit.G, 30, 6);
+    fridge.addIngredient(butter);
+    fridge.removeIngredient(butter);
+    fridge.addIngredient(new Ingredient("Egg", 0.5f, ValidUnit.KG, 25, 2));
+    Recipe recipe = new Recipe("Pancakes");
+    recipe.setDescription("Fluffy.");
+    recipe.addStep(new Step("Mix.", List.of(new Measurement("Milk", 3, ValidUnit.DL))));
+    user.getRecipeManager().addRecipe(recipe);
+    user.addWastedValue(12.5f);
+    journal.close();
+
+    User restoredUser = new User();
+    Journal restoredJournal = Journal.open(directory, restoredUser, 1000);
+    assertTrue(restoredJournal.hasRecoveredData());
+    IngredientStorage restoredFridge = restoredUser.getInventoryManager().getStorage("Fridge");
+    assertEquals("Fridge", restoredFridge.getStorageName());
+    assertEquals(fridge.getValueCents(), restoredFridge.getValueCents());
+    assertEquals(1.3f, restoredFridge.findIngredient("milk").getFirst().getAmount());
+    assertNull(restoredFridge.findIngredient("butter"));
+    assertEquals(List.of(recipe), restoredUser.getRecipeManager().getAllRecipe());
+    assertEquals(12.5f, restoredUser.getWastedValue());
+    restoredJournal.close();
+  }
+
+  @Test
+  void testRejectedMergeIsNotRecorded() throws IOException {
+    User user = new User();
+    Journal journal = Journal.open(directory, user, 1000);
+    user.getInventoryManager().createIngredientStorage("Fridge");
+    IngredientStorage fridge = user.getInventoryManager().getStorage("Fridge");
+    fridge.addIngredient(new Ingredient("Milk", 1, ValidUnit.L, 20, 4));
+    Ingredient solidMilk = new Ingredient("Milk", 1, ValidUnit.KG, 30, 4);
+    assertThrows(IllegalArgumentException.class, () -> fridge.addIngredient(solidMilk));
+    journal.commit();
+    journal.close();
+
+    User restoredUser = new User();
+    Journal restoredJournal = Journal.open(directory, restoredUser, 1000);
+    IngredientStorage restoredFridge = restoredUser.getInventoryManager().getStorage("Fridge");
+    assertEquals(2000, restoredFridge.getValueCents());
+    assertEquals(ValidUnit.L, restoredFridge.findIngredient("Milk").getFirst().getUnit());
+    restoredJournal.close();
+  }
+
+  @Test
+  void testTornRecordIsDiscarded() throws IOException {
+    User user = new User();
+    Journal journal = Journal.open(directory, user, 1000);
+    user.getInventoryManager().createIngredientStorage("Fridge");
+    journal.commit();
+    user.getInventoryManager().createIngredientStorage("Pantry");
+    journal.close();
+
+    Path log = directory.resolve("journal.log");
+    long size = Files.size(log);
+    try (var channel = Files.newByteChannel(log, StandardOpenOption.WRITE)) {
+      channel.truncate(size - 3); // simulate a crash while writing the last record
+    }
+
+    User restoredUser = new User();
+    Journal restoredJournal = Journal.open(directory, restoredUser, 1000);
+    assertNotNull(restoredUser.getInventoryManager().getStorage("Fridge"));
+    assertNull(restoredUser.getInventoryManager().getStorage("Pantry"));
+    restoredUser.getInventoryManager().createIngredientStorage("Cellar");
+    restoredJournal.close();
+
+    User finalUser = new User();
+    Journal.open(directory, finalUser, 1000).close();
+    assertNotNull(finalUser.getInventoryManager().getStorage("Cellar"));
+  }
+
+  @Test
+  void testCorruptedSnapshotIsRejected() throws IOException {
+    User user = new User();
+    Journal journal = Journal.open(directory, user, 1);
+    user.getInventoryManager().createIngredientStorage("Fridge");
+    journal.commit();
+    journal.close();
+
+    Path snapshot = directory.resolve("snapshot.bin");
+    byte[] bytes = Files.readAllBytes(snapshot);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(snapshot, bytes);
+    assertThrows(IllegalArgumentException.class, () -> Journal.open(directory, new User(), 1));
+  }
+}
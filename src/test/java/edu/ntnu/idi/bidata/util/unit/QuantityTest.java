@@ -0,0 +1,62 @@
+package edu.ntnu.idi.bidata.util.unit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the Quantity class.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class QuantityTest {
+
+  @Test
+  void testRepeatedAddIsExact() {
+    Quantity total = new Quantity(0, ValidUnit.KG);
+    Quantity delivery = new Quantity(3.3f, ValidUnit.G);
+    for (int i = 0; i < 10_000; i++) {
+      total.add(delivery);
+    }
+    assertEquals(33_000_000L, total.getBaseAmount());
+    assertEquals(33.0f, total.getAmount());
+  }
+
+  @Test
+  void testConvertKeepsExactAmount() {
+    Quantity quantity = new Quantity(12345.6f, ValidUnit.G);
+    quantity.convertTo(ValidUnit.KG);
+    assertEquals(12.35f, quantity.getAmount());
+    quantity.convertTo(ValidUnit.G);
+    assertEquals(12345.6f, quantity.getAmount());
+    assertThrows(IllegalArgumentException.class, () -> quantity.convertTo(ValidUnit.L));
+  }
+
+  @Test
+  void testCompare() {
+    Quantity liter = new Quantity(1, ValidUnit.L);
+    assertTrue(liter.isAtLeast(new Quantity(10, ValidUnit.DL)));
+    assertFalse(liter.isAtLeast(new Quantity(1000.01f, ValidUnit.ML)));
+    assertThrows(IllegalArgumentException.class, () -> liter.isAtLeast(new Quantity(1, ValidUnit.G)));
+  }
+
+  @Test
+  void testSetUnitKeepsDisplayedAmount() {
+    Quantity quantity = new Quantity(2, ValidUnit.KG);
+    quantity.setUnit(ValidUnit.G);
+    assertEquals(2.0f, quantity.getAmount());
+    assertEquals(2_000L, quantity.getBaseAmount());
+  }
+
+  @Test
+  void testNegative() {
+    assertThrows(IllegalArgumentException.class, () -> new Quantity(-1, ValidUnit.KG));
+    Quantity quantity = new Quantity(1, ValidUnit.G);
+    assertThrows(IllegalArgumentException.class,
+        () -> quantity.subtract(new Quantity(2, ValidUnit.G)));
+  }
+}
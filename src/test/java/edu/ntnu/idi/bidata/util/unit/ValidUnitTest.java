@@ -0,0 +1,34 @@
+package edu.ntnu.idi.bidata.util.unit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the ValidUnit enum.
+ *
+ * @author Nick Heggø
+ * @version 2026-10-16
+ */
+class ValidUnitTest {
+
+  @Test
+  void testCodesAreFixed() {
+    assertEquals(0, ValidUnit.KG.getCode());
+    assertEquals(1, ValidUnit.G.getCode());
+    assertEquals(2, ValidUnit.L.getCode());
+    assertEquals(3, ValidUnit.DL.getCode());
+    assertEquals(4, ValidUnit.ML.getCode());
+    assertEquals(5, ValidUnit.UNKNOWN.getCode());
+    for (ValidUnit unit : ValidUnit.values()) {
+      assertEquals(unit, ValidUnit.fromCode(unit.getCode()));
+    }
+  }
+
+  @Test
+  void testUnknownCodeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> ValidUnit.fromCode(6));
+    assertThrows(IllegalArgumentException.class, () -> ValidUnit.fromCode(-1));
+  }
+}